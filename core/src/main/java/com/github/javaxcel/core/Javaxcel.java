@@ -16,6 +16,9 @@
 
 package com.github.javaxcel.core;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.apache.poi.ss.usermodel.Workbook;
@@ -25,17 +28,24 @@ import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegis
 import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
 import com.github.javaxcel.core.converter.handler.registry.impl.ExcelTypeHandlerRegistryImpl;
 import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.core.impl.DelimitedTextReader;
 import com.github.javaxcel.core.in.core.impl.MapReader;
 import com.github.javaxcel.core.in.core.impl.ModelReader;
 import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.DelimitedTextWriter;
 import com.github.javaxcel.core.out.core.impl.MapWriter;
 import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.core.impl.XlsxModelWriter;
+import com.github.javaxcel.core.util.ExcelUtils;
 
 /**
  * Factory for creating the appropriate implementation of {@link ExcelWriter} and {@link ExcelReader}.
  *
  * @see ModelWriter
  * @see MapWriter
+ * @see XlsxModelWriter
+ * @see DelimitedTextWriter
+ * @see DelimitedTextReader
  * @see ModelReader
  * @see MapReader
  */
@@ -79,7 +89,44 @@ public final class Javaxcel {
      * @return implementation that can handle {@link Map} when you write
      */
     public ExcelWriter<Map<String, Object>> writer(Workbook workbook) {
-        return new MapWriter(workbook);
+        return new MapWriter(workbook, this.registry);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelWriter}
+     * that writes Excel 2007 file without the object model of POI.
+     *
+     * @param type type of model
+     * @param <T>  type
+     * @return implementation that can handle the given type when you write
+     * @since 0.10.0
+     */
+    public <T> ExcelWriter<T> xlsxWriter(Class<T> type) {
+        return new XlsxModelWriter<>(type, this.registry);
+    }
+
+    /**
+     * Returns a new instance of writer for delimited text like CSV and TSV.
+     *
+     * @param type      type of model
+     * @param delimiter delimiter of fields, such as {@link DelimitedTextWriter#COMMA}
+     * @param <T>       type
+     * @return writer that can handle the given type when you write
+     * @since 0.10.0
+     */
+    public <T> DelimitedTextWriter<T> delimitedWriter(Class<T> type, char delimiter) {
+        return DelimitedTextWriter.forModel(type, this.registry, delimiter);
+    }
+
+    /**
+     * Returns a new instance of writer for delimited text like CSV and TSV.
+     *
+     * @param delimiter delimiter of fields, such as {@link DelimitedTextWriter#COMMA}
+     * @return writer that can handle {@link Map} when you write
+     * @since 0.10.0
+     */
+    public DelimitedTextWriter<Map<String, Object>> delimitedWriter(char delimiter) {
+        return DelimitedTextWriter.forMap(delimiter);
     }
 
     /**
@@ -101,7 +148,112 @@ public final class Javaxcel {
      * @return implementation that can handle {@link Map} when you read
      */
     public ExcelReader<Map<String, String>> reader(Workbook workbook) {
-        return new MapReader(workbook);
+        return new MapReader(workbook, this.registry);
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelReader}.
+     *
+     * <p> The file is opened only for reading, so it is never modified. Excel 97 file is mapped
+     * into memory instead of being copied into heap, but Excel 2007 file is parsed into heap
+     * as {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} does.
+     *
+     * <p> The returned reader owns the workbook; close it after reading.
+     *
+     * <pre>{@code
+     *     try (ModelReader<Product> reader = Javaxcel.newInstance().reader(path, Product.class)) {
+     *         reader.readViews(view -> ...);
+     *     }
+     * }</pre>
+     *
+     * @param filePath path of Excel file
+     * @param type     type of model
+     * @param <T>      type
+     * @return implementation that can handle the given type when you read
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
+     * @see ExcelUtils#getWorkbook(java.io.File, boolean)
+     * @see ModelReader#close()
+     * @since 0.10.0
+     */
+    public <T> ModelReader<T> reader(Path filePath, Class<T> type) {
+        Workbook workbook = ExcelUtils.getWorkbook(filePath.toFile(), true);
+
+        try {
+            return new ModelReader<>(workbook, type, this.registry);
+        } catch (RuntimeException e) {
+            closeOnFailure(workbook, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new instance of implementation of {@link ExcelReader}.
+     *
+     * <p> The file is opened only for reading, so it is never modified. Excel 97 file is mapped
+     * into memory instead of being copied into heap, but Excel 2007 file is parsed into heap
+     * as {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} does.
+     *
+     * <p> The returned reader owns the workbook; close it after reading.
+     *
+     * @param filePath path of Excel file
+     * @return implementation that can handle {@link Map} when you read
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
+     * @see ExcelUtils#getWorkbook(java.io.File, boolean)
+     * @see MapReader#close()
+     * @since 0.10.0
+     */
+    public MapReader reader(Path filePath) {
+        Workbook workbook = ExcelUtils.getWorkbook(filePath.toFile(), true);
+
+        try {
+            return new MapReader(workbook, this.registry);
+        } catch (RuntimeException e) {
+            closeOnFailure(workbook, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new instance of reader for delimited text like CSV and TSV.
+     *
+     * @param reader    source of text; it is not closed by the returned reader
+     * @param type      type of model
+     * @param delimiter delimiter of fields, such as {@link DelimitedTextReader#COMMA}
+     * @param <T>       type
+     * @return reader that can handle the given type when you read
+     * @since 0.10.0
+     */
+    public <T> DelimitedTextReader<T> delimitedReader(Reader reader, Class<T> type, char delimiter) {
+        return DelimitedTextReader.forModel(reader, type, this.registry, delimiter);
+    }
+
+    /**
+     * Returns a new instance of reader for delimited text like CSV and TSV.
+     *
+     * @param reader    source of text; it is not closed by the returned reader
+     * @param delimiter delimiter of fields, such as {@link DelimitedTextReader#COMMA}
+     * @return reader that can handle {@link Map} when you read
+     * @since 0.10.0
+     */
+    public DelimitedTextReader<Map<String, String>> delimitedReader(Reader reader, char delimiter) {
+        return DelimitedTextReader.forMap(reader, delimiter);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Closes the workbook that cannot be handed over to a reader,
+     * keeping the failure of closing it as suppressed one.
+     *
+     * @param workbook workbook opened by this
+     * @param cause    failure of creating the reader
+     */
+    private static void closeOnFailure(Workbook workbook, RuntimeException cause) {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
     }
 
 }
@@ -27,11 +27,16 @@ import com.github.javaxcel.core.analysis.ExcelAnalysis.DefaultMeta;
 import com.github.javaxcel.core.converter.handler.ExcelTypeHandler;
 import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.core.converter.in.support.FieldTypeResolver;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.validator.ExcelColumnValidator;
 
 /**
  * Abstract analyzer for preparing the fields to handle for Excel
  *
+ * <p> The implementations take the annotations of the field from {@link ExcelFieldMetadata}
+ * if the mapper of model is generated, instead of reading them with reflection.
+ *
  * @since 0.9.0
  */
 public abstract class AbstractExcelAnalyzer implements ExcelAnalyzer {
@@ -63,8 +68,10 @@ public abstract class AbstractExcelAnalyzer implements ExcelAnalyzer {
             DefaultMeta defaultMeta = analyzeDefaultMeta(field, arguments);
             analysis.setDefaultMeta(defaultMeta);
 
-            // Analyzes handler for the field.
-            Class<?> concreteType = FieldTypeResolver.resolveConcreteType(field);
+            // Analyzes handler for the field, with the concrete type resolved at compile time if it exists.
+            ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+            Class<?> concreteType = metadata == null || metadata.getConcreteType() == null
+                    ? FieldTypeResolver.resolveConcreteType(field) : metadata.getConcreteType();
             ExcelTypeHandler<?> handler = this.registry.getHandler(concreteType);
             if (handler != null) {
                 analysis.setHandler(handler);
@@ -42,6 +42,8 @@ import com.github.javaxcel.core.converter.in.ExcelReadExpressionConverter;
 import com.github.javaxcel.core.converter.in.ExcelReadHandlerConverter;
 import com.github.javaxcel.core.exception.ExcelColumnValidationException;
 import com.github.javaxcel.core.in.strategy.impl.UseSetters;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.util.FieldUtils;
 import com.github.javaxcel.core.util.ObjectUtils;
 import com.github.javaxcel.core.validator.ExcelColumnValidator;
@@ -87,6 +89,13 @@ public class ExcelReadAnalyzer extends AbstractExcelAnalyzer {
     @Override
     protected DefaultMeta analyzeDefaultMeta(Field field, Object[] arguments) {
         // ExcelReader supports only @ExcelColumn.defaultValue.
+        ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+        if (metadata != null) {
+            return metadata.getColumnDefaultValue() == null
+                    ? DefaultMetaImpl.EMPTY
+                    : new DefaultMetaImpl(metadata.getColumnDefaultValue(), Source.COLUMN);
+        }
+
         ExcelColumn columnAnnotation = field.getAnnotation(ExcelColumn.class);
         if (columnAnnotation != null && !columnAnnotation.defaultValue().isEmpty()) {
             String value = columnAnnotation.defaultValue();
@@ -100,6 +109,14 @@ public class ExcelReadAnalyzer extends AbstractExcelAnalyzer {
     protected int analyzeFlags(Field field, Object[] arguments) {
         UseSetters us = ObjectUtils.resolveFirst(UseSetters.class, arguments);
 
+        ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+        if (metadata != null) {
+            int flags = metadata.getReadFlags();
+
+            // Accesses the field directly unless the option is given and the setter exists.
+            return us != null && (flags & SETTER) == SETTER ? flags : (flags & ~SETTER) | FIELD_ACCESS;
+        }
+
         int flags = 0x00;
         flags |= field.isAnnotationPresent(ExcelReadExpression.class) ? EXPRESSION : HANDLER;
         flags |= us == null ? FIELD_ACCESS : SETTER;
@@ -120,6 +137,16 @@ public class ExcelReadAnalyzer extends AbstractExcelAnalyzer {
 
     @Override
     protected List<ExcelColumnValidator> analyzeValidators(Field field, Object[] arguments) {
+        ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+        if (metadata != null) {
+            ClassLoader classLoader = field.getDeclaringClass().getClassLoader();
+            List<ExcelColumnValidator> validators = metadata.getValidatorNames().stream()
+                    .map(it -> (ExcelColumnValidator) ReflectionUtils.instantiate(loadClass(it, classLoader)))
+                    .collect(toList());
+
+            return withRegExpValidator(validators, metadata.getRegexp(), metadata.getRegexpFlags());
+        }
+
         ExcelColumn columnAnnotation = field.getAnnotation(ExcelColumn.class);
         if (columnAnnotation != null) {
             ExcelValidation validation = columnAnnotation.validation();
@@ -128,21 +155,33 @@ public class ExcelReadAnalyzer extends AbstractExcelAnalyzer {
                     .map(ReflectionUtils::instantiate)
                     .collect(toList());
 
-            String regexp = validation.regexp();
-            if (StringUtils.isNullOrEmpty(regexp)) {
-                return Collections.unmodifiableList(validators);
-            }
-
-            Pattern pattern = Pattern.compile(regexp, validation.flags());
-            ExcelColumnRegExpValidator validator = new ExcelColumnRegExpValidator(pattern);
+            return withRegExpValidator(validators, validation.regexp(), validation.flags());
+        }
 
-            // Puts an ExcelColumnRegExpValidator first, because it is intended to provide a simple validator.
-            validators.add(0, validator);
+        return Collections.emptyList();
+    }
 
+    private static List<ExcelColumnValidator> withRegExpValidator(List<ExcelColumnValidator> validators,
+            @Nullable String regexp, int flags) {
+        if (StringUtils.isNullOrEmpty(regexp)) {
             return Collections.unmodifiableList(validators);
         }
 
-        return Collections.emptyList();
+        Pattern pattern = Pattern.compile(regexp, flags);
+        ExcelColumnRegExpValidator validator = new ExcelColumnRegExpValidator(pattern);
+
+        // Puts an ExcelColumnRegExpValidator first, because it is intended to provide a simple validator.
+        validators.add(0, validator);
+
+        return Collections.unmodifiableList(validators);
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to load the validator in metadata of field: " + name, e);
+        }
     }
 
     // -------------------------------------------------------------------------------------------------
@@ -30,6 +30,8 @@ import com.github.javaxcel.core.annotation.ExcelWriteExpression;
 import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
 import com.github.javaxcel.core.converter.out.ExcelWriteExpressionConverter;
 import com.github.javaxcel.core.converter.out.ExcelWriteHandlerConverter;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.out.strategy.impl.DefaultValue;
 import com.github.javaxcel.core.out.strategy.impl.UseGetters;
 import com.github.javaxcel.core.util.FieldUtils;
@@ -82,6 +84,18 @@ public class ExcelWriteAnalyzer extends AbstractExcelAnalyzer {
             return new DefaultMetaImpl(value, Source.OPTION);
         }
 
+        ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+        if (metadata != null) {
+            if (metadata.getColumnDefaultValue() != null) {
+                return new DefaultMetaImpl(metadata.getColumnDefaultValue(), Source.COLUMN);
+            }
+            if (metadata.getModelDefaultValue() != null) {
+                return new DefaultMetaImpl(metadata.getModelDefaultValue(), Source.MODEL);
+            }
+
+            return DefaultMetaImpl.EMPTY;
+        }
+
         // @ExcelColumn.defaultValue takes precedence over @ExcelModel.defaultValue.
         ExcelColumn columnAnnotation = field.getAnnotation(ExcelColumn.class);
         if (columnAnnotation != null && !columnAnnotation.defaultValue().isEmpty()) {
@@ -104,6 +118,14 @@ public class ExcelWriteAnalyzer extends AbstractExcelAnalyzer {
     protected int analyzeFlags(Field field, Object[] arguments) {
         UseGetters ug = ObjectUtils.resolveFirst(UseGetters.class, arguments);
 
+        ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+        if (metadata != null) {
+            int flags = metadata.getWriteFlags();
+
+            // Accesses the field directly unless the option is given and the getter exists.
+            return ug != null && (flags & GETTER) == GETTER ? flags : (flags & ~GETTER) | FIELD_ACCESS;
+        }
+
         int flags = 0x00;
         flags |= field.isAnnotationPresent(ExcelWriteExpression.class) ? EXPRESSION : HANDLER;
         flags |= ug == null ? FIELD_ACCESS : GETTER;
@@ -36,6 +36,8 @@ import com.github.javaxcel.core.analysis.ExcelAnalysis;
 import com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer;
 import com.github.javaxcel.core.annotation.ExcelColumn;
 import com.github.javaxcel.core.annotation.ExcelReadExpression;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.util.ObjectUtils;
 
 /**
@@ -68,8 +70,11 @@ public class ExcelReadExpressionConverter implements ExcelReadConverter {
                 // BECAUSE THE ANNOTATION HAS ONLY ONE MANDATORY ATTRIBUTE AND
                 // IT MEANS THAT MUST BE A VALID VALUE IF THE ANNOTATION IS ON A FIELD.
                 // THIS CLASS IS RESPONSIBLE FOR INFORMING USER OF FAILURE OF PARSING EXPRESSION.
-                ExcelReadExpression annotation = field.getAnnotation(ExcelReadExpression.class);
-                Expression expression = EXPRESSION_PARSER.parseExpression(annotation.value());
+                // Takes the expression from the metadata generated at compile time if it exists.
+                ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+                String source = metadata == null || metadata.getReadExpression() == null
+                        ? field.getAnnotation(ExcelReadExpression.class).value() : metadata.getReadExpression();
+                Expression expression = EXPRESSION_PARSER.parseExpression(source);
                 cache.setExpression(expression);
             }
 
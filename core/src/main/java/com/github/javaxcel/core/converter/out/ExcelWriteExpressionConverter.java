@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.Nullable;
 import org.springframework.expression.EvaluationContext;
@@ -34,11 +35,12 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import io.github.imsejin.common.assertion.Asserts;
-import io.github.imsejin.common.util.ReflectionUtils;
 
 import com.github.javaxcel.core.analysis.ExcelAnalysis;
 import com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer;
 import com.github.javaxcel.core.annotation.ExcelWriteExpression;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.util.FieldUtils;
 import com.github.javaxcel.core.util.ObjectUtils;
 
@@ -53,7 +55,15 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
 
     private final List<Field> fields;
 
-    private final Map<Field, Method> getterMap;
+    /**
+     * Functions that read the value of each field directly.
+     */
+    private final Map<Field, Function<Object, Object>> fieldReaderMap;
+
+    /**
+     * Functions that read the value of each field through getter.
+     */
+    private final Map<Field, Function<Object, Object>> getterMap;
 
     private final Map<Field, Cache> cacheMap;
 
@@ -65,7 +75,8 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
                 .is(them -> them.iterator().hasNext());
 
         List<Field> fields = new ArrayList<>();
-        Map<Field, Method> getterMap = new HashMap<>();
+        Map<Field, Function<Object, Object>> fieldReaderMap = new HashMap<>();
+        Map<Field, Function<Object, Object>> getterMap = new HashMap<>();
         Map<Field, Cache> cacheMap = new HashMap<>();
 
         for (ExcelAnalysis analysis : analyses) {
@@ -78,22 +89,28 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
                 // BECAUSE THE ANNOTATION HAS ONLY ONE MANDATORY ATTRIBUTE AND
                 // IT MEANS THAT MUST BE A VALID VALUE IF THE ANNOTATION IS ON A FIELD.
                 // THIS CLASS IS RESPONSIBLE FOR INFORMING USER OF FAILURE OF PARSING EXPRESSION.
-                ExcelWriteExpression annotation = field.getAnnotation(ExcelWriteExpression.class);
-                Expression expression = EXPRESSION_PARSER.parseExpression(annotation.value());
+                // Takes the expression from the metadata generated at compile time if it exists.
+                ExcelFieldMetadata metadata = ExcelModelMappers.getFieldMetadata(field);
+                String source = metadata == null || metadata.getWriteExpression() == null
+                        ? field.getAnnotation(ExcelWriteExpression.class).value() : metadata.getWriteExpression();
+                Expression expression = EXPRESSION_PARSER.parseExpression(source);
                 cache.setExpression(expression);
             }
 
-            // Caches a getter for the field.
+            // Caches a getter for the field; it doesn't use reflection if the model has generated mapper.
             if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
                 Method getter = FieldUtils.resolveGetter(field);
-                getterMap.put(field, getter);
+                getterMap.put(field, ExcelModelMappers.getGetter(field, getter));
             }
 
+            fieldReaderMap.put(field, ExcelModelMappers.getFieldReader(field));
+
             fields.add(field);
             cacheMap.put(field, cache);
         }
 
         this.fields = Collections.unmodifiableList(fields);
+        this.fieldReaderMap = Collections.unmodifiableMap(fieldReaderMap);
         this.getterMap = Collections.unmodifiableMap(getterMap);
         this.cacheMap = Collections.unmodifiableMap(cacheMap);
     }
@@ -144,14 +161,18 @@ public class ExcelWriteExpressionConverter implements ExcelWriteConverter {
         ExcelAnalysis analysis = this.cacheMap.get(field).analysis;
 
         if (analysis.hasFlag(ExcelWriteAnalyzer.FIELD_ACCESS)) {
-            return FieldUtils.toMap(model, this.fields);
+            Map<String, Object> variables = new HashMap<>();
+            for (Field it : this.fields) {
+                Object value = this.fieldReaderMap.get(it).apply(model);
+                variables.put(it.getName(), value);
+            }
+
+            return variables;
 
         } else if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
             Map<String, Object> variables = new HashMap<>();
-            for (Entry<Field, Method> entry : this.getterMap.entrySet()) {
-                Method getter = entry.getValue();
-                Object value = ReflectionUtils.invoke(getter, model);
-
+            for (Entry<Field, Function<Object, Object>> entry : this.getterMap.entrySet()) {
+                Object value = entry.getValue().apply(model);
                 variables.put(entry.getKey().getName(), value);
             }
 
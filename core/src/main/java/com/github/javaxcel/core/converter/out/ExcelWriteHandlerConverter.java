@@ -23,18 +23,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.ClassUtils;
-import io.github.imsejin.common.util.ReflectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 
 import com.github.javaxcel.core.analysis.ExcelAnalysis;
 import com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer;
 import com.github.javaxcel.core.converter.handler.ExcelTypeHandler;
 import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.util.FieldUtils;
 import com.github.javaxcel.core.util.ObjectUtils;
 
@@ -47,7 +48,10 @@ public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
 
     private final ExcelTypeHandlerRegistry registry;
 
-    private final Map<Field, Method> getterMap;
+    /**
+     * Functions that read the value of each field through getter or field access.
+     */
+    private final Map<Field, Function<Object, Object>> readerMap;
 
     private final Map<Field, ExcelAnalysis> analysisMap;
 
@@ -65,22 +69,24 @@ public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
 
         this.registry = registry;
 
-        Map<Field, Method> getterMap = new HashMap<>();
+        Map<Field, Function<Object, Object>> readerMap = new HashMap<>();
         Map<Field, ExcelAnalysis> analysisMap = new HashMap<>();
 
         for (ExcelAnalysis analysis : analyses) {
             Field field = analysis.getField();
 
-            // Makes getter a cache.
-            if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
+            // Makes reader a cache; it doesn't use reflection if the model has generated mapper.
+            if (analysis.hasFlag(ExcelWriteAnalyzer.FIELD_ACCESS)) {
+                readerMap.put(field, ExcelModelMappers.getFieldReader(field));
+            } else if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
                 Method getter = FieldUtils.resolveGetter(field);
-                getterMap.put(field, getter);
+                readerMap.put(field, ExcelModelMappers.getGetter(field, getter));
             }
 
             analysisMap.put(field, analysis);
         }
 
-        this.getterMap = Collections.unmodifiableMap(getterMap);
+        this.readerMap = Collections.unmodifiableMap(readerMap);
         this.analysisMap = Collections.unmodifiableMap(analysisMap);
     }
 
@@ -128,18 +134,12 @@ public class ExcelWriteHandlerConverter implements ExcelWriteConverter {
 
     @Nullable
     private Object getValueOf(Object model, Field field) {
-        ExcelAnalysis analysis = this.analysisMap.get(field);
-
-        if (analysis.hasFlag(ExcelWriteAnalyzer.FIELD_ACCESS)) {
-            return ReflectionUtils.getFieldValue(model, field);
-
-        } else if (analysis.hasFlag(ExcelWriteAnalyzer.GETTER)) {
-            Method getter = this.getterMap.get(field);
-            return ReflectionUtils.invoke(getter, model);
-
-        } else {
+        Function<Object, Object> reader = this.readerMap.get(field);
+        if (reader == null) {
             throw new AssertionError("Never throw; ExcelWriteAnalyzer adds the flags into each analysis");
         }
+
+        return reader.apply(model);
     }
 
     private String handleInternal(Field field, Class<?> type, Object value) {
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+/**
+ * Table of columns read from Excel file
+ *
+ * <p> Each column has the values of a field in order of rows, in the column specialized
+ * for the type of field. So the values of primitive type are not boxed in memory
+ * and the repeated strings are stored once.
+ *
+ * <pre>{@code
+ *     ColumnTable table = reader.readColumns();
+ *     DoubleColumnVector prices = table.getColumn("price", DoubleColumnVector.class);
+ *
+ *     double sum = 0;
+ *     for (int i = 0; i < table.size(); i++) {
+ *         sum += prices.getDouble(i);
+ *     }
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public final class ColumnTable {
+
+    private final Map<String, ColumnVector> columns;
+
+    private final ColumnVector[] vectors;
+
+    private int size;
+
+    /**
+     * Creates a table with the empty columns.
+     *
+     * @param names names of the columns
+     * @param types types of the values in each column
+     * @throws IllegalArgumentException if names or types is invalid
+     */
+    public ColumnTable(List<String> names, List<Class<?>> types) {
+        Asserts.that(names)
+                .describedAs("ColumnTable.names is not allowed to be null or empty: {0}", names)
+                .isNotNull().isNotEmpty()
+                .describedAs("ColumnTable.names cannot have duplicated elements: {0}", names)
+                .doesNotHaveDuplicates();
+        Asserts.that(types)
+                .describedAs("ColumnTable.types must have the same size as names: (names: {0}, types: {1})",
+                        names, types)
+                .isNotNull().hasSameSizeAs(names)
+                .describedAs("ColumnTable.types cannot have null element: {0}", types)
+                .doesNotContainNull();
+
+        Map<String, ColumnVector> columns = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), ColumnVector.of(types.get(i)));
+        }
+
+        this.columns = Collections.unmodifiableMap(columns);
+        this.vectors = columns.values().toArray(new ColumnVector[0]);
+    }
+
+    /**
+     * Adds a row to the end of the columns.
+     *
+     * @param values values of the row in order of columns
+     * @throws IllegalArgumentException if the number of values is not the same as the number of columns
+     */
+    public void addRow(Object... values) {
+        Asserts.that(values)
+                .describedAs("ColumnTable.addRow needs {0} values, but it isn't: {1}",
+                        this.vectors.length, values == null ? null : values.length)
+                .isNotNull().hasSameSizeAs(this.vectors);
+
+        for (int i = 0; i < this.vectors.length; i++) {
+            this.vectors[i].add(values[i]);
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the names of the columns.
+     *
+     * @return names of the columns
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(new ArrayList<>(this.columns.keySet()));
+    }
+
+    /**
+     * Returns the column.
+     *
+     * @param name name of the column
+     * @return column
+     * @throws IllegalArgumentException if the column doesn't exist
+     */
+    public ColumnVector getColumn(String name) {
+        ColumnVector column = this.columns.get(name);
+        Asserts.that(column)
+                .describedAs("ColumnTable doesn't have the column: {0}", name)
+                .isNotNull();
+
+        return column;
+    }
+
+    /**
+     * Returns the column as the given type.
+     *
+     * @param name name of the column
+     * @param type type of the column
+     * @param <V>  type of the column
+     * @return column
+     * @throws IllegalArgumentException if the column doesn't exist or is not the given type
+     */
+    public <V extends ColumnVector> V getColumn(String name, Class<V> type) {
+        ColumnVector column = getColumn(name);
+        Asserts.that(column)
+                .describedAs("ColumnTable.{0} is not {1}, but {2}", name, type.getSimpleName(),
+                        column.getClass().getSimpleName())
+                .isInstanceOf(type);
+
+        return type.cast(column);
+    }
+
+}
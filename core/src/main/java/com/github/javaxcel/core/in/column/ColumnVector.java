@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column of values read from Excel file
+ *
+ * <p> The values are stored in the chunks of fixed size, so the column grows
+ * without copying the values already added. The null values are marked on a bitmap
+ * that is allocated only for the chunk with null.
+ *
+ * @since 0.10.0
+ */
+public abstract class ColumnVector {
+
+    static final int CHUNK_SHIFT = 12;
+
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final List<long[]> nullBitmaps = new ArrayList<>();
+
+    private int size;
+
+    ColumnVector() {
+    }
+
+    /**
+     * Returns a column for the type of field.
+     *
+     * <p> The integral types except {@code long} are stored in {@link IntColumnVector},
+     * and the floating-point types are stored in {@link DoubleColumnVector}.
+     *
+     * @param type type of field
+     * @return column
+     */
+    static ColumnVector of(Class<?> type) {
+        if (type == int.class || type == Integer.class || type == short.class || type == Short.class
+                || type == byte.class || type == Byte.class) {
+            return new IntColumnVector();
+        }
+        if (type == long.class || type == Long.class) {
+            return new LongColumnVector();
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            return new DoubleColumnVector();
+        }
+        if (type == String.class) {
+            return new StringColumnVector();
+        }
+
+        return new ObjectColumnVector();
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether the value at the index is null.
+     *
+     * @param index index of row
+     * @return whether the value is null
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        if (chunkIndex >= this.nullBitmaps.size()) {
+            return false;
+        }
+
+        long[] bitmap = this.nullBitmaps.get(chunkIndex);
+        int offset = index & CHUNK_MASK;
+
+        return bitmap != null && (bitmap[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * Returns the boxed value at the index.
+     *
+     * @param index index of row
+     * @return value, or null if it is null
+     */
+    @Nullable
+    public abstract Object get(int index);
+
+    void add(@Nullable Object value) {
+        int index = this.size;
+        if ((index & CHUNK_MASK) == 0) {
+            addChunk();
+        }
+
+        if (value == null) {
+            markNull(index);
+        }
+
+        set(index >>> CHUNK_SHIFT, index & CHUNK_MASK, value);
+        this.size++;
+    }
+
+    /**
+     * Adds a new chunk to store the values.
+     */
+    abstract void addChunk();
+
+    /**
+     * Stores the value at the offset of the chunk.
+     *
+     * @param chunkIndex index of chunk
+     * @param offset     offset in chunk
+     * @param value      value, or null
+     */
+    abstract void set(int chunkIndex, int offset, @Nullable Object value);
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    private void markNull(int index) {
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        while (this.nullBitmaps.size() <= chunkIndex) {
+            this.nullBitmaps.add(null);
+        }
+
+        long[] bitmap = this.nullBitmaps.get(chunkIndex);
+        if (bitmap == null) {
+            bitmap = new long[CHUNK_SIZE >>> 6];
+            this.nullBitmaps.set(chunkIndex, bitmap);
+        }
+
+        int offset = index & CHUNK_MASK;
+        bitmap[offset >>> 6] |= 1L << offset;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column of {@code int} values
+ *
+ * <p> The null value is stored as {@code 0}, so check it with {@link #isNull(int)}.
+ *
+ * @since 0.10.0
+ */
+public final class IntColumnVector extends ColumnVector {
+
+    private final List<int[]> chunks = new ArrayList<>();
+
+    IntColumnVector() {
+    }
+
+    /**
+     * Returns the value at the index.
+     *
+     * @param index index of row
+     * @return value, or {@code 0} if it is null
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return this.chunks.get(index >>> CHUNK_SHIFT)[index & CHUNK_MASK];
+    }
+
+    @Nullable
+    @Override
+    public Integer get(int index) {
+        return isNull(index) ? null : getInt(index);
+    }
+
+    /**
+     * Returns the values as an array.
+     *
+     * @return copy of the values
+     */
+    public int[] toArray() {
+        int size = size();
+        int[] array = new int[size];
+
+        for (int i = 0; i < this.chunks.size(); i++) {
+            int offset = i << CHUNK_SHIFT;
+            System.arraycopy(this.chunks.get(i), 0, array, offset, Math.min(CHUNK_SIZE, size - offset));
+        }
+
+        return array;
+    }
+
+    @Override
+    void addChunk() {
+        this.chunks.add(new int[CHUNK_SIZE]);
+    }
+
+    @Override
+    void set(int chunkIndex, int offset, @Nullable Object value) {
+        if (value != null) {
+            this.chunks.get(chunkIndex)[offset] = ((Number) value).intValue();
+        }
+    }
+
+}
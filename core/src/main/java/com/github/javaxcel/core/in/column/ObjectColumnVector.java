@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column of the values whose type has no specialized column
+ *
+ * @since 0.10.0
+ */
+public final class ObjectColumnVector extends ColumnVector {
+
+    private final List<Object[]> chunks = new ArrayList<>();
+
+    ObjectColumnVector() {
+    }
+
+    @Nullable
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return this.chunks.get(index >>> CHUNK_SHIFT)[index & CHUNK_MASK];
+    }
+
+    @Override
+    void addChunk() {
+        this.chunks.add(new Object[CHUNK_SIZE]);
+    }
+
+    @Override
+    void set(int chunkIndex, int offset, @Nullable Object value) {
+        this.chunks.get(chunkIndex)[offset] = value;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column of {@link String} values encoded with dictionary
+ *
+ * <p> Each distinct value is stored once in the dictionary, and the rows have
+ * the codes of their values. So the column with a few distinct values takes
+ * an {@code int} for each row.
+ *
+ * @since 0.10.0
+ */
+public final class StringColumnVector extends ColumnVector {
+
+    /**
+     * Code of null value.
+     */
+    public static final int NULL_CODE = -1;
+
+    private final List<int[]> chunks = new ArrayList<>();
+
+    private final List<String> dictionary = new ArrayList<>();
+
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    StringColumnVector() {
+    }
+
+    /**
+     * Returns the code of the value at the index.
+     *
+     * @param index index of row
+     * @return index of the value in dictionary, or {@link #NULL_CODE} if it is null
+     */
+    public int getCode(int index) {
+        checkIndex(index);
+        return this.chunks.get(index >>> CHUNK_SHIFT)[index & CHUNK_MASK];
+    }
+
+    /**
+     * Returns the value at the index.
+     *
+     * @param index index of row
+     * @return value, or null if it is null
+     */
+    @Nullable
+    public String getString(int index) {
+        int code = getCode(index);
+        return code == NULL_CODE ? null : this.dictionary.get(code);
+    }
+
+    @Nullable
+    @Override
+    public String get(int index) {
+        return getString(index);
+    }
+
+    /**
+     * Returns the distinct values in order of appearance.
+     *
+     * @return dictionary
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(this.dictionary);
+    }
+
+    @Override
+    void addChunk() {
+        this.chunks.add(new int[CHUNK_SIZE]);
+    }
+
+    @Override
+    void set(int chunkIndex, int offset, @Nullable Object value) {
+        int code;
+        if (value == null) {
+            code = NULL_CODE;
+        } else {
+            String string = (String) value;
+            code = this.codes.computeIfAbsent(string, it -> {
+                this.dictionary.add(it);
+                return this.dictionary.size() - 1;
+            });
+        }
+
+        this.chunks.get(chunkIndex)[offset] = code;
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package com.github.javaxcel.core.in.core;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,8 +25,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.DataFormatter;
@@ -33,6 +39,7 @@ import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -45,8 +52,12 @@ import io.github.imsejin.common.util.StringUtils;
 import com.github.javaxcel.core.in.context.ExcelReadContext;
 import com.github.javaxcel.core.in.lifecycle.ExcelReadLifecycle;
 import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.core.in.strategy.impl.CompactMaps;
 import com.github.javaxcel.core.in.strategy.impl.KeyNames;
 import com.github.javaxcel.core.in.strategy.impl.Limit;
+import com.github.javaxcel.core.in.strategy.impl.Offset;
+import com.github.javaxcel.core.in.strategy.impl.Parallel;
+import com.github.javaxcel.core.in.strategy.impl.Projection;
 import com.github.javaxcel.core.util.ExcelUtils;
 
 import static java.util.Comparator.*;
@@ -58,7 +69,7 @@ import static java.util.stream.Collectors.*;
  * @param <T> type of model
  * @since 0.5.0
  */
-public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelReadLifecycle<T> {
+public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelReadLifecycle<T>, AutoCloseable {
 
     /**
      * Formatter that stringifies the value in a cell with {@link FormulaEvaluator}.
@@ -81,8 +92,44 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      */
     private int limit = -1;
 
+    /**
+     * The number of rows to skip before reading.
+     */
+    private int offset;
+
+    /**
+     * The number of rows skipped by {@link #offset}.
+     */
+    private int skipCount;
+
+    /**
+     * Indices of the columns to read, or null if all the columns are read.
+     *
+     * @see Projection
+     */
+    @Nullable
+    private int[] columnIndices;
+
+    /**
+     * Keys shared by the maps of the current sheet, or null if the rows are read as {@link HashMap}.
+     *
+     * @see CompactMaps
+     */
+    @Nullable
+    private CompactRowMap.Keys compactKeys;
+
+    /**
+     * Indices of the columns to read into {@link CompactRowMap}, in order of {@link #compactKeys}.
+     */
+    private int[] compactColumnIndices;
+
     private final ExcelReadContext<T> context;
 
+    /**
+     * Whether the implementation converts each row with {@link #toModel(Map)}.
+     */
+    private final boolean convertsEachRow = overridesToModel(getClass());
+
     @SuppressWarnings("unchecked")
     protected AbstractExcelReader(Workbook workbook, Class<T> modelType) {
         this.context = new ExcelReadContext<>(workbook, modelType, (Class<? extends ExcelReader<T>>) getClass());
@@ -142,12 +189,148 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      */
     @Override
     public final List<T> read() {
-        // YOU MUST SET ALL THE ATTRIBUTES YOU CAN DO BEFORE ExcelReadLifecycle.prepare
-        // BECAUSE THIS CLASS IS OBLIGATED TO PROVIDE AN IMPLEMENTATION WITH THEM.
         List<T> list = new ArrayList<>();
         this.context.setList(list);
 
+        readSheets(() -> {
+            List<T> chunk = readBody(this.context);
+            this.context.setChunk(chunk);
+            list.addAll(chunk);
+        });
+
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p> Each row is converted and passed to the action as soon as it is read,
+     * so {@link ExcelReadContext#getList()} and {@link ExcelReadContext#getChunk()}
+     * are empty on lifecycle methods. If the implementation doesn't override {@link #toModel(Map)},
+     * this reads all the models with {@link #read()} first as {@link ExcelReader#read(Consumer)} does.
+     *
+     * <p> With {@link Parallel}, this reads the rows in the current thread while the workers
+     * convert the previous batches of rows. The batches being converted are kept in a ring buffer
+     * bounded by twice the parallelism; when it is full, reading waits for the oldest batch
+     * and passes its models to the action. So the action receives the models in order of rows
+     * and only a window of rows is held in memory.
+     */
+    @Override
+    public final void read(Consumer<? super T> action) {
+        Asserts.that(action)
+                .describedAs("action is not allowed to be null")
+                .isNotNull();
+
+        if (!this.convertsEachRow) {
+            read().forEach(action);
+            return;
+        }
+
+        ExcelReadStrategy strategy = this.context.getStrategyMap().get(Parallel.class);
+        if (strategy == null) {
+            readImitatedModels(map -> action.accept(toModel(map)));
+            return;
+        }
+
+        this.context.setList(Collections.emptyList());
+        this.context.setChunk(Collections.emptyList());
+
+        Parallel parallel = (Parallel) strategy.execute(this.context);
+        ExcelReadPipeline<T> pipeline = new ExcelReadPipeline<>(this::toModel, action, parallel.getExecutor(),
+                parallel.getParallelism() * 2, parallel.getBatchSize());
+
+        readSheets(() -> {
+            forEachRowMap(this.context.getSheet(), pipeline::offer);
+
+            // Passes all the models of this sheet to the action before postReadSheet.
+            pipeline.flush();
+        });
+    }
+
+    /**
+     * Closes the workbook that this reads.
+     *
+     * <p> The workbook given to the constructor is owned by the caller, so you need not close
+     * this reader; close the reader returned by {@code Javaxcel.reader(Path)} after reading.
+     *
+     * @throws RuntimeException if failed to close the workbook
+     * @since 0.10.0
+     */
+    @Override
+    public void close() {
+        Workbook workbook = this.context.getWorkbook();
+
+        // Closing the package opened only for reading warns that it is intended to save the package.
+        if (workbook instanceof XSSFWorkbook) {
+            OPCPackage pkg = ((XSSFWorkbook) workbook).getPackage();
+            if (pkg != null && pkg.getPackageAccess() == PackageAccess.READ) {
+                pkg.revert();
+                return;
+            }
+        }
+
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the Excel file and performs the given action for each imitated model in order of rows,
+     * without converting it to the model.
+     *
+     * <p> {@link ExcelReadContext#getList()} and {@link ExcelReadContext#getChunk()}
+     * are empty on lifecycle methods.
+     *
+     * @param action action to be performed for each imitated model
+     * @since 0.10.0
+     */
+    protected final void readImitatedModels(Consumer<Map<String, String>> action) {
+        this.context.setList(Collections.emptyList());
+        this.context.setChunk(Collections.emptyList());
+
+        readSheets(() -> forEachRowMap(this.context.getSheet(), action));
+    }
+
+    /**
+     * Reads the Excel file and performs the given action for each row in order of rows,
+     * with the values read from the cells by the given function instead of the stringified values.
+     *
+     * <p> The function receives the header name and the cell, which is null if it doesn't exist.
+     * {@link ExcelReadContext#getList()} and {@link ExcelReadContext#getChunk()}
+     * are empty on lifecycle methods.
+     *
+     * @param cellReader function that reads the value from a cell
+     * @param action     action to be performed for each row
+     * @param <V>        type of value
+     * @since 0.10.0
+     */
+    protected final <V> void readRows(BiFunction<String, Cell, V> cellReader, Consumer<? super Map<String, V>> action) {
+        this.context.setList(Collections.emptyList());
+        this.context.setChunk(Collections.emptyList());
+
+        readSheets(() -> forEachRow(this.context.getSheet(), row -> readRow(row, cellReader), action));
+    }
+
+    private static boolean overridesToModel(Class<?> readerType) {
+        for (Class<?> type = readerType; type != AbstractExcelReader.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("toModel", Map.class);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+                // Looks up the super class.
+            }
+        }
+
+        return false;
+    }
+
+    private void readSheets(Runnable bodyReader) {
+        // YOU MUST SET ALL THE ATTRIBUTES YOU CAN DO BEFORE ExcelReadLifecycle.prepare
+        // BECAUSE THIS CLASS IS OBLIGATED TO PROVIDE AN IMPLEMENTATION WITH THEM.
         resolveLimit();
+        resolveOffset();
         resolveHeaderNames();
 
         // Lifecycle method.
@@ -171,9 +354,10 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
                 this.context.setHeaderNames(headerNames);
             }
 
-            List<T> chunk = readBody(this.context);
-            this.context.setChunk(chunk);
-            list.addAll(chunk);
+            this.columnIndices = resolveColumnIndices();
+            resolveCompactKeys();
+
+            bodyReader.run();
 
             // Lifecycle method.
             postReadSheet(this.context);
@@ -181,8 +365,6 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
 
         // Lifecycle method.
         complete(this.context);
-
-        return list;
     }
 
     private void resolveLimit() {
@@ -194,6 +376,17 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         this.limit = (int) strategy.execute(this.context);
     }
 
+    private void resolveOffset() {
+        this.skipCount = 0;
+
+        ExcelReadStrategy strategy = this.context.getStrategyMap().get(Offset.class);
+        if (strategy == null) {
+            return;
+        }
+
+        this.offset = (int) strategy.execute(this.context);
+    }
+
     @SuppressWarnings("unchecked")
     private void resolveHeaderNames() {
         ExcelReadStrategy strategy = this.context.getStrategyMap().get(KeyNames.class);
@@ -205,29 +398,92 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         this.context.setHeaderNames(headerNames);
     }
 
+    /**
+     * Resolves indices of the columns to read by header names.
+     *
+     * @return indices of the projected columns, or null if there is no projection
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private int[] resolveColumnIndices() {
+        ExcelReadStrategy strategy = this.context.getStrategyMap().get(Projection.class);
+        if (strategy == null) {
+            return null;
+        }
+
+        List<String> names = (List<String>) strategy.execute(this.context);
+        List<String> headerNames = this.context.getHeaderNames();
+
+        return IntStream.range(0, headerNames.size())
+                .filter(i -> names.contains(headerNames.get(i))).toArray();
+    }
+
+    /**
+     * Resolves the keys shared by the maps of the current sheet.
+     */
+    private void resolveCompactKeys() {
+        if (!this.context.getStrategyMap().containsKey(CompactMaps.class)) {
+            this.compactKeys = null;
+            return;
+        }
+
+        List<String> headerNames = this.context.getHeaderNames();
+        int[] columnIndices = this.columnIndices == null
+                ? IntStream.range(0, headerNames.size()).toArray()
+                : this.columnIndices;
+        List<String> columnNames = Arrays.stream(columnIndices).mapToObj(headerNames::get).collect(toList());
+
+        this.compactKeys = new CompactRowMap.Keys(columnNames);
+        this.compactColumnIndices = columnIndices;
+    }
+
     /**
      * Reads the body part of sheet and returns maps.
      *
+     * <p> The rows before {@link Offset} are skipped without reading their cells,
+     * and iteration of the rows stops as soon as {@link Limit} is reached.
+     * With a streaming workbook, the rows after the limit are never parsed.
+     *
      * @param sheet Excel sheet
      * @return models read as map
      */
     protected final List<Map<String, String>> readBodyAsMaps(Sheet sheet) {
         List<Map<String, String>> maps = new ArrayList<>();
+        forEachRowMap(sheet, maps::add);
+
+        return Collections.unmodifiableList(maps);
+    }
+
+    private void forEachRowMap(Sheet sheet, Consumer<Map<String, String>> action) {
+        forEachRow(sheet, this::readRow, action);
+    }
+
+    private <M> void forEachRow(Sheet sheet, Function<Row, M> rowReader, Consumer<M> action) {
+        // Doesn't touch the row iterator when the limit has already been reached.
+        if (this.context.getReadCount() == this.limit) {
+            return;
+        }
+
         for (Row row : sheet) {
             // ExcelReader already read a header, so skip the first row in this method.
             if (row.getRowNum() == 0) {
                 continue;
             }
 
+            // Skips the row without formatting its cells.
+            if (this.skipCount < this.offset) {
+                this.skipCount++;
+                continue;
+            }
+
+            M rowMap = rowReader.apply(row);
+            action.accept(rowMap);
+
+            // Stops here not to parse the next row.
             if (this.context.getReadCount() == this.limit) {
                 break;
             }
-
-            Map<String, String> rowMap = readRow(row);
-            maps.add(rowMap);
         }
-
-        return Collections.unmodifiableList(maps);
     }
 
     /**
@@ -254,29 +510,52 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      * @return imitated model
      */
     private Map<String, String> readRow(Row row) {
+        if (this.compactKeys != null) {
+            String[] values = new String[this.compactKeys.size()];
+            for (int i = 0; i < this.compactColumnIndices.length; i++) {
+                values[this.compactKeys.slotOf(i)] = readCellValue(row, this.compactColumnIndices[i]);
+            }
+
+            // Increases read count of row.
+            this.context.increaseReadCount();
+
+            return new CompactRowMap(this.compactKeys, values);
+        }
+
         Map<String, String> map = new HashMap<>();
 
-        int columnCount = CollectionUtils.exists(this.context.getHeaderNames())
-                ? this.context.getHeaderNames().size()
-                : row.getLastCellNum();
-
-        for (int i = 0; i < columnCount; i++) {
-            Cell cell = row.getCell(i);
-
-            String cellValue;
-            if (cell == null) {
-                cellValue = null;
-            } else if (this.formulaEvaluator == null) {
-                cellValue = cell.getStringCellValue();
-            } else {
-                // Evaluates the formula and returns a stringified value.
-                cellValue = DATA_FORMATTER.formatCellValue(cell, this.formulaEvaluator);
+        if (this.columnIndices == null) {
+            int columnCount = CollectionUtils.exists(this.context.getHeaderNames())
+                    ? this.context.getHeaderNames().size()
+                    : row.getLastCellNum();
+
+            for (int i = 0; i < columnCount; i++) {
+                readCell(row, i, map);
+            }
+        } else {
+            // Doesn't touch the cells of the columns excluded by projection.
+            for (int columnIndex : this.columnIndices) {
+                readCell(row, columnIndex, map);
             }
+        }
+
+        // Increases read count of row.
+        this.context.increaseReadCount();
+
+        return Collections.unmodifiableMap(map);
+    }
 
-            // Converts empty string to null because when CellType is BLANK,
-            // DataFormatter returns empty string.
-            String headerName = this.context.getHeaderNames().get(i);
-            map.put(headerName, StringUtils.ifNullOrEmpty(cellValue, (String) null));
+    private <V> Map<String, V> readRow(Row row, BiFunction<String, Cell, V> cellReader) {
+        List<String> headerNames = this.context.getHeaderNames();
+        int[] columnIndices = this.columnIndices == null
+                ? IntStream.range(0, CollectionUtils.exists(headerNames) ? headerNames.size() : row.getLastCellNum())
+                .toArray()
+                : this.columnIndices;
+
+        Map<String, V> map = new HashMap<>();
+        for (int columnIndex : columnIndices) {
+            String headerName = headerNames.get(columnIndex);
+            map.put(headerName, cellReader.apply(headerName, row.getCell(columnIndex)));
         }
 
         // Increases read count of row.
@@ -285,6 +564,40 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
         return Collections.unmodifiableMap(map);
     }
 
+    private void readCell(Row row, int columnIndex, Map<String, String> map) {
+        String headerName = this.context.getHeaderNames().get(columnIndex);
+        map.put(headerName, readCellValue(row, columnIndex));
+    }
+
+    @Nullable
+    private String readCellValue(Row row, int columnIndex) {
+        return formatCellValue(row.getCell(columnIndex));
+    }
+
+    /**
+     * Returns the value of the cell as it is displayed.
+     *
+     * @param cell cell, or null if it doesn't exist
+     * @return stringified value, or null if the cell is null or blank
+     * @since 0.10.0
+     */
+    @Nullable
+    protected final String formatCellValue(@Nullable Cell cell) {
+        String cellValue;
+        if (cell == null) {
+            cellValue = null;
+        } else if (this.formulaEvaluator == null) {
+            cellValue = cell.getStringCellValue();
+        } else {
+            // Evaluates the formula and returns a stringified value.
+            cellValue = DATA_FORMATTER.formatCellValue(cell, this.formulaEvaluator);
+        }
+
+        // Converts empty string to null because when CellType is BLANK,
+        // DataFormatter returns empty string.
+        return StringUtils.ifNullOrEmpty(cellValue, (String) null);
+    }
+
     // Overridable -------------------------------------------------------------------------------------
 
     /**
@@ -301,4 +614,21 @@ public abstract class AbstractExcelReader<T> implements ExcelReader<T>, ExcelRea
      */
     protected abstract List<T> readBody(ExcelReadContext<T> context);
 
+    /**
+     * Converts the imitated model read from a row to the model.
+     *
+     * <p> This can be called on multiple threads at the same time with {@link Parallel}.
+     *
+     * <p> {@link #read(Consumer)} uses this to convert each row as soon as it is read.
+     * For the implementations that don't override this, it reads all the models with {@link #read()} first.
+     *
+     * @param imitatedModel values of a row with header names as keys
+     * @return model
+     * @throws UnsupportedOperationException if this implementation cannot convert each row
+     * @since 0.10.0
+     */
+    protected T toModel(Map<String, String> imitatedModel) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support conversion of each row");
+    }
+
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable map of a row backed by an array of cell values
+ *
+ * <p> The keys and their indices are shared by all the rows of a sheet,
+ * so each map has only the array of values.
+ *
+ * @since 0.10.0
+ */
+final class CompactRowMap extends AbstractMap<String, String> {
+
+    private final Keys keys;
+
+    private final String[] values;
+
+    CompactRowMap(Keys keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.keys.indices.containsKey(key);
+    }
+
+    @Nullable
+    @Override
+    public String get(Object key) {
+        Integer index = this.keys.indices.get(key);
+        return index == null ? null : this.values[index];
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public int size() {
+                return CompactRowMap.this.values.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int cursor;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.cursor < CompactRowMap.this.values.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        int i = this.cursor++;
+                        return new SimpleImmutableEntry<>(CompactRowMap.this.keys.names[i],
+                                CompactRowMap.this.values[i]);
+                    }
+                };
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Keys of the maps of a sheet
+     *
+     * <p> When the header names are duplicated, the last column wins as {@link java.util.HashMap#put}.
+     */
+    static final class Keys {
+        private final String[] names;
+
+        private final Map<String, Integer> indices;
+
+        /**
+         * Slot in the array of values for each column to read.
+         */
+        private final int[] slots;
+
+        Keys(List<String> columnNames) {
+            Map<String, Integer> indices = new LinkedHashMap<>();
+            int[] slots = new int[columnNames.size()];
+
+            for (int i = 0; i < columnNames.size(); i++) {
+                slots[i] = indices.computeIfAbsent(columnNames.get(i), it -> indices.size());
+            }
+
+            this.names = indices.keySet().toArray(new String[0]);
+            this.indices = Collections.unmodifiableMap(indices);
+            this.slots = slots;
+        }
+
+        /**
+         * Returns the number of distinct keys.
+         */
+        int size() {
+            return this.names.length;
+        }
+
+        /**
+         * Returns the slot in the array of values for the column.
+         *
+         * @param position position of the column in the columns to read
+         */
+        int slotOf(int position) {
+            return this.slots[position];
+        }
+    }
+
+}
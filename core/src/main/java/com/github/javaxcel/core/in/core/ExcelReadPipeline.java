@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline that converts the rows on workers and passes the models in order of rows
+ *
+ * <p> The rows are grouped into batches and each batch is converted by a task on the executor.
+ * The tasks are kept in a ring buffer with a fixed capacity; when it is full, offering
+ * the next batch waits for the oldest task and passes its models to the action.
+ * If the oldest task has not started yet, the reading thread converts it by itself,
+ * so that reading never waits for a worker that cannot be scheduled, for example when
+ * it runs on a thread of the executor. This is not thread-safe; only the thread that reads rows must use it.
+ *
+ * @param <T> type of model
+ * @since 0.10.0
+ */
+final class ExcelReadPipeline<T> {
+
+    private final Function<Map<String, String>, T> converter;
+
+    private final Consumer<? super T> action;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    private final Task<T>[] ring;
+
+    /**
+     * Index of the oldest task in the ring buffer.
+     */
+    private int head;
+
+    /**
+     * The number of tasks in the ring buffer.
+     */
+    private int size;
+
+    private List<Map<String, String>> batch;
+
+    @SuppressWarnings("unchecked")
+    ExcelReadPipeline(Function<Map<String, String>, T> converter, Consumer<? super T> action,
+            Executor executor, int capacity, int batchSize) {
+        this.converter = converter;
+        this.action = action;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.ring = new Task[capacity];
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Adds the imitated model to the current batch and submits the batch when it is full.
+     *
+     * @param imitatedModel values of a row
+     */
+    void offer(Map<String, String> imitatedModel) {
+        this.batch.add(imitatedModel);
+
+        if (this.batch.size() == this.batchSize) {
+            submit();
+        }
+    }
+
+    /**
+     * Submits the remaining rows and passes all the models to the action.
+     */
+    void flush() {
+        if (!this.batch.isEmpty()) {
+            submit();
+        }
+
+        while (this.size > 0) {
+            deliverHead();
+        }
+    }
+
+    private void submit() {
+        // Backpressure: waits for the oldest task not to hold more rows.
+        if (this.size == this.ring.length) {
+            deliverHead();
+        }
+
+        List<Map<String, String>> rows = this.batch;
+        this.batch = new ArrayList<>(this.batchSize);
+
+        Task<T> task = new Task<>(() -> convert(rows));
+        int tail = (this.head + this.size) % this.ring.length;
+        this.ring[tail] = task;
+        this.size++;
+
+        this.executor.execute(task);
+    }
+
+    private List<T> convert(List<Map<String, String>> rows) {
+        List<T> models = new ArrayList<>(rows.size());
+        for (Map<String, String> row : rows) {
+            models.add(this.converter.apply(row));
+        }
+
+        return models;
+    }
+
+    private void deliverHead() {
+        Task<T> task = this.ring[this.head];
+        this.ring[this.head] = null;
+        this.head = (this.head + 1) % this.ring.length;
+        this.size--;
+
+        // Converts the batch in this thread if no worker has taken it yet.
+        task.run();
+
+        List<T> models;
+        try {
+            models = task.future.join();
+        } catch (CompletionException e) {
+            cancelAll();
+
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+
+        models.forEach(this.action);
+    }
+
+    private void cancelAll() {
+        for (int i = 0; i < this.ring.length; i++) {
+            if (this.ring[i] != null) {
+                // Makes the task that has not started do nothing.
+                this.ring[i].claimed.set(true);
+                this.ring[i] = null;
+            }
+        }
+
+        this.head = 0;
+        this.size = 0;
+        this.batch.clear();
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Conversion of a batch that is run once by a worker or the reading thread, whichever takes it first
+     */
+    private static final class Task<T> implements Runnable {
+        private final Supplier<List<T>> conversion;
+
+        private final CompletableFuture<List<T>> future = new CompletableFuture<>();
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Task(Supplier<List<T>> conversion) {
+            this.conversion = conversion;
+        }
+
+        @Override
+        public void run() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                this.future.complete(this.conversion.get());
+            } catch (RuntimeException | Error e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.github.javaxcel.core.in.core;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
 
@@ -44,4 +45,18 @@ public interface ExcelReader<T> {
      */
     List<T> read();
 
+    /**
+     * Reads the Excel file and performs the given action for each model in order of rows.
+     *
+     * <p> Implementations may pass each model to the action as soon as it is read,
+     * without holding all the models in memory. The default implementation
+     * reads all the models with {@link #read()} first.
+     *
+     * @param action action to be performed for each model
+     * @since 0.10.0
+     */
+    default void read(Consumer<? super T> action) {
+        read().forEach(action);
+    }
+
 }
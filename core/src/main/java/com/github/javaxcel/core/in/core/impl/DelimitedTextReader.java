@@ -0,0 +1,326 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.core.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ArrayUtils;
+import io.github.imsejin.common.util.StringUtils;
+
+import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.in.context.ExcelReadContext;
+import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.core.in.strategy.impl.KeyNames;
+import com.github.javaxcel.core.in.strategy.impl.Limit;
+import com.github.javaxcel.core.in.strategy.impl.Offset;
+import com.github.javaxcel.core.in.strategy.impl.Projection;
+
+import static java.util.Comparator.*;
+import static java.util.stream.Collectors.*;
+
+/**
+ * Reader for delimited text like CSV and TSV
+ *
+ * <p> The first record is taken as a header and the others are converted to models in the same way as
+ * {@link ModelReader} or {@link MapReader}, so the type handlers, expressions, validations and
+ * model creators are applied to the text. The strategies {@link Limit}, {@link Offset},
+ * {@link Projection} and {@link KeyNames} are supported; {@code Parallel} is ignored.
+ * The lifecycle methods of the reader except {@code prepare} are not called.
+ *
+ * <p> The text is tokenized in a single pass with a fixed-size buffer, and with {@link #read(Consumer)}
+ * each model is passed to the action as soon as its record is read. The given reader is not closed.
+ *
+ * <pre>{@code
+ *     try (Reader reader = Files.newBufferedReader(path)) {
+ *         List<Product> products = Javaxcel.newInstance()
+ *                 .delimitedReader(reader, Product.class, DelimitedTextReader.COMMA)
+ *                 .read();
+ *     }
+ * }</pre>
+ *
+ * @param <T> type of model
+ * @since 0.10.0
+ */
+public class DelimitedTextReader<T> implements ExcelReader<T> {
+
+    /**
+     * Delimiter for CSV.
+     */
+    public static final char COMMA = ',';
+
+    /**
+     * Delimiter for TSV.
+     */
+    public static final char TAB = '\t';
+
+    private final Reader reader;
+
+    private final Class<T> modelType;
+
+    private final char delimiter;
+
+    private final Function<Workbook, Delegate<T>> delegateFactory;
+
+    private ExcelReadStrategy[] strategies = new ExcelReadStrategy[0];
+
+    private DelimitedTextReader(Reader reader, Class<T> modelType, char delimiter,
+            Function<Workbook, Delegate<T>> delegateFactory) {
+        Asserts.that(reader)
+                .describedAs("DelimitedTextReader.reader is not allowed to be null")
+                .isNotNull();
+        Asserts.that(delimiter)
+                .describedAs("DelimitedTextReader.delimiter is not allowed to be double quote, CR or LF: {0}",
+                        delimiter)
+                .isNotEqualTo('"').isNotEqualTo('\r').isNotEqualTo('\n');
+
+        this.reader = reader;
+        this.modelType = modelType;
+        this.delimiter = delimiter;
+        this.delegateFactory = delegateFactory;
+    }
+
+    /**
+     * Creates a reader for model.
+     *
+     * @param reader    source of text
+     * @param modelType type of model
+     * @param registry  registry of handlers for field type
+     * @param delimiter delimiter of fields
+     * @param <T>       type of model
+     * @return reader for model
+     */
+    public static <T> DelimitedTextReader<T> forModel(Reader reader, Class<T> modelType,
+            ExcelTypeHandlerRegistry registry, char delimiter) {
+        Asserts.that(modelType)
+                .describedAs("DelimitedTextReader.modelType is not allowed to be null")
+                .isNotNull();
+
+        return new DelimitedTextReader<>(reader, modelType, delimiter, workbook -> {
+            ModelReader<T> modelReader = new ModelReader<>(workbook, modelType, registry);
+            return new Delegate<T>(ModelReader.class) {
+                @Override
+                void prepare(ExcelReadContext<T> context) {
+                    modelReader.prepare(context);
+                }
+
+                @Override
+                List<String> readHeader(ExcelReadContext<T> context, List<String> firstRecord) {
+                    // To convert Map to the actual model, ignores the header of text as ModelReader does.
+                    return modelReader.readHeader(context);
+                }
+
+                @Override
+                T toModel(Map<String, String> imitatedModel) {
+                    return modelReader.toModel(imitatedModel);
+                }
+            };
+        });
+    }
+
+    /**
+     * Creates a reader for {@link Map}.
+     *
+     * @param reader    source of text
+     * @param delimiter delimiter of fields
+     * @return reader for {@link Map}
+     */
+    public static DelimitedTextReader<Map<String, String>> forMap(Reader reader, char delimiter) {
+        return new DelimitedTextReader<>(reader, MapReader.MAP_TYPE, delimiter,
+                workbook -> new Delegate<Map<String, String>>(MapReader.class) {
+                    @Override
+                    void prepare(ExcelReadContext<Map<String, String>> context) {
+                    }
+
+                    @Override
+                    List<String> readHeader(ExcelReadContext<Map<String, String>> context, List<String> firstRecord) {
+                        // If value in the first record is empty, sets stringified column number as MapReader does.
+                        return IntStream.range(0, firstRecord.size())
+                                .mapToObj(i -> StringUtils.ifNullOrEmpty(firstRecord.get(i), String.valueOf(i)))
+                                .collect(toList());
+                    }
+
+                    @Override
+                    Map<String, String> toModel(Map<String, String> imitatedModel) {
+                        return imitatedModel;
+                    }
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DelimitedTextReader<T> options(ExcelReadStrategy... strategies) {
+        Asserts.that(strategies)
+                .describedAs("strategies is not allowed to be null")
+                .isNotNull()
+                .describedAs("strategies cannot have null element: {0}", ArrayUtils.toString(strategies))
+                .doesNotContainNull();
+
+        if (strategies.length > 0) {
+            this.strategies = strategies.clone();
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> read() {
+        List<T> list = new ArrayList<>();
+        read(list::add);
+
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void read(Consumer<? super T> action) {
+        Asserts.that(action)
+                .describedAs("action is not allowed to be null")
+                .isNotNull();
+
+        // The workbook is only for the context of the delegate; it has no sheet.
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            Delegate<T> delegate = this.delegateFactory.apply(workbook);
+
+            ExcelReadContext<T> context = new ExcelReadContext<>(workbook, this.modelType,
+                    (Class<? extends ExcelReader<T>>) delegate.readerType);
+            context.setStrategyMap(resolveStrategyMap(context));
+            context.setList(Collections.emptyList());
+
+            Map<Class<? extends ExcelReadStrategy>, ExcelReadStrategy> strategyMap = context.getStrategyMap();
+            int limit = strategyMap.containsKey(Limit.class) ? (int) strategyMap.get(Limit.class).execute(context) : -1;
+            int offset = strategyMap.containsKey(Offset.class) ? (int) strategyMap.get(Offset.class).execute(context) : 0;
+            if (strategyMap.containsKey(KeyNames.class)) {
+                context.setHeaderNames((List<String>) strategyMap.get(KeyNames.class).execute(context));
+            }
+
+            // Lifecycle method.
+            delegate.prepare(context);
+
+            DelimitedTextTokenizer tokenizer = new DelimitedTextTokenizer(this.reader, this.delimiter);
+            List<String> record = new ArrayList<>();
+
+            // The first record is a header.
+            if (!tokenizer.next(record)) {
+                return;
+            }
+            if (context.getHeaderNames().isEmpty()) {
+                context.setHeaderNames(delegate.readHeader(context, record));
+            }
+
+            List<String> headerNames = context.getHeaderNames();
+            int[] columnIndices = resolveColumnIndices(context);
+            int skipCount = 0;
+
+            while (context.getReadCount() != limit && tokenizer.next(record)) {
+                // Skips blank line.
+                if (record.size() == 1 && record.get(0) == null) {
+                    continue;
+                }
+
+                // Skips the record without converting its fields.
+                if (skipCount < offset) {
+                    skipCount++;
+                    continue;
+                }
+
+                Map<String, String> map = new HashMap<>();
+                for (int columnIndex : columnIndices) {
+                    String value = columnIndex < record.size() ? record.get(columnIndex) : null;
+                    map.put(headerNames.get(columnIndex), value);
+                }
+
+                // Increases read count of record.
+                context.increaseReadCount();
+
+                action.accept(delegate.toModel(Collections.unmodifiableMap(map)));
+            }
+
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private Map<Class<? extends ExcelReadStrategy>, ExcelReadStrategy> resolveStrategyMap(ExcelReadContext<T> context) {
+        // Equality of ExcelReadStrategy is determined by its class name, as AbstractExcelReader does.
+        return Arrays.stream(this.strategies)
+                .filter(it -> it.isSupported(context))
+                .collect(collectingAndThen(toCollection(() -> new TreeSet<>(comparing(it -> it.getClass().getName()))),
+                        set -> set.stream().collect(collectingAndThen(
+                                toMap(ExcelReadStrategy::getClass, Function.identity()),
+                                Collections::unmodifiableMap))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int[] resolveColumnIndices(ExcelReadContext<?> context) {
+        List<String> headerNames = context.getHeaderNames();
+
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Projection.class);
+        if (strategy == null) {
+            return IntStream.range(0, headerNames.size()).toArray();
+        }
+
+        List<String> names = (List<String>) strategy.execute(context);
+        return IntStream.range(0, headerNames.size())
+                .filter(i -> names.contains(headerNames.get(i))).toArray();
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Reader that converts the imitated models
+     *
+     * @param <T> type of model
+     */
+    private abstract static class Delegate<T> {
+        private final Class<?> readerType;
+
+        private Delegate(Class<?> readerType) {
+            this.readerType = readerType;
+        }
+
+        abstract void prepare(ExcelReadContext<T> context);
+
+        abstract List<String> readHeader(ExcelReadContext<T> context, List<String> firstRecord);
+
+        abstract T toModel(Map<String, String> imitatedModel);
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.core.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tokenizer that splits delimited text into records in a single pass
+ *
+ * <p> This reads the text with a fixed-size char buffer, so it takes constant memory
+ * however large the text is, except for the current record. The quoted fields,
+ * the escaped double quotes and the line breaks CRLF, LF and CR are handled as RFC 4180 specifies.
+ * Byte order mark at the beginning of the text is ignored.
+ *
+ * @since 0.10.0
+ */
+final class DelimitedTextTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char QUOTE = '"';
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private final StringBuilder field = new StringBuilder();
+
+    private int position;
+
+    private int limit;
+
+    private boolean started;
+
+    DelimitedTextTokenizer(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the next record into the given list.
+     *
+     * <p> Empty field is read as null.
+     *
+     * @param fields list to be filled with the fields of the record; it is cleared first
+     * @return whether there was a record
+     * @throws IOException if an I/O error occurs
+     */
+    boolean next(List<String> fields) throws IOException {
+        fields.clear();
+
+        int c = read();
+        if (!this.started) {
+            this.started = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+
+        if (c == EOF) {
+            return false;
+        }
+
+        while (true) {
+            StringBuilder field = this.field;
+            field.setLength(0);
+
+            if (c == QUOTE) {
+                while (true) {
+                    c = read();
+                    if (c == EOF) {
+                        break;
+                    }
+
+                    if (c == QUOTE) {
+                        c = read();
+
+                        // Escaped double quote.
+                        if (c == QUOTE) {
+                            field.append(QUOTE);
+                            continue;
+                        }
+
+                        // Closing double quote.
+                        break;
+                    }
+
+                    field.append((char) c);
+                }
+            }
+
+            // Characters after closing double quote are taken as they are.
+            while (c != EOF && c != this.delimiter && c != '\r' && c != '\n') {
+                field.append((char) c);
+                c = read();
+            }
+
+            fields.add(toValue(field));
+
+            if (c == this.delimiter) {
+                c = read();
+                continue;
+            }
+
+            // Line break of CRLF.
+            if (c == '\r' && peek() == '\n') {
+                this.position++;
+            }
+
+            return true;
+        }
+    }
+
+    @Nullable
+    private static String toValue(StringBuilder field) {
+        return field.length() == 0 ? null : field.toString();
+    }
+
+    private int read() throws IOException {
+        if (this.position == this.limit && !fill()) {
+            return EOF;
+        }
+
+        return this.buffer[this.position++];
+    }
+
+    private int peek() throws IOException {
+        if (this.position == this.limit && !fill()) {
+            return EOF;
+        }
+
+        return this.buffer[this.position];
+    }
+
+    private boolean fill() throws IOException {
+        int length;
+        do {
+            length = this.reader.read(this.buffer, 0, this.buffer.length);
+        } while (length == 0);
+
+        if (length < 0) {
+            return false;
+        }
+
+        this.position = 0;
+        this.limit = length;
+        return true;
+    }
+
+}
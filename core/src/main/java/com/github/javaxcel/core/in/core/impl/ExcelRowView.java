@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.core.impl;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+/**
+ * View of a row that converts each field of model on first access
+ *
+ * <p> This keeps the values of a row as they are read from the cells, and validates and converts
+ * the value of a field only when it is first accessed. The converted value is memoized,
+ * so each field is converted at most once. This is not thread-safe.
+ *
+ * @param <T> type of model
+ * @see ModelReader#readViews(java.util.function.Consumer)
+ * @since 0.10.0
+ */
+public final class ExcelRowView<T> {
+
+    /**
+     * Placeholder for the value that is not converted yet.
+     */
+    private static final Object UNCONVERTED = new Object();
+
+    private final ModelReader<T> reader;
+
+    private final Map<String, String> variables;
+
+    private final Object[] values;
+
+    @Nullable
+    private T model;
+
+    ExcelRowView(ModelReader<T> reader, Map<String, String> variables) {
+        this.reader = reader;
+        this.variables = variables;
+
+        Object[] values = new Object[reader.getProjectedFields().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UNCONVERTED;
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the value of the field converted to its type.
+     *
+     * @param fieldName name of the field
+     * @param <V>       type of the field
+     * @return value of the field
+     * @throws IllegalArgumentException if the field is not read
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <V> V get(String fieldName) {
+        Integer index = this.reader.getProjectedFieldIndex(fieldName);
+        Asserts.that(index)
+                .describedAs("ExcelRowView cannot get the field that is not read: {0}", fieldName)
+                .isNotNull();
+
+        return (V) getValue(index);
+    }
+
+    /**
+     * Returns the value of the field as it is read from the cell.
+     *
+     * @param fieldName name of the field
+     * @return value of the cell, or null if the cell is empty or not read
+     */
+    @Nullable
+    public String getRaw(String fieldName) {
+        return this.variables.get(fieldName);
+    }
+
+    /**
+     * Returns the model with all the fields converted.
+     *
+     * <p> The fields already accessed are not converted again.
+     *
+     * @return model
+     */
+    public T toModel() {
+        if (this.model == null) {
+            List<Field> fields = this.reader.getProjectedFields();
+
+            Map<String, Object> mock = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                mock.put(fields.get(i).getName(), getValue(i));
+            }
+
+            this.model = this.reader.createModel(mock);
+        }
+
+        return this.model;
+    }
+
+    private Object getValue(int index) {
+        Object value = this.values[index];
+        if (value == UNCONVERTED) {
+            Field field = this.reader.getProjectedFields().get(index);
+            value = this.reader.convert(this.variables, field);
+            this.values[index] = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "ExcelRowView" + this.variables;
+    }
+
+}
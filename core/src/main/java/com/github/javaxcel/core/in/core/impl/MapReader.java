@@ -16,18 +16,35 @@
 
 package com.github.javaxcel.core.in.core.impl;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.jetbrains.annotations.Nullable;
 
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ClassUtils;
 import io.github.imsejin.common.util.StringUtils;
 
+import com.github.javaxcel.core.converter.handler.ExcelTypeHandler;
+import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
 import com.github.javaxcel.core.in.context.ExcelReadContext;
 import com.github.javaxcel.core.in.core.AbstractExcelReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+import com.github.javaxcel.core.in.strategy.impl.ColumnTypes;
 
 /**
  * Excel reader for {@link Map}
@@ -37,7 +54,7 @@ import com.github.javaxcel.core.in.core.AbstractExcelReader;
 @SuppressWarnings("unchecked")
 public class MapReader extends AbstractExcelReader<Map<String, String>> {
 
-    private static final Class<Map<String, String>> MAP_TYPE;
+    static final Class<Map<String, String>> MAP_TYPE;
 
     static {
         try {
@@ -51,13 +68,200 @@ public class MapReader extends AbstractExcelReader<Map<String, String>> {
         }
     }
 
+    private final ExcelTypeHandlerRegistry registry;
+
+    /**
+     * Functions that convert the values of the columns declared by {@link ColumnTypes}.
+     */
+    private Map<String, Function<String, Object>> converters = Collections.emptyMap();
+
+    /**
+     * Types of the columns of the current sheet, inferred from the first non-blank cell of each column.
+     */
+    private final Map<String, Class<?>> inferredTypes = new HashMap<>();
+
     /**
      * Create a reader for {@link Map}.
      *
      * @param workbook Excel workbook
      */
     public MapReader(Workbook workbook) {
+        this(workbook, new DefaultExcelTypeHandlerRegistry());
+    }
+
+    /**
+     * Create a reader for {@link Map} that converts the values of typed maps with the handlers in registry.
+     *
+     * @param workbook Excel workbook
+     * @param registry registry of type handlers
+     * @since 0.10.0
+     */
+    public MapReader(Workbook workbook, ExcelTypeHandlerRegistry registry) {
         super(workbook, MAP_TYPE);
+
+        Asserts.that(registry)
+                .describedAs("MapReader.registry is not allowed to be null")
+                .isNotNull();
+
+        this.registry = registry;
+    }
+
+    /**
+     * Reads the Excel file and returns maps with typed values.
+     *
+     * @return maps with typed values
+     * @see #readTyped(Consumer)
+     * @since 0.10.0
+     */
+    public List<Map<String, Object>> readTyped() {
+        List<Map<String, Object>> maps = new ArrayList<>();
+        readTyped(maps::add);
+
+        return maps;
+    }
+
+    /**
+     * Reads the Excel file and performs the given action for each map with typed values in order of rows.
+     *
+     * <p> The values of the columns declared by {@link ColumnTypes} are converted by the type handlers,
+     * from the raw number of numeric cell or the displayed text of the other cells.
+     * The type of each other column is inferred once for each sheet, from the type of the first
+     * non-blank cell in the column; numeric cell as {@link Double}, numeric cell formatted as date
+     * as {@link LocalDateTime} or {@link LocalDate} unless the format has hours, boolean cell
+     * as {@link Boolean} and the others as {@link String} as it is displayed. A cell that doesn't
+     * match the type of its column, such as text in a numeric column, remains a string as it is displayed.
+     *
+     * @param action action to be performed for each map
+     * @since 0.10.0
+     */
+    public void readTyped(Consumer<? super Map<String, Object>> action) {
+        Asserts.that(action)
+                .describedAs("action is not allowed to be null")
+                .isNotNull();
+
+        readRows(this::readTypedValue, action);
+    }
+
+    @Override
+    public void preReadSheet(ExcelReadContext<Map<String, String>> context) {
+        // The columns of each sheet can have different types.
+        this.inferredTypes.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void prepare(ExcelReadContext<Map<String, String>> context) {
+        ExcelReadStrategy strategy = context.getStrategyMap().get(ColumnTypes.class);
+        if (strategy == null) {
+            this.converters = Collections.emptyMap();
+            return;
+        }
+
+        Map<String, Class<?>> types = (Map<String, Class<?>>) strategy.execute(context);
+
+        Map<String, Function<String, Object>> converters = new HashMap<>();
+        types.forEach((name, type) -> converters.put(name, resolveConverter(name, type)));
+        this.converters = converters;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Function<String, Object> resolveConverter(String name, Class<?> type) {
+        if (type == String.class) {
+            return value -> value;
+        }
+
+        ExcelTypeHandler<?> handler = this.registry.getHandler(type);
+
+        // EnumTypeHandler needs a field to resolve the enum type, so converts the value by itself.
+        if (handler == null && ClassUtils.isEnumOrEnumConstant(type)) {
+            return value -> {
+                try {
+                    return Enum.valueOf((Class<? extends Enum>) type, value);
+                } catch (IllegalArgumentException e) {
+                    // When the specified enum type has no constant matched the given name.
+                    return null;
+                }
+            };
+        }
+
+        Asserts.that(handler)
+                .describedAs("MapReader cannot convert the values of column \"{0}\"; there is no handler for {1}",
+                        name, type.getName())
+                .isNotNull();
+
+        return value -> {
+            try {
+                return handler.read(value);
+            } catch (Exception e) {
+                String message = String.format("Failed to convert %s(String) to %s", value, type.getSimpleName());
+                throw new RuntimeException(message, e);
+            }
+        };
+    }
+
+    @Nullable
+    private Object readTypedValue(String name, @Nullable Cell cell) {
+        CellType cellType = resolveCellType(cell);
+
+        Function<String, Object> converter = this.converters.get(name);
+        if (converter != null) {
+            // Passes the raw number to the handler instead of the formatted text like "1,234".
+            String value = cellType == CellType.NUMERIC && !DateUtil.isCellDateFormatted(cell)
+                    ? NumberToTextConverter.toText(cell.getNumericCellValue())
+                    : formatCellValue(cell);
+            return value == null ? null : converter.apply(value);
+        }
+
+        if (cellType == CellType.BLANK || (cellType == CellType.STRING && cell.getStringCellValue().isEmpty())) {
+            return null;
+        }
+
+        Class<?> type = this.inferredTypes.computeIfAbsent(name, k -> inferType(cell, cellType));
+
+        if (type == Boolean.class && cellType == CellType.BOOLEAN) {
+            return cell.getBooleanCellValue();
+        }
+
+        if (cellType == CellType.NUMERIC) {
+            boolean dateFormatted = DateUtil.isCellDateFormatted(cell);
+            if (type == Double.class && !dateFormatted) {
+                return cell.getNumericCellValue();
+            }
+            if (type == LocalDateTime.class && dateFormatted) {
+                return cell.getLocalDateTimeCellValue();
+            }
+            if (type == LocalDate.class && dateFormatted) {
+                return cell.getLocalDateTimeCellValue().toLocalDate();
+            }
+        }
+
+        return formatCellValue(cell);
+    }
+
+    private static CellType resolveCellType(@Nullable Cell cell) {
+        if (cell == null) {
+            return CellType.BLANK;
+        }
+
+        // Infers the type of formula from its cached result.
+        CellType cellType = cell.getCellType();
+        return cellType == CellType.FORMULA ? cell.getCachedFormulaResultType() : cellType;
+    }
+
+    private static Class<?> inferType(Cell cell, CellType cellType) {
+        switch (cellType) {
+            case NUMERIC:
+                if (!DateUtil.isCellDateFormatted(cell)) {
+                    return Double.class;
+                }
+
+                String format = cell.getCellStyle().getDataFormatString().toLowerCase();
+                return format.contains("h") ? LocalDateTime.class : LocalDate.class;
+            case BOOLEAN:
+                return Boolean.class;
+            default:
+                return String.class;
+        }
     }
 
     @Override
@@ -88,4 +292,9 @@ public class MapReader extends AbstractExcelReader<Map<String, String>> {
         return super.readBodyAsMaps(context.getSheet());
     }
 
+    @Override
+    protected Map<String, String> toModel(Map<String, String> imitatedModel) {
+        return imitatedModel;
+    }
+
 }
@@ -19,13 +19,20 @@ package com.github.javaxcel.core.in.core.impl;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.assertion.Asserts;
 
@@ -36,12 +43,15 @@ import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegis
 import com.github.javaxcel.core.converter.in.ExcelReadConverter;
 import com.github.javaxcel.core.converter.in.support.ExcelReadConverters;
 import com.github.javaxcel.core.exception.NoTargetedFieldException;
+import com.github.javaxcel.core.in.column.ColumnTable;
 import com.github.javaxcel.core.in.context.ExcelReadContext;
 import com.github.javaxcel.core.in.core.AbstractExcelReader;
 import com.github.javaxcel.core.in.processor.ExcelModelCreationProcessor;
 import com.github.javaxcel.core.in.resolver.AbstractExcelModelExecutableResolver;
 import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
 import com.github.javaxcel.core.in.strategy.impl.Parallel;
+import com.github.javaxcel.core.in.strategy.impl.Projection;
+import com.github.javaxcel.core.in.strategy.impl.UseSetters;
 import com.github.javaxcel.core.util.FieldUtils;
 import com.github.javaxcel.core.validator.support.ExcelColumnValidators;
 
@@ -69,6 +79,18 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
 
     private ExcelColumnValidators validators;
 
+    /**
+     * The fields that are actually converted from each row.
+     *
+     * @see Projection
+     */
+    private List<Field> projectedFields;
+
+    /**
+     * Indices of {@link #projectedFields} by field name.
+     */
+    private Map<String, Integer> projectedFieldIndices;
+
     /**
      * Creates a reader for model.
      *
@@ -117,6 +139,71 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
 
         // ExcelModelCreationProcessor needs the analyses.
         this.modelProcessor.setAnalyses(analyses);
+
+        resolveProjectedFields(context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resolveProjectedFields(ExcelReadContext<T> context) {
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Projection.class);
+        if (strategy == null) {
+            this.projectedFields = this.fields;
+            this.projectedFieldIndices = toIndices(this.fields);
+            return;
+        }
+
+        List<String> names = (List<String>) strategy.execute(context);
+        List<String> fieldNames = this.fields.stream().map(Field::getName).collect(toList());
+
+        Asserts.that(names)
+                .describedAs("ExcelReadStrategy.Projection.names must be the names of the targeted fields: {0}", names)
+                .allMatch(fieldNames::contains);
+
+        this.projectedFields = this.fields.stream()
+                .filter(it -> names.contains(it.getName()))
+                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        this.projectedFieldIndices = toIndices(this.projectedFields);
+    }
+
+    private static Map<String, Integer> toIndices(List<Field> fields) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            indices.put(fields.get(i).getName(), i);
+        }
+
+        return Collections.unmodifiableMap(indices);
+    }
+
+    /**
+     * Reads the Excel file and performs the given action for each row view in order of rows.
+     *
+     * <p> Unlike {@link #read(Consumer)}, the rows are not converted to the models.
+     * Each field is validated and converted when it is first accessed through the view,
+     * so filtering the rows on a few fields costs only the conversion of those fields.
+     * {@link Parallel} is ignored, because the conversion is deferred to the action.
+     *
+     * <pre>{@code
+     *     ModelReader<Product> reader = (ModelReader<Product>) Javaxcel.newInstance()
+     *             .reader(workbook, Product.class);
+     *
+     *     List<Product> products = new ArrayList<>();
+     *     reader.readViews(view -> {
+     *         Integer price = view.get("price");
+     *         if (price != null && price > 1000) {
+     *             products.add(view.toModel());
+     *         }
+     *     });
+     * }</pre>
+     *
+     * @param action action to be performed for each row view
+     * @since 0.10.0
+     */
+    public void readViews(Consumer<? super ExcelRowView<T>> action) {
+        Asserts.that(action)
+                .describedAs("action is not allowed to be null")
+                .isNotNull();
+
+        readImitatedModels(map -> action.accept(new ExcelRowView<>(this, map)));
     }
 
     @Override
@@ -129,14 +216,15 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
     protected List<T> readBody(ExcelReadContext<T> context) {
         List<Map<String, String>> maps = super.readBodyAsMaps(context.getSheet());
 
-        if (context.getStrategyMap().containsKey(Parallel.class)) {
-            return maps.parallelStream().map(this::toActualModel).collect(toList());
+        ExcelReadStrategy strategy = context.getStrategyMap().get(Parallel.class);
+        if (strategy != null) {
+            return toActualModelsInParallel(maps, (Parallel) strategy.execute(context));
         } else {
             // Makes sure not to grow length of internal array.
             List<T> models = new ArrayList<>(maps.size());
 
             for (Map<String, String> map : maps) {
-                T model = toActualModel(map);
+                T model = toModel(map);
                 models.add(model);
             }
 
@@ -144,28 +232,251 @@ public class ModelReader<T> extends AbstractExcelReader<T> {
         }
     }
 
+    /**
+     * Reads the Excel file and performs the given action for each row with the same model.
+     *
+     * <p> The model is created for the first row, and then its fields are bound again
+     * with the values of each row before the action is performed. So no model is created
+     * for the other rows. The action <b>must not retain the model</b> or pass it to another thread,
+     * because it is overwritten by the next row; copy the values you need instead.
+     * {@link Parallel} is ignored, because the model is bound in the reading thread.
+     *
+     * <p> This is available only when each field to read is bound by setter ({@link UseSetters})
+     * or field access, that is, the model has no final field and its creator has no parameter.
+     *
+     * <pre>{@code
+     *     reader.readReusingModel(product -> batch.add(product.getName(), product.getPrice()));
+     * }</pre>
+     *
+     * @param action action to be performed for each row with the reused model
+     * @throws UnsupportedOperationException if some fields cannot be bound again
+     * @since 0.10.0
+     */
+    public void readReusingModel(Consumer<? super T> action) {
+        Asserts.that(action)
+                .describedAs("action is not allowed to be null")
+                .isNotNull();
+
+        Map<String, Object> mock = new HashMap<>();
+        List<T> holder = new ArrayList<>(1);
+
+        readImitatedModels(variables -> {
+            if (holder.isEmpty()) {
+                List<Field> unboundFields = this.modelProcessor.getUnboundFields(this.projectedFields);
+                Asserts.that(unboundFields)
+                        .describedAs("ModelReader.readReusingModel cannot bind the fields again; "
+                                + "they are final or injected as parameters of model creator: {0}", unboundFields)
+                        .thrownBy(UnsupportedOperationException::new)
+                        .isEmpty();
+            }
+
+            mock.clear();
+            for (Field field : this.projectedFields) {
+                mock.put(field.getName(), convert(variables, field));
+            }
+
+            if (holder.isEmpty()) {
+                holder.add(createModel(mock));
+            } else {
+                this.modelProcessor.bindModel(holder.get(0), mock);
+            }
+
+            action.accept(holder.get(0));
+        });
+    }
+
+    /**
+     * Reads the Excel file into the columns instead of the models.
+     *
+     * <p> Each field is validated and converted in the same way as {@link #read()},
+     * but its value is stored in the column specialized for the type of field without model.
+     * The values of {@code int}, {@code long} and {@code double} are stored in primitive arrays,
+     * and the strings are encoded with dictionary. So the numeric sheets to aggregate
+     * take much less memory than the models. {@link Parallel} is ignored.
+     *
+     * @return table of the columns named as the fields
+     * @see ColumnTable
+     * @since 0.10.0
+     */
+    public ColumnTable readColumns() {
+        ColumnCollector collector = new ColumnCollector();
+        readImitatedModels(collector);
+
+        return collector.getTable();
+    }
+
+    /**
+     * Converts the imitated models to the real models in parallel.
+     *
+     * <p> Each worker takes the next batch of rows until no batch is left, and puts
+     * the models at the same indices as the rows. So the order of models is deterministic
+     * and no more than {@link Parallel#getParallelism()} workers including the current thread
+     * run at the same time.
+     *
+     * @param maps     imitated models
+     * @param parallel strategy for parallel reading
+     * @return real models
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> toActualModelsInParallel(List<Map<String, String>> maps, Parallel parallel) {
+        int size = maps.size();
+        int batchSize = parallel.getBatchSize();
+        int numOfBatches = (size + batchSize - 1) / batchSize;
+        int numOfWorkers = Math.min(parallel.getParallelism(), numOfBatches);
+
+        Object[] models = new Object[size];
+        AtomicInteger cursor = new AtomicInteger();
+
+        Runnable worker = () -> {
+            int batchIndex;
+            while ((batchIndex = cursor.getAndIncrement()) < numOfBatches) {
+                int start = batchIndex * batchSize;
+                int end = Math.min(start + batchSize, size);
+
+                try {
+                    for (int i = start; i < end; i++) {
+                        models[i] = toModel(maps.get(i));
+                    }
+                } catch (RuntimeException | Error e) {
+                    // Stops the other workers from taking the next batch.
+                    cursor.set(numOfBatches);
+                    throw e;
+                }
+            }
+        };
+
+        // The current thread converts the batches as well, and takes over the workers that have not started.
+        // So reading doesn't wait for a worker that cannot be scheduled, for example when it runs on
+        // a thread of the executor.
+        int numOfHelpers = Math.max(numOfWorkers - 1, 0);
+        AtomicBoolean[] claims = new AtomicBoolean[numOfHelpers];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[numOfHelpers];
+        for (int i = 0; i < futures.length; i++) {
+            AtomicBoolean claim = claims[i] = new AtomicBoolean();
+            futures[i] = CompletableFuture.runAsync(() -> {
+                if (claim.compareAndSet(false, true)) {
+                    worker.run();
+                }
+            }, parallel.getExecutor());
+        }
+
+        Throwable failure = null;
+        try {
+            worker.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+
+        for (int i = 0; i < futures.length; i++) {
+            // Doesn't wait for the worker that will do nothing.
+            if (claims[i].compareAndSet(false, true)) {
+                futures[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (failure == null) {
+                failure = e.getCause();
+            } else {
+                failure.addSuppressed(e.getCause());
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+
+        return new ArrayList<>((List<T>) Arrays.asList(models));
+    }
+
     /**
      * Converts an imitated model to the real model.
      *
      * @param variables variables
      * @return real model
      */
-    private T toActualModel(Map<String, String> variables) {
+    @Override
+    protected T toModel(Map<String, String> variables) {
         // Creates a mock model for actual model.
+        // The fields excluded by projection are left out of the mock.
         Map<String, Object> mock = new HashMap<>();
-        for (Field field : this.fields) {
-            String key = field.getName();
+        for (Field field : this.projectedFields) {
+            mock.put(field.getName(), convert(variables, field));
+        }
+
+        return createModel(mock);
+    }
 
-            // Validates each column value.
-            String columnValue = variables.get(key);
-            this.validators.validate(columnValue, field);
+    /**
+     * Validates the column value of the field and converts it.
+     *
+     * @param variables values of a row
+     * @param field     targeted field
+     * @return value converted to the type of field
+     */
+    Object convert(Map<String, String> variables, Field field) {
+        // Validates each column value.
+        String columnValue = variables.get(field.getName());
+        this.validators.validate(columnValue, field);
 
-            Object value = this.converter.convert(variables, field);
+        return this.converter.convert(variables, field);
+    }
+
+    T createModel(Map<String, Object> mock) {
+        return this.modelProcessor.createModel(mock);
+    }
 
-            mock.put(key, value);
+    List<Field> getProjectedFields() {
+        return this.projectedFields;
+    }
+
+    @Nullable
+    Integer getProjectedFieldIndex(String fieldName) {
+        return this.projectedFieldIndices.get(fieldName);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Collector that converts the imitated models into the columns.
+     *
+     * <p> The projected fields are resolved on {@link #prepare(ExcelReadContext)},
+     * so this creates the table on the first row or after reading.
+     */
+    private final class ColumnCollector implements Consumer<Map<String, String>> {
+        private ColumnTable table;
+
+        private Object[] values;
+
+        @Override
+        public void accept(Map<String, String> variables) {
+            ColumnTable table = getTable();
+
+            List<Field> fields = ModelReader.this.projectedFields;
+            for (int i = 0; i < fields.size(); i++) {
+                this.values[i] = convert(variables, fields.get(i));
+            }
+
+            table.addRow(this.values);
         }
 
-        return this.modelProcessor.createModel(mock);
+        private ColumnTable getTable() {
+            if (this.table == null) {
+                List<Field> fields = ModelReader.this.projectedFields;
+                List<String> names = fields.stream().map(Field::getName).collect(toList());
+                List<Class<?>> types = fields.stream().<Class<?>>map(Field::getType).collect(toList());
+
+                this.table = new ColumnTable(names, types);
+                this.values = new Object[fields.size()];
+            }
+
+            return this.table;
+        }
     }
 
 }
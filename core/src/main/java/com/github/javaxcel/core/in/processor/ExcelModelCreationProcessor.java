@@ -20,14 +20,16 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ClassUtils;
 import io.github.imsejin.common.util.CollectionUtils;
-import io.github.imsejin.common.util.ReflectionUtils;
 
 import com.github.javaxcel.core.analysis.ExcelAnalysis;
 import com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer;
@@ -36,6 +38,7 @@ import com.github.javaxcel.core.converter.in.ExcelReadConverter;
 import com.github.javaxcel.core.exception.NoTargetedFieldException;
 import com.github.javaxcel.core.in.resolver.ExcelModelExecutableParameterNameResolver;
 import com.github.javaxcel.core.in.resolver.ExcelModelExecutableParameterNameResolver.ResolvedParameter;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
 import com.github.javaxcel.core.util.FieldUtils;
 
 import static java.util.stream.Collectors.*;
@@ -52,46 +55,28 @@ public class ExcelModelCreationProcessor<T> {
 
     private final List<Field> fields;
 
+    private final List<ResolvedParameter> resolvedParameters;
+
     /**
-     * For cache
-     *
-     * <p> The following table is a benchmark with 100,000 rows.
-     *
-     * <pre>
-     *     +-----+-----------+-----------+
-     *     | try | cached    | no cache  |
-     *     +-----+-----------+-----------+
-     *     | 1   | 3.809887s | 3.978322s |
-     *     +-----+-----------+-----------+
-     *     | 2   | 2.732647s | 2.751642s |
-     *     +-----+-----------+-----------+
-     *     | 3   | 2.661144s | 2.760901s |
-     *     +-----+-----------+-----------+
-     *     | 4   | 2.745241s | 2.801942s |
-     *     +-----+-----------+-----------+
-     *     | 5   | 2.526665s | 2.596132s |
-     *     +-----+-----------+-----------+
-     *     | 6   | 2.713802s | 2.622913s |
-     *     +-----+-----------+-----------+
-     *     | 7   | 2.505731s | 2.594136s |
-     *     +-----+-----------+-----------+
-     *     | 8   | 2.51782s  | 2.634646s |
-     *     +-----+-----------+-----------+
-     *     | 9   | 2.506474s | 2.703751s |
-     *     +-----+-----------+-----------+
-     *     | 10  | 2.532037s | 2.604461s |
-     *     +-----+-----------+-----------+
-     * </pre>
-     *
-     * <p> Each average is 2.725144s and 2.804884s. More efficient about 2.8%.
+     * Keys of mock whose values are passed as arguments of the model creator.
      */
-    private final Executable executable;
+    private final String[] argumentKeys;
 
-    private final List<ResolvedParameter> resolvedParameters;
+    /**
+     * Initial values of parameter types, which are passed when the key doesn't exist in mock.
+     */
+    private final Object[] initialArguments;
 
-    private List<ExcelAnalysis> analyses;
+    /**
+     * Function that calls the model creator; it doesn't use reflection if the model has generated mapper.
+     */
+    private final Function<Object[], T> creator;
 
-    private Map<Field, Method> setterMap;
+    /**
+     * Functions that bind the value to each field through setter or field access.
+     * The element is null if the field is final or injected as parameter of the executable.
+     */
+    private BiConsumer<Object, Object>[] binders;
 
     /**
      * Instantiates a new processor.
@@ -128,26 +113,17 @@ public class ExcelModelCreationProcessor<T> {
             executable.setAccessible(true);
         }
 
-        this.executable = executable;
-
         // Parameters are already validated on AbstractExcelModelExecutableResolver.
         this.resolvedParameters = new ExcelModelExecutableParameterNameResolver(executable).resolve();
+        this.argumentKeys = this.resolvedParameters.stream().map(this::resolveArgumentKey).toArray(String[]::new);
+        this.initialArguments = this.resolvedParameters.stream()
+                .map(it -> ClassUtils.initialValueOf(it.getType())).toArray();
+        this.creator = ExcelModelMappers.getCreator(executable);
+        this.binders = resolveBinders(null);
     }
 
     public void setAnalyses(List<ExcelAnalysis> analyses) {
-        Map<Field, Method> setterMap = new HashMap<>();
-
-        for (ExcelAnalysis analysis : analyses) {
-            if (analysis.hasFlag(ExcelReadAnalyzer.SETTER)) {
-                Field field = analysis.getField();
-                Method setter = FieldUtils.resolveSetter(field);
-
-                setterMap.put(field, setter);
-            }
-        }
-
-        this.analyses = analyses;
-        this.setterMap = Collections.unmodifiableMap(setterMap);
+        this.binders = resolveBinders(analyses);
     }
 
     /**
@@ -159,14 +135,58 @@ public class ExcelModelCreationProcessor<T> {
      * @param mock mock of the model
      * @return model
      */
-    @SuppressWarnings("unchecked")
     public T createModel(Map<String, Object> mock) {
         Object[] arguments = resolveInitialArguments(mock);
 
         // Instantiates the actual model through the cached ExcelModelCreator.
-        T model = (T) ReflectionUtils.execute(this.executable, null, arguments);
+        T model = this.creator.apply(arguments);
+        bindModel(model, mock);
+
+        return model;
+    }
 
+    /**
+     * Binds the values of mock to the model already created.
+     *
+     * <p> The fields that are final or injected as parameters of model creator are not bound.
+     *
+     * @param model model
+     * @param mock  mock of the model
+     * @since 0.10.0
+     */
+    public void bindModel(T model, Map<String, Object> mock) {
+        for (int i = 0; i < this.fields.size(); i++) {
+            BiConsumer<Object, Object> binder = this.binders[i];
+            if (binder == null) {
+                continue;
+            }
+
+            Field field = this.fields.get(i);
+
+            // Leaves the field excluded by projection as it is.
+            if (!mock.containsKey(field.getName())) {
+                continue;
+            }
+
+            binder.accept(model, mock.get(field.getName()));
+        }
+    }
+
+    /**
+     * Returns the fields that are not bound by {@link #bindModel(Object, Map)}.
+     *
+     * @param fields targeted fields
+     * @return fields that are final or injected as parameters of model creator
+     * @since 0.10.0
+     */
+    public List<Field> getUnboundFields(List<Field> fields) {
+        return fields.stream().filter(it -> this.binders[this.fields.indexOf(it)] == null).collect(toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object>[] resolveBinders(@Nullable List<ExcelAnalysis> analyses) {
         List<String> paramNames = this.resolvedParameters.stream().map(ResolvedParameter::getName).collect(toList());
+        BiConsumer<Object, Object>[] binders = new BiConsumer[this.fields.size()];
 
         for (int i = 0; i < this.fields.size(); i++) {
             Field field = this.fields.get(i);
@@ -181,24 +201,36 @@ public class ExcelModelCreationProcessor<T> {
                 continue;
             }
 
-            Object value = mock.get(field.getName());
-
-            if (!CollectionUtils.isNullOrEmpty(this.analyses)) {
-                ExcelAnalysis analysis = this.analyses.get(i);
-
-                // Binds the argument through setter for the field.
-                if (analysis.hasFlag(ExcelReadAnalyzer.SETTER)) {
-                    Method setter = this.setterMap.get(field);
-                    ReflectionUtils.invoke(setter, model, value);
-                    continue;
-                }
+            // Binds the argument through setter for the field.
+            if (!CollectionUtils.isNullOrEmpty(analyses) && analyses.get(i).hasFlag(ExcelReadAnalyzer.SETTER)) {
+                Method setter = FieldUtils.resolveSetter(field);
+                binders[i] = ExcelModelMappers.getSetter(field, setter);
+                continue;
             }
 
             // Without setter, binds the argument to the field directly.
-            ReflectionUtils.setFieldValue(model, field, value);
+            binders[i] = ExcelModelMappers.getFieldWriter(field);
         }
 
-        return model;
+        return binders;
+    }
+
+    /**
+     * Returns the key of mock that is mapped to the parameter.
+     *
+     * @param resolvedParam parameter of model creator
+     */
+    private String resolveArgumentKey(ResolvedParameter resolvedParam) {
+        String paramName = resolvedParam.getName();
+        if (this.fields.stream().anyMatch(it -> it.getName().equals(paramName))) {
+            return paramName;
+        }
+
+        // It is able to map argument to this parameter
+        // when its type is unique on the fields that model class has
+        // even though both parameter name and field type is not matched.
+        return this.fields.stream().filter(it -> it.getType() == resolvedParam.getType())
+                .map(Field::getName).findFirst().orElse(paramName);
     }
 
     /**
@@ -207,7 +239,7 @@ public class ExcelModelCreationProcessor<T> {
      * @param mock mock model
      */
     private Object[] resolveInitialArguments(Map<String, Object> mock) {
-        int argumentCount = this.resolvedParameters.size();
+        int argumentCount = this.argumentKeys.length;
 
         // Reduces unnecessary cost of the creation.
         if (argumentCount == 0) {
@@ -217,19 +249,11 @@ public class ExcelModelCreationProcessor<T> {
         Object[] arguments = new Object[argumentCount];
 
         for (int i = 0; i < arguments.length; i++) {
-            ResolvedParameter resolvedParam = this.resolvedParameters.get(i);
-            String paramName = resolvedParam.getName();
-
-            if (mock.containsKey(paramName)) {
-                arguments[i] = mock.get(paramName);
-                continue;
-            }
+            String key = this.argumentKeys[i];
+            Object value = mock.get(key);
 
-            // It is able to map argument to this parameter
-            // when its type is unique on the fields that model class has
-            // even though both parameter name and field type is not matched.
-            Field field = this.fields.stream().filter(it -> it.getType() == resolvedParam.getType()).findFirst().get();
-            arguments[i] = mock.get(field.getName());
+            // When the field of the key is excluded by projection, passes initial value of the type.
+            arguments[i] = value != null || mock.containsKey(key) ? value : this.initialArguments[i];
         }
 
         return arguments;
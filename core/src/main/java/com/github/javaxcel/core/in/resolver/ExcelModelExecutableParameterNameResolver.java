@@ -16,22 +16,29 @@
 
 package com.github.javaxcel.core.in.resolver;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.jetbrains.annotations.Nullable;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.CollectionUtils;
+import io.github.imsejin.common.util.ReflectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 
 import com.github.javaxcel.core.annotation.ExcelModelCreator.FieldName;
 import com.github.javaxcel.core.exception.InvalidExcelModelCreatorException;
+import com.github.javaxcel.core.mapper.ExcelModelMappers;
+import com.github.javaxcel.core.mapper.ExcelParameterMetadata;
 
 import lombok.Getter;
 
@@ -44,6 +51,18 @@ import static java.util.stream.Collectors.*;
  */
 public class ExcelModelExecutableParameterNameResolver {
 
+    /**
+     * Method {@code Class.getRecordComponents()}, or null if Java version is below 16.
+     */
+    @Nullable
+    private static final Method GET_RECORD_COMPONENTS = findMethod("java.lang.Class", "getRecordComponents");
+
+    @Nullable
+    private static final Method GET_RECORD_COMPONENT_NAME = findMethod("java.lang.reflect.RecordComponent", "getName");
+
+    @Nullable
+    private static final Method GET_RECORD_COMPONENT_TYPE = findMethod("java.lang.reflect.RecordComponent", "getType");
+
     private final Executable executable;
 
     private final List<Parameter> parameters;
@@ -60,8 +79,22 @@ public class ExcelModelExecutableParameterNameResolver {
             return Collections.emptyList();
         }
 
-        List<ResolvedParameter> resolvedParameters = this.parameters.stream()
-                .map(MethodParameter::forParameter).map(ResolvedParameter::new).collect(toList());
+        // Uses the field names that the parameters are mapped to at compile time without reading the annotations.
+        List<ExcelParameterMetadata> metadata = ExcelModelMappers.getParameterMetadata(this.executable);
+        if (metadata != null && metadata.size() == this.parameters.size()) {
+            List<ResolvedParameter> resolvedParameters = this.parameters.stream().map(MethodParameter::forParameter)
+                    .map(it -> new ResolvedParameter(it, metadata.get(it.getParameterIndex())))
+                    .collect(toList());
+
+            return Collections.unmodifiableList(resolvedParameters);
+        }
+
+        // Uses the parameter names from generated mapper or record components instead of discovering them.
+        List<String> generatedNames = ExcelModelMappers.getParameterNames(this.executable);
+        List<String> names = generatedNames == null ? getRecordComponentNames(this.executable) : generatedNames;
+        List<ResolvedParameter> resolvedParameters = this.parameters.stream().map(MethodParameter::forParameter)
+                .map(it -> new ResolvedParameter(it, names == null ? null : names.get(it.getParameterIndex())))
+                .collect(toList());
 
         Asserts.that(resolvedParameters)
                 .describedAs("Failed to discover parameter names of {0}[{1}]",
@@ -74,6 +107,49 @@ public class ExcelModelExecutableParameterNameResolver {
         return Collections.unmodifiableList(resolvedParameters);
     }
 
+    /**
+     * Returns the component names of record if the executable is its canonical constructor.
+     *
+     * <p> Unlike the parameter names, the component names are always kept in class file,
+     * so the parameters of canonical constructor are resolved without compiler option {@code -parameters}.
+     *
+     * @param executable model creator
+     * @return component names, or null if the executable is not canonical constructor of record
+     */
+    @Nullable
+    private static List<String> getRecordComponentNames(Executable executable) {
+        if (GET_RECORD_COMPONENTS == null || !(executable instanceof Constructor)) {
+            return null;
+        }
+
+        // Returns null if the class is not a record.
+        Object[] components = (Object[]) ReflectionUtils.invoke(GET_RECORD_COMPONENTS, executable.getDeclaringClass());
+        if (components == null || components.length != executable.getParameterCount()) {
+            return null;
+        }
+
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        List<String> names = new ArrayList<>(components.length);
+        for (int i = 0; i < components.length; i++) {
+            if (ReflectionUtils.invoke(GET_RECORD_COMPONENT_TYPE, components[i]) != parameterTypes[i]) {
+                return null;
+            }
+
+            names.add((String) ReflectionUtils.invoke(GET_RECORD_COMPONENT_NAME, components[i]));
+        }
+
+        return names;
+    }
+
+    @Nullable
+    private static Method findMethod(String className, String methodName) {
+        try {
+            return Class.forName(className).getMethod(methodName);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     public static final class ResolvedParameter {
@@ -85,7 +161,7 @@ public class ExcelModelExecutableParameterNameResolver {
         private final boolean annotated;
         private final MethodParameter methodParameter;
 
-        private ResolvedParameter(MethodParameter methodParameter) {
+        private ResolvedParameter(MethodParameter methodParameter, @Nullable String generatedName) {
             FieldName annotation = methodParameter.getParameterAnnotation(FieldName.class);
             boolean annotated = annotation != null;
 
@@ -100,6 +176,8 @@ public class ExcelModelExecutableParameterNameResolver {
                             "@FieldName.value is not allowed to be blank[%s]; Specify the proper value or detach the annotation from that parameter[%s] of %s[%s]",
                             name, methodParameter.getParameter(), executableName, executable);
                 }
+            } else if (generatedName != null) {
+                name = generatedName;
             } else {
                 methodParameter.initParameterNameDiscovery(DISCOVERER);
                 name = methodParameter.getParameterName();
@@ -110,6 +188,12 @@ public class ExcelModelExecutableParameterNameResolver {
             this.methodParameter = methodParameter;
         }
 
+        private ResolvedParameter(MethodParameter methodParameter, ExcelParameterMetadata metadata) {
+            this.name = metadata.getFieldName();
+            this.annotated = metadata.isAnnotated();
+            this.methodParameter = methodParameter;
+        }
+
         public Class<?> getType() {
             return this.methodParameter.getParameterType();
         }
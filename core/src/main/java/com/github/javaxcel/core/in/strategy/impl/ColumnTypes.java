@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.strategy.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.StringUtils;
+
+import com.github.javaxcel.core.in.context.ExcelReadContext;
+import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.core.impl.MapReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+
+/**
+ * Strategy for declaring the types of columns when reading typed maps
+ *
+ * <p> The values of the declared columns are converted by the type handlers,
+ * and the types of the others are inferred from their values.
+ *
+ * <pre>{@code
+ *     Map<String, Class<?>> types = new HashMap<>();
+ *     types.put("price", BigDecimal.class);
+ *     types.put("code", String.class);
+ *
+ *     MapReader reader = new MapReader(workbook);
+ *     reader.options(new ColumnTypes(types));
+ *     List<Map<String, Object>> maps = reader.readTyped();
+ * }</pre>
+ *
+ * @see MapReader#readTyped()
+ * @since 0.10.0
+ */
+public class ColumnTypes implements ExcelReadStrategy {
+
+    private final Map<String, Class<?>> types;
+
+    /**
+     * Strategy for declaring the types of columns.
+     *
+     * @param types types of values with key names
+     * @throws IllegalArgumentException if types is invalid
+     */
+    public ColumnTypes(Map<String, Class<?>> types) {
+        Asserts.that(types)
+                .describedAs("ExcelReadStrategy.ColumnTypes.types is not allowed to be null or empty: {0}", types)
+                .isNotNull().isNotEmpty();
+        Asserts.that(new ArrayList<>(types.keySet()))
+                .describedAs("ExcelReadStrategy.ColumnTypes.types cannot have null or blank key: {0}", types)
+                .noneMatch(StringUtils::isNullOrBlank);
+        Asserts.that(new ArrayList<>(types.values()))
+                .describedAs("ExcelReadStrategy.ColumnTypes.types cannot have null value: {0}", types)
+                .noneMatch(Objects::isNull);
+
+        this.types = Collections.unmodifiableMap(new HashMap<>(types));
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.types;
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.strategy.impl;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+import com.github.javaxcel.core.in.context.ExcelReadContext;
+import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.core.impl.MapReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+
+/**
+ * Strategy for reading each row as a compact map
+ *
+ * <p> The maps of a sheet share a table of the header names, and each map has only
+ * an array of the cell values. So the maps are several times smaller and faster to create
+ * than {@link java.util.HashMap}. They are immutable as before.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .reader(workbook)
+ *             .options(new CompactMaps())
+ *             .read();
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class CompactMaps implements ExcelReadStrategy {
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    @ExcludeFromGeneratedJacocoReport
+    public Object execute(ExcelReadContext<?> context) {
+        throw new UnsupportedOperationException(
+                "ExcelReadStrategy." + getClass().getSimpleName() + " is not supported");
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.strategy.impl;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.in.context.ExcelReadContext;
+import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.core.impl.MapReader;
+import com.github.javaxcel.core.in.core.impl.ModelReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+
+/**
+ * Strategy for skipping the leading models when reading
+ *
+ * <p> The rows before the offset are skipped without their cells being formatted
+ * or converted, so combining this with {@link Limit} reads a page of models.
+ *
+ * <pre>{@code
+ *     // Reads the models from 10,000th to 10,049th.
+ *     Javaxcel.newInstance()
+ *             .reader(workbook, Product.class)
+ *             .options(new Offset(10_000), new Limit(50))
+ *             .read();
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class Offset implements ExcelReadStrategy {
+
+    private final int value;
+
+    /**
+     * Strategy for skipping the leading models.
+     *
+     * @param value the number of models to skip
+     */
+    public Offset(int value) {
+        Asserts.that(value)
+                .describedAs("ExcelReadStrategy.Offset.value is not allowed to be negative")
+                .isZeroOrPositive();
+
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.value;
+    }
+
+}
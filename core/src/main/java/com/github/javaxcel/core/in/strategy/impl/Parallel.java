@@ -16,7 +16,11 @@
 
 package com.github.javaxcel.core.in.strategy.impl;
 
-import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import io.github.imsejin.common.assertion.Asserts;
 
 import com.github.javaxcel.core.in.context.ExcelReadContext;
 import com.github.javaxcel.core.in.core.ExcelReader;
@@ -45,10 +49,118 @@ import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
  *     +------------+------------+----------+
  * </code></pre>
  *
+ * <p> The rows are split into batches and at most {@code parallelism} batches are converted
+ * at the same time on the given executor. The order of models is the same as the order of rows
+ * regardless of which batch is converted first. By default, this runs on the common
+ * {@link ForkJoinPool}; to isolate the conversion from the other parallel tasks, give it
+ * a dedicated executor.
+ *
+ * <p> Don't read with this strategy in a task running on the same executor. The reading thread
+ * occupies one of the threads the conversion needs, and the other threads may be busy with the same kind
+ * of tasks. The reading thread converts the batches no worker has taken yet, so that the reading doesn't
+ * deadlock, but then the conversion is no longer parallel.
+ *
+ * <pre>{@code
+ *     ExecutorService executor = Executors.newFixedThreadPool(4);
+ *
+ *     Javaxcel.newInstance()
+ *             .reader(workbook, Product.class)
+ *             .options(new Parallel(executor, 4, 1000))
+ *             .read();
+ * }</pre>
+ *
  * @since 0.8.0
  */
 public class Parallel implements ExcelReadStrategy {
 
+    /**
+     * Default number of rows converted in a task.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Executor executor;
+
+    private final int parallelism;
+
+    private final int batchSize;
+
+    /**
+     * Strategy for parallel reading on the common {@link ForkJoinPool}.
+     */
+    public Parallel() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for parallel reading on the given executor.
+     *
+     * <p> The parallelism is resolved from {@link ForkJoinPool#getParallelism()} or
+     * {@link ThreadPoolExecutor#getMaximumPoolSize()}, which is capped at the number of processors.
+     * For the other executors, use {@link #Parallel(Executor, int, int)}.
+     *
+     * @param executor executor that runs the conversion
+     * @throws IllegalArgumentException if executor is null, or it is neither {@link ForkJoinPool}
+     *                                  nor {@link ThreadPoolExecutor}
+     * @since 0.10.0
+     */
+    public Parallel(Executor executor) {
+        this(executor, resolveParallelism(executor), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Strategy for parallel reading on the given executor.
+     *
+     * @param executor    executor that runs the conversion
+     * @param parallelism maximum number of batches converted at the same time
+     * @param batchSize   number of rows converted in a task
+     * @throws IllegalArgumentException if executor is null, or parallelism or batch size is not positive
+     * @since 0.10.0
+     */
+    public Parallel(Executor executor, int parallelism, int batchSize) {
+        Asserts.that(executor)
+                .describedAs("ExcelReadStrategy.Parallel.executor is not allowed to be null")
+                .isNotNull();
+        Asserts.that(parallelism)
+                .describedAs("ExcelReadStrategy.Parallel.parallelism must be positive, but it isn't: {0}", parallelism)
+                .isPositive();
+        Asserts.that(batchSize)
+                .describedAs("ExcelReadStrategy.Parallel.batchSize must be positive, but it isn't: {0}", batchSize)
+                .isPositive();
+
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    private static int resolveParallelism(Executor executor) {
+        Asserts.that(executor)
+                .describedAs("ExcelReadStrategy.Parallel.executor is not allowed to be null")
+                .isNotNull()
+                .describedAs("ExcelReadStrategy.Parallel.parallelism cannot be resolved from the executor; "
+                        + "give it explicitly: {0}", executor)
+                .is(it -> it instanceof ForkJoinPool || it instanceof ThreadPoolExecutor);
+
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+
+        // Cached thread pool has no limit of threads.
+        int maximumPoolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        return Math.min(maximumPoolSize, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
     @Override
     public boolean isSupported(ExcelReadContext<?> context) {
         Class<? extends ExcelReader<?>> writerType = context.getReaderType();
@@ -56,10 +168,8 @@ public class Parallel implements ExcelReadStrategy {
     }
 
     @Override
-    @ExcludeFromGeneratedJacocoReport
     public Object execute(ExcelReadContext<?> context) {
-        throw new UnsupportedOperationException(
-                "ExcelReadStrategy." + getClass().getSimpleName() + " is not supported");
+        return this;
     }
 
 }
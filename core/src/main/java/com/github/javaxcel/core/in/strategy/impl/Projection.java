@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.strategy.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.StringUtils;
+
+import com.github.javaxcel.core.in.context.ExcelReadContext;
+import com.github.javaxcel.core.in.core.ExcelReader;
+import com.github.javaxcel.core.in.core.impl.MapReader;
+import com.github.javaxcel.core.in.core.impl.ModelReader;
+import com.github.javaxcel.core.in.strategy.ExcelReadStrategy;
+
+/**
+ * Strategy for reading only the specific columns
+ *
+ * <p> The cells of the other columns are not formatted, and for {@link ModelReader}
+ * the other fields are neither validated nor converted; they remain initial values.
+ * Note that expressions of the projected fields can refer to the projected columns only.
+ *
+ * <pre>{@code
+ *     // Reads only the fields "name" and "price" of the product.
+ *     Javaxcel.newInstance()
+ *             .reader(workbook, Product.class)
+ *             .options(new Projection(Arrays.asList("name", "price")))
+ *             .read();
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class Projection implements ExcelReadStrategy {
+
+    private final List<String> names;
+
+    /**
+     * Strategy for reading only the specific columns.
+     *
+     * @param names field names for {@link ModelReader} or key names for {@link MapReader}
+     * @throws IllegalArgumentException if names is invalid
+     */
+    public Projection(List<String> names) {
+        Asserts.that(names)
+                .describedAs("ExcelReadStrategy.Projection.names is not allowed to be null or empty: {0}", names)
+                .isNotNull().isNotEmpty()
+                .describedAs("ExcelReadStrategy.Projection.names cannot have null or blank element: {0}", names)
+                .noneMatch(StringUtils::isNullOrBlank)
+                .describedAs("ExcelReadStrategy.Projection.names cannot have duplicated elements: {0}", names)
+                .doesNotHaveDuplicates();
+
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+    }
+
+    @Override
+    public boolean isSupported(ExcelReadContext<?> context) {
+        Class<? extends ExcelReader<?>> readerType = context.getReaderType();
+        return ModelReader.class.isAssignableFrom(readerType) || MapReader.class.isAssignableFrom(readerType);
+    }
+
+    @Override
+    public Object execute(ExcelReadContext<?> context) {
+        return this.names;
+    }
+
+}
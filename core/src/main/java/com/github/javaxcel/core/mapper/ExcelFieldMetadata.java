@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.mapper;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer;
+import com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer;
+import com.github.javaxcel.core.annotation.ExcelColumn;
+import com.github.javaxcel.core.annotation.ExcelModel;
+import com.github.javaxcel.core.annotation.ExcelReadExpression;
+import com.github.javaxcel.core.annotation.ExcelValidation;
+import com.github.javaxcel.core.annotation.ExcelWriteExpression;
+
+/**
+ * Metadata of a field analyzed at compile time
+ *
+ * <p> The annotation processor generates this into {@link ExcelModelMapper} for each field,
+ * so the analyzers take the annotations, accessors and type of the field from this
+ * instead of reading them with reflection. The options given at runtime still take precedence.
+ *
+ * @see ExcelModelMapper#getFieldMetadata(String)
+ * @since 0.10.0
+ */
+@Getter
+@ToString
+public final class ExcelFieldMetadata {
+
+    /**
+     * Flags for writing, which is {@link ExcelWriteAnalyzer#EXPRESSION} or {@link ExcelWriteAnalyzer#HANDLER}
+     * with {@link ExcelWriteAnalyzer#GETTER} if the field has a public getter.
+     */
+    private final int writeFlags;
+
+    /**
+     * Flags for reading, which is {@link ExcelReadAnalyzer#EXPRESSION} or {@link ExcelReadAnalyzer#HANDLER}
+     * with {@link ExcelReadAnalyzer#SETTER} if the field has a public setter.
+     */
+    private final int readFlags;
+
+    /**
+     * Concrete type of the field, which is the key of handler in registry.
+     * This is null if the type isn't accessible from the mapper.
+     */
+    @Nullable
+    private final Class<?> concreteType;
+
+    /**
+     * Non-empty {@link ExcelColumn#defaultValue()}.
+     */
+    @Nullable
+    private final String columnDefaultValue;
+
+    /**
+     * Non-empty {@link ExcelModel#defaultValue()} on the class that declares the field.
+     */
+    @Nullable
+    private final String modelDefaultValue;
+
+    /**
+     * {@link ExcelWriteExpression#value()}, or null if the field isn't annotated with it.
+     */
+    @Nullable
+    private final String writeExpression;
+
+    /**
+     * {@link ExcelReadExpression#value()}, or null if the field isn't annotated with it.
+     */
+    @Nullable
+    private final String readExpression;
+
+    /**
+     * Binary names of {@link ExcelValidation#validators()}.
+     */
+    private final List<String> validatorNames;
+
+    /**
+     * Non-empty {@link ExcelValidation#regexp()}.
+     */
+    @Nullable
+    private final String regexp;
+
+    /**
+     * {@link ExcelValidation#flags()}.
+     */
+    private final int regexpFlags;
+
+    public ExcelFieldMetadata(int writeFlags, int readFlags, @Nullable Class<?> concreteType,
+            @Nullable String columnDefaultValue, @Nullable String modelDefaultValue,
+            @Nullable String writeExpression, @Nullable String readExpression,
+            List<String> validatorNames, @Nullable String regexp, int regexpFlags) {
+        this.writeFlags = writeFlags;
+        this.readFlags = readFlags;
+        this.concreteType = concreteType;
+        this.columnDefaultValue = columnDefaultValue;
+        this.modelDefaultValue = modelDefaultValue;
+        this.writeExpression = writeExpression;
+        this.readExpression = readExpression;
+        this.validatorNames = Collections.unmodifiableList(validatorNames);
+        this.regexp = regexp;
+        this.regexpFlags = regexpFlags;
+    }
+
+}
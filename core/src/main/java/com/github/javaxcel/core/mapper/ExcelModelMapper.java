@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.mapper;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mapper that accesses the members of a model class without reflection
+ *
+ * <p> The implementation is generated at compile time by the annotation processor
+ * in {@code javaxcel-processor} as a class named {@code XxxExcelMapper} in the same package
+ * as the model class {@code Xxx}. It has only the members that are accessible from the package,
+ * so a method of this returns {@code null} for the others and they are accessed with reflection.
+ * The fields are the ones declared on the class, not including the fields of its super class.
+ *
+ * <p> The mapper also has the metadata of the fields and model creators analyzed at compile time,
+ * so the analyzers look them up instead of reading the annotations with reflection.
+ *
+ * @param <T> type of model
+ * @see ExcelModelMappers
+ * @since 0.10.0
+ */
+public interface ExcelModelMapper<T> {
+
+    /**
+     * Returns a function that reads the field directly.
+     *
+     * @param fieldName name of the field
+     * @return function that reads the field, or null if the field isn't accessible
+     */
+    @Nullable
+    Function<T, Object> getFieldReader(String fieldName);
+
+    /**
+     * Returns a function that calls getter for the field.
+     *
+     * @param fieldName name of the field
+     * @return function that calls getter, or null if there is no public getter
+     */
+    @Nullable
+    Function<T, Object> getGetter(String fieldName);
+
+    /**
+     * Returns a function that writes the field directly.
+     *
+     * @param fieldName name of the field
+     * @return function that writes the field, or null if the field isn't accessible or is final
+     */
+    @Nullable
+    BiConsumer<T, Object> getFieldWriter(String fieldName);
+
+    /**
+     * Returns a function that calls setter for the field.
+     *
+     * @param fieldName name of the field
+     * @return function that calls setter, or null if there is no public setter
+     */
+    @Nullable
+    BiConsumer<T, Object> getSetter(String fieldName);
+
+    /**
+     * Returns a function that calls the constructor or static method as a model creator.
+     *
+     * @param signature signature of the executable, such as {@code <init>(java.lang.String,int)}
+     * @return function that creates a model with the arguments, or null if the executable isn't accessible
+     */
+    @Nullable
+    Function<Object[], T> getCreator(String signature);
+
+    /**
+     * Returns the parameter names of the constructor or static method.
+     *
+     * @param signature signature of the executable, such as {@code <init>(java.lang.String,int)}
+     * @return parameter names, or null if the executable is unknown
+     */
+    @Nullable
+    List<String> getParameterNames(String signature);
+
+    /**
+     * Returns the metadata of the field analyzed at compile time.
+     *
+     * @param fieldName name of the field
+     * @return metadata, or null if the field is unknown
+     */
+    @Nullable
+    ExcelFieldMetadata getFieldMetadata(String fieldName);
+
+    /**
+     * Returns the metadata of the parameters of the constructor or static method analyzed at compile time.
+     *
+     * @param signature signature of the executable, such as {@code <init>(java.lang.String,int)}
+     * @return metadata of each parameter, or null if the executable is unknown
+     *         or has a parameter whose {@code @FieldName} is blank
+     */
+    @Nullable
+    List<ExcelParameterMetadata> getParameterMetadata(String signature);
+
+}
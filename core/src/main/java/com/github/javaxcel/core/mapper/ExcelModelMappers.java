@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.mapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+import io.github.imsejin.common.util.ReflectionUtils;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * Utilities for {@link ExcelModelMapper}
+ *
+ * <p> This returns the functions of the generated mapper if it exists,
+ * otherwise the functions that use reflection instead. So the callers don't need
+ * to know whether the annotation processor ran or not.
+ *
+ * @since 0.10.0
+ */
+public final class ExcelModelMappers {
+
+    /**
+     * Suffix of the class name of generated mapper.
+     */
+    public static final String SUFFIX = "ExcelMapper";
+
+    private static final Map<Class<?>, Optional<ExcelModelMapper<?>>> CACHE = new ConcurrentHashMap<>();
+
+    @ExcludeFromGeneratedJacocoReport
+    private ExcelModelMappers() {
+        throw new UnsupportedOperationException(getClass().getName() + " is not allowed to instantiate");
+    }
+
+    /**
+     * Returns the generated mapper for the type.
+     *
+     * @param type class that declares the fields or model creator
+     * @param <T>  type of model
+     * @return mapper, or null if it isn't generated
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelModelMapper<T> find(Class<T> type) {
+        return (ExcelModelMapper<T>) CACHE.computeIfAbsent(type, ExcelModelMappers::load).orElse(null);
+    }
+
+    /**
+     * Returns the class name of generated mapper for the type.
+     *
+     * <p> The mapper for the nested class {@code Outer.Inner} is named {@code Outer$InnerExcelMapper}
+     * after its binary name, so it doesn't collide with the mapper for the class {@code Outer_Inner}.
+     *
+     * @param type class that declares the fields or model creator
+     * @return class name of mapper
+     */
+    public static String getMapperName(Class<?> type) {
+        return type.getName() + SUFFIX;
+    }
+
+    /**
+     * Returns the signature of the executable, which is the key of model creator in mapper.
+     *
+     * @param executable constructor or method
+     * @return signature such as {@code <init>(java.lang.String,int)}
+     */
+    public static String getSignature(Executable executable) {
+        String name = executable instanceof Constructor ? "<init>" : executable.getName();
+
+        // Canonical name of nested class is the same as the name in the source code.
+        String parameterTypes = Arrays.stream(executable.getParameterTypes())
+                .map(Class::getCanonicalName).collect(joining(","));
+
+        return name + '(' + parameterTypes + ')';
+    }
+
+    /**
+     * Returns a function that reads the field directly.
+     *
+     * @param field field
+     * @return function that reads the field
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getFieldReader(Field field) {
+        ExcelModelMapper<Object> mapper = (ExcelModelMapper<Object>) find(field.getDeclaringClass());
+        Function<Object, Object> reader = mapper == null ? null : mapper.getFieldReader(field.getName());
+
+        return reader == null ? model -> ReflectionUtils.getFieldValue(model, field) : reader;
+    }
+
+    /**
+     * Returns a function that calls the getter.
+     *
+     * @param field  field
+     * @param getter getter for the field
+     * @return function that calls the getter
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getGetter(Field field, Method getter) {
+        ExcelModelMapper<Object> mapper = (ExcelModelMapper<Object>) find(field.getDeclaringClass());
+        Function<Object, Object> function = mapper == null ? null : mapper.getGetter(field.getName());
+
+        return function == null ? model -> ReflectionUtils.invoke(getter, model) : function;
+    }
+
+    /**
+     * Returns a function that writes the field directly.
+     *
+     * @param field field
+     * @return function that writes the field
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> getFieldWriter(Field field) {
+        ExcelModelMapper<Object> mapper = (ExcelModelMapper<Object>) find(field.getDeclaringClass());
+        BiConsumer<Object, Object> writer = mapper == null ? null : mapper.getFieldWriter(field.getName());
+
+        return writer == null ? (model, value) -> ReflectionUtils.setFieldValue(model, field, value) : writer;
+    }
+
+    /**
+     * Returns a function that calls the setter.
+     *
+     * @param field  field
+     * @param setter setter for the field
+     * @return function that calls the setter
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> getSetter(Field field, Method setter) {
+        ExcelModelMapper<Object> mapper = (ExcelModelMapper<Object>) find(field.getDeclaringClass());
+        BiConsumer<Object, Object> function = mapper == null ? null : mapper.getSetter(field.getName());
+
+        return function == null ? (model, value) -> ReflectionUtils.invoke(setter, model, value) : function;
+    }
+
+    /**
+     * Returns a function that creates a model with the constructor or static method.
+     *
+     * <p> Without generated mapper, the executable is bound into a {@link MethodHandle} once
+     * that spreads the arguments, so it isn't checked on every call like reflection.
+     * The executable must be accessible.
+     *
+     * @param executable model creator
+     * @param <T>        type of model
+     * @return function that creates a model with the arguments
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Function<Object[], T> getCreator(Executable executable) {
+        ExcelModelMapper<T> mapper = (ExcelModelMapper<T>) find(executable.getDeclaringClass());
+        Function<Object[], T> creator = mapper == null ? null : mapper.getCreator(getSignature(executable));
+
+        return creator == null ? bindCreator(executable) : creator;
+    }
+
+    /**
+     * Returns the parameter names of the constructor or static method.
+     *
+     * @param executable model creator
+     * @return parameter names, or null if mapper doesn't know them
+     */
+    @Nullable
+    public static List<String> getParameterNames(Executable executable) {
+        ExcelModelMapper<?> mapper = find(executable.getDeclaringClass());
+        return mapper == null ? null : mapper.getParameterNames(getSignature(executable));
+    }
+
+    /**
+     * Returns the metadata of the field analyzed at compile time.
+     *
+     * @param field field
+     * @return metadata, or null if mapper doesn't know it
+     */
+    @Nullable
+    public static ExcelFieldMetadata getFieldMetadata(Field field) {
+        ExcelModelMapper<?> mapper = find(field.getDeclaringClass());
+        return mapper == null ? null : mapper.getFieldMetadata(field.getName());
+    }
+
+    /**
+     * Returns the metadata of the parameters of the constructor or static method analyzed at compile time.
+     *
+     * @param executable model creator
+     * @return metadata of each parameter, or null if mapper doesn't know them
+     */
+    @Nullable
+    public static List<ExcelParameterMetadata> getParameterMetadata(Executable executable) {
+        ExcelModelMapper<?> mapper = find(executable.getDeclaringClass());
+        return mapper == null ? null : mapper.getParameterMetadata(getSignature(executable));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object[], T> bindCreator(Executable executable) {
+        MethodHandle handle;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            handle = executable instanceof Constructor
+                    ? lookup.unreflectConstructor((Constructor<?>) executable)
+                    : lookup.unreflect((Method) executable);
+        } catch (IllegalAccessException e) {
+            return arguments -> (T) ReflectionUtils.execute(executable, null, arguments);
+        }
+
+        // Adapts the handle to (Object[])Object, so that it can be invoked exactly.
+        MethodHandle spreader = handle.asFixedArity()
+                .asSpreader(Object[].class, executable.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return arguments -> {
+            try {
+                return (T) spreader.invokeExact(arguments);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t.getMessage(), t);
+            }
+        };
+    }
+
+    private static Optional<ExcelModelMapper<?>> load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+
+        Class<?> mapperType;
+        try {
+            mapperType = Class.forName(getMapperName(type), true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        if (!ExcelModelMapper.class.isAssignableFrom(mapperType)) {
+            return Optional.empty();
+        }
+
+        return Optional.of((ExcelModelMapper<?>) ReflectionUtils.instantiate(mapperType));
+    }
+
+}
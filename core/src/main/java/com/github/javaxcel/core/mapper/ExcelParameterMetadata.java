@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.mapper;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import com.github.javaxcel.core.annotation.ExcelModelCreator.FieldName;
+
+/**
+ * Metadata of a parameter of model creator analyzed at compile time
+ *
+ * @see ExcelModelMapper#getParameterMetadata(String)
+ * @since 0.10.0
+ */
+@Getter
+@ToString
+public final class ExcelParameterMetadata {
+
+    /**
+     * Name of the field that the parameter is mapped to, which is {@link FieldName#value()}
+     * if the parameter is annotated with it, otherwise the parameter name.
+     */
+    private final String fieldName;
+
+    /**
+     * Whether the parameter is annotated with {@link FieldName}.
+     */
+    private final boolean annotated;
+
+    public ExcelParameterMetadata(String fieldName, boolean annotated) {
+        this.fieldName = fieldName;
+        this.annotated = annotated;
+    }
+
+}
@@ -33,6 +33,9 @@ import com.github.javaxcel.core.annotation.ExcelColumn;
 import com.github.javaxcel.core.annotation.ExcelModel;
 import com.github.javaxcel.core.out.core.ExcelWriter;
 import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.core.out.strategy.impl.PrebuiltStyles;
+import com.github.javaxcel.core.out.style.ExcelStyleRegistry;
+import com.github.javaxcel.core.out.style.ExcelStyleSheet;
 
 /**
  * Context that has objects used on writing Excel file
@@ -83,6 +86,12 @@ public class ExcelWriteContext<T> {
     @Nullable
     private CellStyle[] bodyStyles;
 
+    /**
+     * @see #getStyleRegistry()
+     */
+    @Nullable
+    private ExcelStyleRegistry styleRegistry;
+
     public ExcelWriteContext(Workbook workbook, Class<T> modelType, Class<? extends ExcelWriter<T>> writerType) {
         Asserts.that(workbook)
                 .describedAs("ExcelWriteContext.workbook is not allowed to be null")
@@ -131,7 +140,7 @@ public class ExcelWriteContext<T> {
     }
 
     public void setSheet(@NotNull Sheet sheet) {
-        Asserts.that(chunk)
+        Asserts.that(sheet)
                 .describedAs("ExcelWriteContext.sheet is not allowed to be null")
                 .isNotNull();
 
@@ -154,4 +163,40 @@ public class ExcelWriteContext<T> {
         this.bodyStyles = bodyStyles;
     }
 
+    /**
+     * Returns the registry of cell styles in the workbook.
+     *
+     * <p> If strategy {@link PrebuiltStyles} is given, the registry already has the styles of its style sheet.
+     *
+     * @return style registry
+     * @since 0.10.0
+     */
+    public ExcelStyleRegistry getStyleRegistry() {
+        if (this.styleRegistry == null) {
+            ExcelWriteStrategy strategy = this.strategyMap.get(PrebuiltStyles.class);
+            this.styleRegistry = strategy == null
+                    ? new ExcelStyleRegistry(this.workbook)
+                    : ((ExcelStyleSheet) strategy.execute(this)).newRegistry(this.workbook);
+        }
+
+        return this.styleRegistry;
+    }
+
+    /**
+     * Returns a copy of this context that has the same strategies, list and styles, but no sheet and chunk.
+     *
+     * @return copy of this context
+     * @since 0.10.0
+     */
+    public ExcelWriteContext<T> copy() {
+        ExcelWriteContext<T> context = new ExcelWriteContext<>(this.workbook, this.modelType, this.writerType);
+        context.strategyMap = this.strategyMap;
+        context.list = this.list;
+        context.headerStyles = this.headerStyles;
+        context.bodyStyles = this.bodyStyles;
+        context.styleRegistry = this.styleRegistry;
+
+        return context;
+    }
+
 }
@@ -21,16 +21,23 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -46,9 +53,14 @@ import com.github.javaxcel.core.out.context.ExcelWriteContext;
 import com.github.javaxcel.core.out.lifecycle.ExcelWriteLifecycle;
 import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
 import com.github.javaxcel.core.out.strategy.impl.AutoResizedColumns;
+import com.github.javaxcel.core.out.strategy.impl.Compression;
+import com.github.javaxcel.core.out.strategy.impl.ConditionalStyles;
+import com.github.javaxcel.core.out.strategy.impl.ConditionalStyles.Condition;
 import com.github.javaxcel.core.out.strategy.impl.HiddenExtraColumns;
 import com.github.javaxcel.core.out.strategy.impl.HiddenExtraRows;
+import com.github.javaxcel.core.out.strategy.impl.Parallel;
 import com.github.javaxcel.core.out.strategy.impl.SheetName;
+import com.github.javaxcel.core.out.strategy.impl.SparseCells;
 import com.github.javaxcel.core.util.ExcelUtils;
 import com.github.javaxcel.styler.ExcelStyleConfig;
 import com.github.javaxcel.styler.NoStyleConfig;
@@ -73,6 +85,20 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
 
     private int[] columnWidths;
 
+    /**
+     * Conditions for each column, or null if the column has no condition.
+     *
+     * @see ConditionalStyles
+     */
+    @Nullable
+    private Condition[][] conditions;
+
+    /**
+     * Cell styles for each condition of {@link #conditions}.
+     */
+    @Nullable
+    private CellStyle[][] conditionalStyles;
+
     /**
      * Creates a writer for model.
      *
@@ -132,50 +158,100 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         prepare(this.context);
 
         setupAutoResizeColumns();
+        setupConditionalStyles();
 
         Workbook workbook = this.context.getWorkbook();
         final int maxRows = ExcelUtils.getMaxRows(workbook) - 1; // Subtracts 1 because of header row.
         List<List<T>> chunkedList = CollectionUtils.partitionBySize(list, maxRows);
         final int sheetCount = NumberUtils.toPositive(chunkedList.size());
 
-        // Creates sheet names by this or implementation.
-        List<String> sheetNames = createSheetNames(this.context, sheetCount);
-        Asserts.that(sheetNames)
-                .describedAs("sheetNames is not allowed to be null or empty: {0}", sheetNames)
-                .isNotNull()
-                .isNotEmpty()
-                .describedAs("sheetNames cannot have null or blank element: {0}", sheetNames)
-                .noneMatch(StringUtils::isNullOrBlank)
-                .describedAs("sheetNames cannot have duplicated elements: {0}", sheetNames)
-                .doesNotHaveDuplicates()
-                .asSize()
-                .describedAs("sheetNames.size is not equal to sheetCount: (sheetName.size: {0}, sheetCount: {1})",
-                        sheetNames.size(), sheetCount)
-                .isEqualTo(sheetCount);
+        List<String> sheetNames = resolveSheetNames(sheetCount);
+
+        ExcelWriteStrategy parallel = this.context.getStrategyMap().get(Parallel.class);
+        if (parallel != null && sheetCount > 1) {
+            writeSheetsInParallel(sheetNames, chunkedList, (Executor) parallel.execute(this.context));
+        } else {
+            for (int i = 0; i < sheetCount; i++) {
+                Sheet sheet = workbook.createSheet(sheetNames.get(i));
+
+                // To write 1 sheet at least, even if the list is empty.
+                List<T> chunk = chunkedList.isEmpty() ? Collections.emptyList() : chunkedList.get(i);
+                this.context.setChunk(chunk);
+                this.context.setSheet(sheet);
+
+                // Lifecycle method.
+                preWriteSheet(this.context);
+
+                applyDefaultColumnStyles(this.context);
+                createHeader(this.context);
+                createBody(this.context, chunk.iterator(), chunk.size(), this.columnWidths);
+
+                // Lifecycle method.
+                postWriteSheet(this.context);
+
+                applyStrategies(this.context, this.columnWidths);
+            }
+        }
+
+        save(out);
+
+        // Lifecycle method.
+        complete(this.context);
+    }
+
+    /**
+     * Writes models in the Excel file in a single pass over the iterator.
+     *
+     * <p> The models are not collected, so the number of sheets is unknown until the iterator is
+     * exhausted. When a sheet is full, the next sheet is created and the existing sheets are renamed
+     * by {@link #createSheetNames(ExcelWriteContext, int)} with the new number of sheets.
+     * The sheets are always written sequentially, and the context doesn't have the list
+     * and the chunks of models.
+     *
+     * @param out      output stream for writing Excel file
+     * @param iterator iterator of models
+     * @since 0.10.0
+     */
+    protected final void writeIteratively(OutputStream out, Iterator<T> iterator) {
+        Asserts.that(iterator)
+                .describedAs("iterator is not allowed to be null")
+                .isNotNull();
+
+        // Lifecycle method.
+        prepare(this.context);
+
+        setupAutoResizeColumns();
+        setupConditionalStyles();
 
-        for (int i = 0; i < sheetCount; i++) {
-            String sheetName = sheetNames.get(i);
-            Sheet sheet = workbook.createSheet(sheetName);
+        Workbook workbook = this.context.getWorkbook();
+        final int maxRows = ExcelUtils.getMaxRows(workbook) - 1; // Subtracts 1 because of header row.
+        List<Sheet> sheets = new ArrayList<>();
 
-            // To write 1 sheet at least, even if the list is empty.
-            List<T> chunk = chunkedList.isEmpty() ? Collections.emptyList() : chunkedList.get(i);
-            this.context.setChunk(chunk);
+        // To write 1 sheet at least, even if the iterator is empty.
+        do {
+            final int sheetCount = sheets.size() + 1;
+            List<String> sheetNames = resolveSheetNames(sheetCount);
+
+            for (int i = 0; i < sheets.size(); i++) {
+                workbook.setSheetName(workbook.getSheetIndex(sheets.get(i)), sheetNames.get(i));
+            }
+
+            Sheet sheet = workbook.createSheet(sheetNames.get(sheetCount - 1));
+            sheets.add(sheet);
             this.context.setSheet(sheet);
 
             // Lifecycle method.
             preWriteSheet(this.context);
 
+            applyDefaultColumnStyles(this.context);
             createHeader(this.context);
-            createBody(this.context);
+            createBody(this.context, iterator, maxRows, this.columnWidths);
 
             // Lifecycle method.
             postWriteSheet(this.context);
 
-            // Applies the options.
-            applyAutoResizedColumns();
-            applyHiddenExtraRows();
-            applyHiddenExtraColumns();
-        }
+            applyStrategies(this.context, this.columnWidths);
+        } while (iterator.hasNext());
 
         save(out);
 
@@ -183,6 +259,25 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         complete(this.context);
     }
 
+    private List<String> resolveSheetNames(int sheetCount) {
+        // Creates sheet names by this or implementation.
+        List<String> sheetNames = createSheetNames(this.context, sheetCount);
+        Asserts.that(sheetNames)
+                .describedAs("sheetNames is not allowed to be null or empty: {0}", sheetNames)
+                .isNotNull()
+                .isNotEmpty()
+                .describedAs("sheetNames cannot have null or blank element: {0}", sheetNames)
+                .noneMatch(StringUtils::isNullOrBlank)
+                .describedAs("sheetNames cannot have duplicated elements: {0}", sheetNames)
+                .doesNotHaveDuplicates()
+                .asSize()
+                .describedAs("sheetNames.size is not equal to sheetCount: (sheetName.size: {0}, sheetCount: {1})",
+                        sheetNames.size(), sheetCount)
+                .isEqualTo(sheetCount);
+
+        return sheetNames;
+    }
+
     private void setupAutoResizeColumns() {
         ExcelWriteStrategy strategy = this.context.getStrategyMap().get(AutoResizedColumns.class);
         if (strategy == null) {
@@ -197,16 +292,148 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         this.columnWidths = new int[getColumnCount()];
     }
 
+    /**
+     * Resolves the conditions for each column and creates their cell styles before writing,
+     * so that the body doesn't create any cell style even if the sheets are written in parallel.
+     */
+    @SuppressWarnings("unchecked")
+    private void setupConditionalStyles() {
+        ExcelWriteStrategy strategy = this.context.getStrategyMap().get(ConditionalStyles.class);
+        if (strategy == null) {
+            return;
+        }
+
+        List<Condition> conditions = (List<Condition>) strategy.execute(this.context);
+        final int columnCount = getColumnCount();
+
+        Map<String, List<Condition>> conditionMap = conditions.stream()
+                .collect(groupingBy(Condition::getName, LinkedHashMap::new, toList()));
+        List<String> columnNames = IntStream.range(0, columnCount).mapToObj(this::getColumnName).collect(toList());
+        Asserts.that(columnNames)
+                .describedAs("ConditionalStyles has the condition for unknown column (columnNames: {0}, names: {1})",
+                        columnNames, conditionMap.keySet())
+                .containsAll(new ArrayList<>(conditionMap.keySet()));
+
+        this.conditions = new Condition[columnCount][];
+        this.conditionalStyles = new CellStyle[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            List<Condition> columnConditions = conditionMap.get(columnNames.get(i));
+            if (columnConditions == null) {
+                continue;
+            }
+
+            this.conditions[i] = columnConditions.toArray(new Condition[0]);
+            this.conditionalStyles[i] = this.context.getStyleRegistry().getCellStyles(
+                    columnConditions.stream().map(Condition::getStyleConfig).collect(toList()));
+        }
+    }
+
+    /**
+     * Writes the sheets in parallel.
+     *
+     * <p> The sheets are created and {@link #preWriteSheet(ExcelWriteContext)} is called in order
+     * on the current thread, because they change the workbook. Only the header and body
+     * of each sheet are created on the executor, so {@link #createHeader(ExcelWriteContext)},
+     * {@link #createCellValue(Object, int)} and {@link #setCellValue(Cell, Object, int, String)}
+     * are called on its threads.
+     *
+     * @param sheetNames  sheet names
+     * @param chunkedList models for each sheet
+     * @param executor    executor that creates the rows
+     * @see Parallel
+     */
+    private void writeSheetsInParallel(List<String> sheetNames, List<List<T>> chunkedList, Executor executor) {
+        Workbook workbook = this.context.getWorkbook();
+        List<ExcelWriteContext<T>> contexts = new ArrayList<>(sheetNames.size());
+        List<int[]> columnWidthsList = new ArrayList<>(sheetNames.size());
+
+        for (int i = 0; i < sheetNames.size(); i++) {
+            ExcelWriteContext<T> sheetContext = this.context.copy();
+            sheetContext.setChunk(chunkedList.get(i));
+            sheetContext.setSheet(workbook.createSheet(sheetNames.get(i)));
+
+            // Lifecycle method.
+            preWriteSheet(sheetContext);
+
+            applyDefaultColumnStyles(sheetContext);
+            contexts.add(sheetContext);
+
+            // Each sheet stores its own column widths not to share an array between the threads.
+            columnWidthsList.add(this.columnWidths == null ? null : new int[this.columnWidths.length]);
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[contexts.size()];
+        for (int i = 0; i < contexts.size(); i++) {
+            ExcelWriteContext<T> sheetContext = contexts.get(i);
+            int[] columnWidths = columnWidthsList.get(i);
+
+            futures[i] = CompletableFuture.runAsync(() -> {
+                List<T> chunk = sheetContext.getChunk();
+
+                createHeader(sheetContext);
+                createBody(sheetContext, chunk.iterator(), chunk.size(), columnWidths);
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+
+        for (int i = 0; i < contexts.size(); i++) {
+            ExcelWriteContext<T> sheetContext = contexts.get(i);
+
+            // Lifecycle method.
+            postWriteSheet(sheetContext);
+
+            applyStrategies(sheetContext, columnWidthsList.get(i));
+        }
+    }
+
+    /**
+     * Sets the body style of each column to the column as its default style,
+     * so that the empty cells with the style don't need to be created.
+     *
+     * @param context context with current sheet
+     * @see SparseCells
+     */
+    private void applyDefaultColumnStyles(ExcelWriteContext<T> context) {
+        if (!context.getStrategyMap().containsKey(SparseCells.class)) {
+            return;
+        }
+
+        Sheet sheet = context.getSheet();
+        final int columnCount = getColumnCount();
+        for (int i = 0; i < columnCount; i++) {
+            CellStyle columnStyle = resolveColumnStyle(context, i);
+            if (columnStyle != null) {
+                sheet.setDefaultColumnStyle(i, columnStyle);
+            }
+        }
+    }
+
     /**
      * Creates the second row and below as body for each sheet.
      *
-     * @param context context with current sheet and chunked models
+     * @param context      context with current sheet
+     * @param models       models to be written
+     * @param maxRows      max number of models to be written in the sheet
+     * @param columnWidths max widths of each column to be stored, or null
      */
-    private void createBody(ExcelWriteContext<T> context) {
+    private void createBody(ExcelWriteContext<T> context, Iterator<T> models, int maxRows,
+            @Nullable int[] columnWidths) {
         Sheet sheet = context.getSheet();
-        List<T> chunk = context.getChunk();
-        final int chunkSize = chunk.size();
         final int columnCount = getColumnCount();
+        final boolean sparse = context.getStrategyMap().containsKey(SparseCells.class);
 
         final int lastRowIndex = sheet.getLastRowNum();
         Asserts.that(lastRowIndex)
@@ -217,63 +444,89 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
                 .describedAs("There are two or more rows as a header in the sheet; create only one row as the header")
                 .isEqualTo(0);
 
-        for (int i = lastRowIndex; i < chunkSize; i++) {
-            T model = chunk.get(i);
+        for (int i = lastRowIndex; i < maxRows && models.hasNext(); i++) {
+            T model = models.next();
 
             // Skips the first row that is header.
             Row row = sheet.createRow(i + 1);
 
             for (int j = 0; j < columnCount; j++) {
-                Cell cell = row.createCell(j);
                 String cellValue = createCellValue(model, j);
+                CellStyle bodyStyle = resolveBodyStyle(context, cellValue, j);
+                boolean empty = StringUtils.isNullOrEmpty(cellValue);
 
-                // Doesn't write even empty string.
-                if (!StringUtils.isNullOrEmpty(cellValue)) {
-                    cell.setCellValue(cellValue);
-
-                    // Stores the max width of each cell.
-                    storeColumnWidth(cellValue, j);
-                }
-
-                CellStyle[] bodyStyles = context.getBodyStyles();
-
-                if (ArrayUtils.isNullOrEmpty(bodyStyles)) {
+                // Doesn't create the empty cell that looks the same as the column without it.
+                if (sparse && empty && (bodyStyle == null || bodyStyle == resolveColumnStyle(context, j))) {
                     continue;
                 }
 
-                // Sets styles to body's cell.
-                CellStyle bodyStyle;
-                if (bodyStyles.length == 1) {
-                    bodyStyle = bodyStyles[0];
-                } else {
-                    bodyStyle = bodyStyles[j];
-                }
+                Cell cell = row.createCell(j);
 
+                // Sets styles to body's cell.
                 // There is possibility that bodyStyles has null elements, if you set NoStyleConfig.
                 if (bodyStyle != null) {
                     cell.setCellStyle(bodyStyle);
                 }
+
+                // Doesn't write even empty string.
+                if (!empty) {
+                    setCellValue(cell, model, j, cellValue);
+
+                    // Stores the max width of each cell.
+                    storeColumnWidth(columnWidths, cellValue, j);
+                }
             }
         }
     }
 
-    private void storeColumnWidth(String cellValue, int columnIndex) {
-        if (ArrayUtils.isNullOrEmpty(this.columnWidths)) {
+    @Nullable
+    private CellStyle resolveBodyStyle(ExcelWriteContext<T> context, @Nullable String cellValue, int columnIndex) {
+        // The style of the first satisfied condition takes precedence over body style.
+        Condition[] columnConditions = this.conditions == null ? null : this.conditions[columnIndex];
+        if (columnConditions != null) {
+            for (int k = 0; k < columnConditions.length; k++) {
+                if (columnConditions[k].test(cellValue)) {
+                    return this.conditionalStyles[columnIndex][k];
+                }
+            }
+        }
+
+        return resolveColumnStyle(context, columnIndex);
+    }
+
+    @Nullable
+    private static CellStyle resolveColumnStyle(ExcelWriteContext<?> context, int columnIndex) {
+        CellStyle[] bodyStyles = context.getBodyStyles();
+        if (ArrayUtils.isNullOrEmpty(bodyStyles)) {
+            return null;
+        }
+
+        return bodyStyles.length == 1 ? bodyStyles[0] : bodyStyles[columnIndex];
+    }
+
+    private static void storeColumnWidth(@Nullable int[] columnWidths, String cellValue, int columnIndex) {
+        if (ArrayUtils.isNullOrEmpty(columnWidths)) {
             return;
         }
 
         int width = cellValue == null ? 0 : cellValue.length();
-        this.columnWidths[columnIndex] = Math.max(width, this.columnWidths[columnIndex]);
+        columnWidths[columnIndex] = Math.max(width, columnWidths[columnIndex]);
+    }
+
+    private void applyStrategies(ExcelWriteContext<T> context, @Nullable int[] columnWidths) {
+        applyAutoResizedColumns(context, columnWidths);
+        applyHiddenExtraRows(context);
+        applyHiddenExtraColumns(context);
     }
 
-    private void applyAutoResizedColumns() {
-        if (!this.context.getStrategyMap().containsKey(AutoResizedColumns.class)) {
+    private void applyAutoResizedColumns(ExcelWriteContext<T> context, @Nullable int[] columnWidths) {
+        if (!context.getStrategyMap().containsKey(AutoResizedColumns.class)) {
             return;
         }
 
-        Sheet sheet = this.context.getSheet();
+        Sheet sheet = context.getSheet();
 
-        if (ArrayUtils.isNullOrEmpty(this.columnWidths)) {
+        if (ArrayUtils.isNullOrEmpty(columnWidths)) {
             ExcelUtils.autoResizeColumns(sheet, getColumnCount());
             return;
         }
@@ -282,25 +535,27 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
         Row row = sheet.getRow(0);
         for (Cell cell : row) {
             String cellValue = cell.getStringCellValue();
-            storeColumnWidth(cellValue, cell.getColumnIndex());
+            storeColumnWidth(columnWidths, cellValue, cell.getColumnIndex());
         }
 
         // 1.14388 is a max character width of the "Serif" font and 256 font units.
-        for (int i = 0; i < this.columnWidths.length; i++) {
-            int width = ((int) (this.columnWidths[i] * 1.14388F)) * 256;
+        for (int i = 0; i < columnWidths.length; i++) {
+            int width = ((int) (columnWidths[i] * 1.14388F)) * 256;
             sheet.setColumnWidth(i, width);
         }
     }
 
-    private void applyHiddenExtraRows() {
-        if (this.context.getStrategyMap().containsKey(HiddenExtraRows.class)) {
-            ExcelUtils.hideExtraRows(this.context.getSheet(), this.context.getChunk().size() + 1);
+    private void applyHiddenExtraRows(ExcelWriteContext<T> context) {
+        if (context.getStrategyMap().containsKey(HiddenExtraRows.class)) {
+            // The number of rows is header and body.
+            Sheet sheet = context.getSheet();
+            ExcelUtils.hideExtraRows(sheet, sheet.getLastRowNum() + 1);
         }
     }
 
-    private void applyHiddenExtraColumns() {
-        if (this.context.getStrategyMap().containsKey(HiddenExtraColumns.class)) {
-            ExcelUtils.hideExtraColumns(this.context.getSheet(), getColumnCount());
+    private void applyHiddenExtraColumns(ExcelWriteContext<T> context) {
+        if (context.getStrategyMap().containsKey(HiddenExtraColumns.class)) {
+            ExcelUtils.hideExtraColumns(context.getSheet(), getColumnCount());
         }
     }
 
@@ -311,7 +566,15 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
      */
     private void save(OutputStream out) {
         try {
-            this.context.getWorkbook().write(out);
+            ExcelWriteStrategy strategy = this.context.getStrategyMap().get(Compression.class);
+            if (strategy == null) {
+                this.context.getWorkbook().write(out);
+                return;
+            }
+
+            Compression compression = (Compression) strategy.execute(this.context);
+            new SXSSFPackageWriter(compression.getLevel(), compression.getExecutor())
+                    .write((SXSSFWorkbook) this.context.getWorkbook(), out);
         } catch (IOException e) {
             throw new WritingExcelException(e);
         }
@@ -353,6 +616,8 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
     /**
      * Creates the first row as header for each sheet.
      *
+     * <p> With {@link Parallel}, this is called on the threads of its executor for each sheet.
+     *
      * @param context context with current sheet and chunked models
      */
     protected abstract void createHeader(ExcelWriteContext<T> context);
@@ -368,6 +633,8 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
     /**
      * Returns the value as cell value.
      *
+     * <p> With {@link Parallel}, this is called on the threads of its executor at the same time.
+     *
      * @param model       Excel model
      * @param columnIndex index of the cell
      * @return cell value
@@ -376,4 +643,30 @@ public abstract class AbstractExcelWriter<T> implements ExcelWriter<T>, ExcelWri
     @Nullable
     protected abstract String createCellValue(T model, int columnIndex);
 
+    /**
+     * Sets the value to the cell of body.
+     *
+     * <p> This sets the cell value as string. Override this to write the value of model
+     * as another type of cell; the style of body has already been set to the cell.
+     * With {@link Parallel}, this is called on the threads of its executor at the same time.
+     *
+     * @param cell        cell of body
+     * @param model       Excel model
+     * @param columnIndex index of the cell
+     * @param cellValue   cell value that is not empty
+     * @since 0.10.0
+     */
+    protected void setCellValue(Cell cell, T model, int columnIndex, String cellValue) {
+        cell.setCellValue(cellValue);
+    }
+
+    /**
+     * Returns the name of column, which is field name or key name.
+     *
+     * @param columnIndex index of the column
+     * @return column name
+     * @since 0.10.0
+     */
+    protected abstract String getColumnName(int columnIndex);
+
 }
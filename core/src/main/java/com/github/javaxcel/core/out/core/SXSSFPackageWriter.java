@@ -0,0 +1,346 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFChartSheet;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writer of the package of {@link SXSSFWorkbook} with the given compression level
+ *
+ * <p> This does what {@link SXSSFWorkbook#write(OutputStream)} does, except for compression.
+ * The rows in the temporary files are injected into the template of each sheet, and each entry
+ * is split into blocks that are deflated in parallel. A block is deflated with the last 32 KiB
+ * of the previous block as a preset dictionary and ends with a sync flush, so the blocks
+ * concatenated in order are a single deflate stream with almost the same ratio.
+ *
+ * @since 0.10.0
+ */
+final class SXSSFPackageWriter {
+
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] EMPTY_BLOCK = new byte[0];
+
+    private static final String SHEET_DATA_START_TAG = "<sheetData>";
+
+    private static final String SHEET_DATA_END_TAG = "</sheetData>";
+
+    private final int level;
+
+    private final Executor executor;
+
+    /**
+     * Maximum number of blocks deflated at the same time.
+     */
+    private final int maxBlocksInFlight;
+
+    SXSSFPackageWriter(int level, Executor executor) {
+        this.level = level;
+        this.executor = executor;
+        this.maxBlocksInFlight = Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    void write(SXSSFWorkbook workbook, OutputStream out) throws IOException {
+        // Flushes the remaining rows into the temporary files.
+        for (Sheet sheet : workbook) {
+            ((SXSSFSheet) sheet).flushRows();
+        }
+
+        // The sheets of template don't have any rows, so it is small enough to keep in memory.
+        ByteArrayOutputStream template = new ByteArrayOutputStream();
+        workbook.getXSSFWorkbook().write(template);
+
+        // Compressed data of each entry is buffered to know its size and CRC before writing it.
+        Path buffer = Files.createTempFile("javaxcel-", ".entry");
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(template.toByteArray()))) {
+            ZipArchiveOutputStream zos = new ZipArchiveOutputStream(out);
+
+            ZipEntry templateEntry;
+            while ((templateEntry = zis.getNextEntry()) != null) {
+                String name = templateEntry.getName();
+                byte[] data = readAll(zis);
+
+                SXSSFSheet sheet = findSheet(workbook, name);
+                if (sheet == null) {
+                    writeEntry(zos, name, new ByteArrayInputStream(data), buffer);
+                    continue;
+                }
+
+                try (InputStream rows = sheet.getWorksheetXMLInputStream()) {
+                    writeEntry(zos, name, injectRows(data, rows), buffer);
+                }
+            }
+
+            // Doesn't close the output stream like ExcelWriter does.
+            zos.finish();
+        } finally {
+            Files.deleteIfExists(buffer);
+        }
+    }
+
+    private void writeEntry(ZipArchiveOutputStream zos, String name, InputStream in, Path buffer)
+            throws IOException {
+        CRC32 crc = new CRC32();
+        long[] sizes;
+
+        try (OutputStream bufferOut = Files.newOutputStream(buffer)) {
+            sizes = this.level == Deflater.NO_COMPRESSION ? store(in, bufferOut, crc) : deflate(in, bufferOut, crc);
+        }
+
+        ZipArchiveEntry entry = new ZipArchiveEntry(name);
+        entry.setMethod(this.level == Deflater.NO_COMPRESSION ? ZipEntry.STORED : ZipEntry.DEFLATED);
+        entry.setCrc(crc.getValue());
+        entry.setSize(sizes[0]);
+        entry.setCompressedSize(sizes[1]);
+
+        try (InputStream raw = Files.newInputStream(buffer)) {
+            zos.addRawArchiveEntry(entry, raw);
+        }
+    }
+
+    /**
+     * Copies the data as it is.
+     *
+     * @return size and compressed size of the data
+     */
+    private static long[] store(InputStream in, OutputStream out, CRC32 crc) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+
+        int length;
+        while ((length = in.read(buffer)) > 0) {
+            crc.update(buffer, 0, length);
+            out.write(buffer, 0, length);
+            size += length;
+        }
+
+        return new long[]{size, size};
+    }
+
+    /**
+     * Deflates the blocks of data in parallel and writes them in order.
+     *
+     * @return size and compressed size of the data
+     */
+    private long[] deflate(InputStream in, OutputStream out, CRC32 crc) throws IOException {
+        Deque<CompletableFuture<byte[]>> futures = new ArrayDeque<>(this.maxBlocksInFlight);
+        long size = 0;
+        long compressedSize = 0;
+
+        try {
+            byte[] previous = null;
+            byte[] current = readBlock(in);
+
+            while (true) {
+                // The block that isn't full must be the last one.
+                byte[] next = current.length == BLOCK_SIZE ? readBlock(in) : EMPTY_BLOCK;
+                boolean last = next.length == 0;
+
+                crc.update(current);
+                size += current.length;
+
+                byte[] block = current;
+                byte[] dictionary = previous;
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> deflateBlock(block, dictionary, last), this.executor));
+
+                // Waits for the oldest block not to keep too many blocks in memory.
+                if (futures.size() >= this.maxBlocksInFlight) {
+                    compressedSize += writeOldest(futures, out);
+                }
+
+                if (last) {
+                    break;
+                }
+
+                previous = current;
+                current = next;
+            }
+
+            while (!futures.isEmpty()) {
+                compressedSize += writeOldest(futures, out);
+            }
+        } finally {
+            futures.forEach(it -> it.cancel(false));
+        }
+
+        return new long[]{size, compressedSize};
+    }
+
+    private byte[] deflateBlock(byte[] block, @Nullable byte[] dictionary, boolean last) {
+        Deflater deflater = new Deflater(this.level, true);
+
+        try {
+            // The previous block is always full, because only the last block can be short.
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+
+            deflater.setInput(block);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(block.length / 2 + 64);
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int length = deflater.deflate(buffer);
+                    out.write(buffer, 0, length);
+                }
+            } else {
+                // Sync flush aligns the end of block to a byte boundary without marking it as final.
+                int length;
+                do {
+                    length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, length);
+                } while (length == buffer.length);
+            }
+
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static long writeOldest(Deque<CompletableFuture<byte[]>> futures, OutputStream out) throws IOException {
+        byte[] compressed;
+        try {
+            compressed = futures.poll().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+
+        out.write(compressed);
+        return compressed.length;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Nullable
+    private static SXSSFSheet findSheet(SXSSFWorkbook workbook, String entryName) {
+        XSSFWorkbook xssfWorkbook = workbook.getXSSFWorkbook();
+
+        for (int i = 0; i < xssfWorkbook.getNumberOfSheets(); i++) {
+            XSSFSheet sheet = xssfWorkbook.getSheetAt(i);
+            if (sheet instanceof XSSFChartSheet) {
+                continue;
+            }
+
+            // Part name starts with "/", but entry name doesn't.
+            String partName = sheet.getPackagePart().getPartName().getName();
+            if (partName.substring(1).equals(entryName)) {
+                return workbook.getSheetAt(i);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the template of sheet with the rows in the element {@code <sheetData>}.
+     *
+     * @param template XML of sheet without rows
+     * @param rows     XML of rows in the temporary file
+     * @return XML of sheet with rows
+     */
+    private static InputStream injectRows(byte[] template, InputStream rows) {
+        String xml = new String(template, StandardCharsets.UTF_8);
+
+        int start = xml.indexOf("<sheetData");
+        if (start < 0) {
+            return new ByteArrayInputStream(template);
+        }
+
+        // Template has either "<sheetData/>" or "<sheetData>...</sheetData>".
+        int tagEnd = xml.indexOf('>', start);
+        int end = xml.charAt(tagEnd - 1) == '/'
+                ? tagEnd + 1
+                : xml.indexOf(SHEET_DATA_END_TAG, tagEnd) + SHEET_DATA_END_TAG.length();
+
+        byte[] head = (xml.substring(0, start) + SHEET_DATA_START_TAG).getBytes(StandardCharsets.UTF_8);
+        byte[] tail = (SHEET_DATA_END_TAG + xml.substring(end)).getBytes(StandardCharsets.UTF_8);
+
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                new ByteArrayInputStream(head), rows, new ByteArrayInputStream(tail))));
+    }
+
+    private static byte[] readBlock(InputStream in) throws IOException {
+        byte[] block = new byte[BLOCK_SIZE];
+
+        int offset = 0;
+        int length;
+        while (offset < block.length && (length = in.read(block, offset, block.length - offset)) > 0) {
+            offset += length;
+        }
+
+        return offset == block.length ? block : Arrays.copyOf(block, offset);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        int length;
+        while ((length = in.read(buffer)) > 0) {
+            out.write(buffer, 0, length);
+        }
+
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.core.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ArrayUtils;
+
+import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.exception.WritingExcelException;
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+import static java.util.Comparator.*;
+import static java.util.stream.Collectors.*;
+
+/**
+ * Writer for delimited text like CSV and TSV
+ *
+ * <p> The analysis and conversion are the same as {@link ModelWriter} or {@link MapWriter},
+ * so the type handlers, expressions, default values, {@code HeaderNames} and {@code KeyNames}
+ * are applied to the text. The strategies and styles about a sheet are ignored.
+ * Unlike Excel file, the number of rows is not limited.
+ *
+ * <p> The fields are quoted only when they have the delimiter, double quote, carriage return
+ * or line feed, and each record ends with CRLF as RFC 4180 specifies.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .delimitedWriter(Product.class, DelimitedTextWriter.COMMA)
+ *             .write(writer, products);
+ * }</pre>
+ *
+ * @param <T> type of model
+ * @since 0.10.0
+ */
+public class DelimitedTextWriter<T> implements ExcelWriter<T> {
+
+    /**
+     * Delimiter for CSV.
+     */
+    public static final char COMMA = ',';
+
+    /**
+     * Delimiter for TSV.
+     */
+    public static final char TAB = '\t';
+
+    private static final char QUOTE = '"';
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Class<T> modelType;
+
+    private final char delimiter;
+
+    private final Function<Workbook, Delegate<T>> delegateFactory;
+
+    private ExcelWriteStrategy[] strategies = new ExcelWriteStrategy[0];
+
+    private DelimitedTextWriter(Class<T> modelType, char delimiter, Function<Workbook, Delegate<T>> delegateFactory) {
+        Asserts.that(delimiter)
+                .describedAs("DelimitedTextWriter.delimiter is not allowed to be double quote, CR or LF: {0}",
+                        delimiter)
+                .isNotEqualTo(QUOTE).isNotEqualTo('\r').isNotEqualTo('\n');
+
+        this.modelType = modelType;
+        this.delimiter = delimiter;
+        this.delegateFactory = delegateFactory;
+    }
+
+    /**
+     * Creates a writer for model.
+     *
+     * @param modelType type of model
+     * @param registry  registry of handlers for field type
+     * @param delimiter delimiter of fields
+     * @param <T>       type of model
+     * @return writer for model
+     */
+    public static <T> DelimitedTextWriter<T> forModel(Class<T> modelType, ExcelTypeHandlerRegistry registry,
+            char delimiter) {
+        Asserts.that(modelType)
+                .describedAs("DelimitedTextWriter.modelType is not allowed to be null")
+                .isNotNull();
+        Asserts.that(registry)
+                .describedAs("DelimitedTextWriter.registry is not allowed to be null")
+                .isNotNull();
+
+        return new DelimitedTextWriter<>(modelType, delimiter, workbook -> {
+            ModelWriter<T> writer = new ModelWriter<>(workbook, modelType, registry);
+            return new Delegate<T>(ModelWriter.class) {
+                @Override
+                List<String> prepare(ExcelWriteContext<T> context) {
+                    writer.prepare(context);
+                    return writer.resolveHeaderNames(context);
+                }
+
+                @Override
+                int getColumnCount() {
+                    return writer.getColumnCount();
+                }
+
+                @Override
+                String createCellValue(T model, int columnIndex) {
+                    return writer.createCellValue(model, columnIndex);
+                }
+            };
+        });
+    }
+
+    /**
+     * Creates a writer for {@link Map}.
+     *
+     * @param delimiter delimiter of fields
+     * @return writer for {@link Map}
+     */
+    public static DelimitedTextWriter<Map<String, Object>> forMap(char delimiter) {
+        return new DelimitedTextWriter<>(MapWriter.MAP_TYPE, delimiter, workbook -> {
+            MapWriter writer = new MapWriter(workbook);
+            return new Delegate<Map<String, Object>>(MapWriter.class) {
+                @Override
+                List<String> prepare(ExcelWriteContext<Map<String, Object>> context) {
+                    writer.prepare(context);
+                    return writer.resolveHeaderNames();
+                }
+
+                @Override
+                int getColumnCount() {
+                    return writer.getColumnCount();
+                }
+
+                @Override
+                String createCellValue(Map<String, Object> model, int columnIndex) {
+                    return writer.createCellValue(model, columnIndex);
+                }
+            };
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DelimitedTextWriter<T> options(ExcelWriteStrategy... strategies) {
+        Asserts.that(strategies)
+                .describedAs("strategies is not allowed to be null")
+                .isNotNull()
+                .describedAs("strategies cannot have null element: {0}", ArrayUtils.toString(strategies))
+                .doesNotContainNull();
+
+        if (strategies.length > 0) {
+            this.strategies = strategies.clone();
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes models as text encoded in UTF-8.
+     *
+     * @param out  output stream
+     * @param list models
+     */
+    @Override
+    public void write(OutputStream out, List<T> list) {
+        write(new OutputStreamWriter(out, StandardCharsets.UTF_8), list);
+    }
+
+    /**
+     * Writes models as text encoded in UTF-8.
+     *
+     * @param channel writable channel
+     * @param list    models
+     */
+    public void write(WritableByteChannel channel, List<T> list) {
+        write(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), list);
+    }
+
+    /**
+     * Writes models as text. The writer is flushed, but not closed.
+     *
+     * @param writer writer
+     * @param list   models
+     */
+    @SuppressWarnings("unchecked")
+    public void write(Writer writer, List<T> list) {
+        // The workbook is only for the context and the styles of the delegate; no sheet is created.
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            Delegate<T> delegate = this.delegateFactory.apply(workbook);
+
+            ExcelWriteContext<T> context = new ExcelWriteContext<>(workbook, this.modelType,
+                    (Class<? extends ExcelWriter<T>>) delegate.writerType);
+            context.setStrategyMap(resolveStrategyMap(context));
+            context.setList(list);
+
+            List<String> headerNames = delegate.prepare(context);
+            final int columnCount = delegate.getColumnCount();
+
+            FieldBuffer buffer = new FieldBuffer(writer, this.delimiter);
+
+            for (int i = 0; i < columnCount; i++) {
+                buffer.field(i, headerNames.get(i));
+            }
+            buffer.endRecord();
+
+            for (T model : list) {
+                for (int i = 0; i < columnCount; i++) {
+                    buffer.field(i, delegate.createCellValue(model, i));
+                }
+                buffer.endRecord();
+            }
+
+            buffer.flush();
+
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    private Map<Class<? extends ExcelWriteStrategy>, ExcelWriteStrategy> resolveStrategyMap(ExcelWriteContext<T> context) {
+        // Equality of ExcelWriteStrategy is determined by its class name, as AbstractExcelWriter does.
+        return Arrays.stream(this.strategies)
+                .filter(it -> it.isSupported(context))
+                .collect(collectingAndThen(toCollection(() -> new TreeSet<>(comparing(it -> it.getClass().getName()))),
+                        set -> set.stream().collect(collectingAndThen(
+                                toMap(ExcelWriteStrategy::getClass, Function.identity()),
+                                Collections::unmodifiableMap))));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Writer that analyzes and converts the models
+     *
+     * @param <T> type of model
+     */
+    private abstract static class Delegate<T> {
+        private final Class<?> writerType;
+
+        private Delegate(Class<?> writerType) {
+            this.writerType = writerType;
+        }
+
+        abstract List<String> prepare(ExcelWriteContext<T> context);
+
+        abstract int getColumnCount();
+
+        @Nullable
+        abstract String createCellValue(T model, int columnIndex);
+    }
+
+    /**
+     * Buffer that quotes the fields and writes them with a reusable char array
+     */
+    private static final class FieldBuffer {
+        private final char[] chars = new char[BUFFER_SIZE];
+
+        private final Writer writer;
+
+        private final char delimiter;
+
+        private int position;
+
+        private FieldBuffer(Writer writer, char delimiter) {
+            this.writer = writer;
+            this.delimiter = delimiter;
+        }
+
+        private void field(int columnIndex, @Nullable String value) throws IOException {
+            if (columnIndex > 0) {
+                append(this.delimiter);
+            }
+
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+
+            if (!needsQuote(value)) {
+                append(value);
+                return;
+            }
+
+            append(QUOTE);
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+
+                // Escapes double quote with another one.
+                if (c == QUOTE) {
+                    append(QUOTE);
+                }
+                append(c);
+            }
+            append(QUOTE);
+        }
+
+        private boolean needsQuote(String value) {
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c == this.delimiter || c == QUOTE || c == '\r' || c == '\n') {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void endRecord() throws IOException {
+            append('\r');
+            append('\n');
+        }
+
+        private void append(char c) throws IOException {
+            if (this.position == this.chars.length) {
+                flushBuffer();
+            }
+
+            this.chars[this.position++] = c;
+        }
+
+        private void append(String value) throws IOException {
+            int offset = 0;
+            final int length = value.length();
+
+            while (offset < length) {
+                if (this.position == this.chars.length) {
+                    flushBuffer();
+                }
+
+                int count = Math.min(length - offset, this.chars.length - this.position);
+                value.getChars(offset, offset + count, this.chars, this.position);
+                this.position += count;
+                offset += count;
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            this.writer.write(this.chars, 0, this.position);
+            this.position = 0;
+        }
+
+        private void flush() throws IOException {
+            flushBuffer();
+            this.writer.flush();
+        }
+    }
+
+}
@@ -16,8 +16,18 @@
 
 package com.github.javaxcel.core.out.core.impl;
 
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -29,16 +39,22 @@ import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.ArrayUtils;
+import io.github.imsejin.common.util.ClassUtils;
 import io.github.imsejin.common.util.StringUtils;
 
+import com.github.javaxcel.core.converter.handler.ExcelTypeHandler;
+import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry;
 import com.github.javaxcel.core.out.context.ExcelWriteContext;
 import com.github.javaxcel.core.out.core.AbstractExcelWriter;
 import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
 import com.github.javaxcel.core.out.strategy.impl.BodyStyles;
 import com.github.javaxcel.core.out.strategy.impl.DefaultValue;
 import com.github.javaxcel.core.out.strategy.impl.Filter;
+import com.github.javaxcel.core.out.strategy.impl.FixedKeys;
 import com.github.javaxcel.core.out.strategy.impl.HeaderStyles;
 import com.github.javaxcel.core.out.strategy.impl.KeyNames;
+import com.github.javaxcel.core.out.strategy.impl.TypedValues;
 import com.github.javaxcel.core.util.ExcelUtils;
 import com.github.javaxcel.core.util.ObjectUtils;
 import com.github.javaxcel.styler.ExcelStyleConfig;
@@ -54,9 +70,32 @@ import static java.util.stream.Collectors.*;
 @SuppressWarnings("unchecked")
 public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
 
-    private static final Class<Map<String, Object>> MAP_TYPE;
+    static final Class<Map<String, Object>> MAP_TYPE;
 
-    private List<String> keys;
+    /**
+     * Max magnitude of integer that Excel can represent exactly as a number.
+     */
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    private static final String DATE_FORMAT = "yyyy-mm-dd";
+
+    private static final String DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
+    private final ExcelTypeHandlerRegistry registry;
+
+    /**
+     * Functions that stringify the values with the handlers, cached by type of value.
+     */
+    private final ConcurrentMap<Class<?>, Function<Object, String>> stringifiers = new ConcurrentHashMap<>();
+
+    /**
+     * Cell styles for dates, cached by the format and the index of the style they are derived from.
+     *
+     * @see TypedValues
+     */
+    private final Map<String, CellStyle> dateStyles = new HashMap<>();
+
+    private String[] keys;
 
     private List<String> headerNames;
 
@@ -67,6 +106,8 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
      */
     private String defaultValue;
 
+    private boolean typedValues;
+
     static {
         try {
             // incompatible types: java.lang.Class<java.util.Map> cannot be converted to java.lang.Class<T>
@@ -82,20 +123,89 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
      * @param workbook Excel workbook
      */
     public MapWriter(Workbook workbook) {
+        this(workbook, new DefaultExcelTypeHandlerRegistry());
+    }
+
+    /**
+     * Create a writer for {@link Map} that stringifies the values with the handlers in registry
+     * when you give the option {@link TypedValues}.
+     *
+     * @param workbook Excel workbook
+     * @param registry registry of type handlers
+     * @since 0.10.0
+     */
+    public MapWriter(Workbook workbook, ExcelTypeHandlerRegistry registry) {
         super(workbook, MAP_TYPE);
+
+        Asserts.that(registry)
+                .describedAs("MapWriter.registry is not allowed to be null")
+                .isNotNull();
+
+        this.registry = registry;
+    }
+
+    /**
+     * Writes maps in the Excel file in a single pass over the iterator.
+     *
+     * <p> The keys must be declared by {@link KeyNames} with {@link FixedKeys},
+     * because the maps cannot be scanned for the keys before writing.
+     *
+     * <pre>{@code
+     *     MapWriter writer = new MapWriter(new SXSSFWorkbook());
+     *     writer.options(new KeyNames(Arrays.asList("name", "price")), new FixedKeys());
+     *     writer.write(out, maps.iterator());
+     * }</pre>
+     *
+     * @param out      output stream for writing Excel file
+     * @param iterator iterator of maps
+     * @throws IllegalArgumentException if the keys are not declared
+     * @since 0.10.0
+     */
+    public void write(OutputStream out, Iterator<Map<String, Object>> iterator) {
+        writeIteratively(out, iterator);
     }
 
     @Override
     public void prepare(ExcelWriteContext<Map<String, Object>> context) {
-        setKeys(context);
-        changeKeys(context);
+        if (context.getStrategyMap().containsKey(FixedKeys.class)) {
+            declareKeys(context);
+        } else {
+            List<String> keys = setKeys(context);
+            changeKeys(context, keys);
+            this.keys = keys.toArray(new String[0]);
+        }
+
         setDefaultValue(context);
+        this.typedValues = context.getStrategyMap().containsKey(TypedValues.class);
         setHeaderStyles(context);
         setBodyStyles(context);
     }
 
-    private void setKeys(ExcelWriteContext<Map<String, Object>> context) {
+    private void declareKeys(ExcelWriteContext<Map<String, Object>> context) {
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(KeyNames.class);
+        Asserts.that(strategy)
+                .describedAs("MapWriter.keys must be declared by KeyNames with FixedKeys")
+                .isNotNull();
+
+        Map<String, Object> keyMap = (Map<String, Object>) strategy.execute(context);
+        Map<String, Integer> orders = (Map<String, Integer>) keyMap.get("orders");
+
+        // Places the keys at their column index without sorting.
+        String[] keys = new String[orders.size()];
+        orders.forEach((key, order) -> keys[order] = key);
+
+        if (keyMap.containsKey("names")) {
+            this.headerNames = (List<String>) keyMap.get("names");
+        }
+
+        this.keys = keys;
+    }
+
+    private List<String> setKeys(ExcelWriteContext<Map<String, Object>> context) {
         List<Map<String, Object>> list = context.getList();
+        Asserts.that(list)
+                .describedAs("MapWriter cannot collect the keys from iterator; declare them by KeyNames with FixedKeys")
+                .isNotNull();
 
         // Gets the keys of all maps.
         List<String> keys = list.stream().flatMap(it -> it.keySet().stream()).distinct().collect(toList());
@@ -108,10 +218,11 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
                 .noneMatch(StringUtils::isNullOrBlank)
                 .describedAs("MapWriter.keys cannot have duplicated elements: {0}", keys)
                 .doesNotHaveDuplicates();
-        this.keys = keys;
+
+        return keys;
     }
 
-    private void changeKeys(ExcelWriteContext<Map<String, Object>> context) {
+    private void changeKeys(ExcelWriteContext<Map<String, Object>> context, List<String> keys) {
         ExcelWriteStrategy strategy = context.getStrategyMap().get(KeyNames.class);
         if (strategy == null) {
             return;
@@ -121,14 +232,14 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         Map<String, Integer> orders = (Map<String, Integer>) keyMap.get("orders");
 
         // Validates the number of ordered keys and their each element.
-        Asserts.that(this.keys)
+        Asserts.that(keys)
                 .describedAs(
                         "MapWriter.keys is not equal to keyMap.orders.size (keys.size: {0}, keyMap.orders.size: {1})",
-                        this.keys.size(), orders.size())
+                        keys.size(), orders.size())
                 .hasSize(orders.size())
                 .describedAs(
                         "MapWriter.keys is at variance with keyMap.orders.keySet (keys: {0}, keyMap.orders.keySet: {1})",
-                        this.keys, orders.keySet())
+                        keys, orders.keySet())
                 .containsOnly(orders.keySet().toArray(new String[0]));
 
         if (keyMap.containsKey("names")) {
@@ -136,7 +247,7 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         }
 
         // Rearranges the keys as you want: it changes order of columns.
-        this.keys.sort(comparing(orders::get));
+        keys.sort(comparing(orders::get));
     }
 
     private void setDefaultValue(ExcelWriteContext<Map<String, Object>> context) {
@@ -160,11 +271,10 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         Asserts.that(headerStyleConfigs)
                 .describedAs(
                         "headerStyles.size must be 1 or equal to keys.size (headerStyles.size: {0}, keys.size: {1})",
-                        headerStyleConfigs.size(), this.keys.size())
-                .is(them -> them.size() == 1 || them.size() == this.keys.size());
+                        headerStyleConfigs.size(), this.keys.length)
+                .is(them -> them.size() == 1 || them.size() == this.keys.length);
 
-        ExcelStyleConfig[] headerConfigs = headerStyleConfigs.toArray(new ExcelStyleConfig[0]);
-        CellStyle[] headerStyles = ExcelUtils.toCellStyles(context.getWorkbook(), headerConfigs);
+        CellStyle[] headerStyles = context.getStyleRegistry().getCellStyles(headerStyleConfigs);
         context.setHeaderStyles(headerStyles);
     }
 
@@ -179,22 +289,23 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         // Validates body styles.
         Asserts.that(bodyStyleConfigs)
                 .describedAs("bodyStyles.size must be 1 or equal to keys.size (bodyStyles.size: {0}, keys.size: {1})",
-                        bodyStyleConfigs.size(), this.keys.size())
-                .is(them -> them.size() == 1 || them.size() == this.keys.size());
+                        bodyStyleConfigs.size(), this.keys.length)
+                .is(them -> them.size() == 1 || them.size() == this.keys.length);
 
-        ExcelStyleConfig[] bodyConfigs = bodyStyleConfigs.toArray(new ExcelStyleConfig[0]);
-        CellStyle[] bodyStyles = ExcelUtils.toCellStyles(context.getWorkbook(), bodyConfigs);
+        CellStyle[] bodyStyles = context.getStyleRegistry().getCellStyles(bodyStyleConfigs);
         context.setBodyStyles(bodyStyles);
     }
 
     @Override
-    public void preWriteSheet(ExcelWriteContext<Map<String, Object>> context) {
+    public void postWriteSheet(ExcelWriteContext<Map<String, Object>> context) {
+        // The filter is set after the body is written, because the number of maps written
+        // in the sheet is unknown before that when writing from iterator.
         if (context.getStrategyMap().containsKey(Filter.class)) {
             ExcelWriteStrategy strategy = context.getStrategyMap().get(Filter.class);
             boolean frozenPane = (boolean) strategy.execute(context);
 
             Sheet sheet = context.getSheet();
-            String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.keys.size() - 1, context.getChunk().size() - 1);
+            String ref = ExcelUtils.toRangeReference(sheet, 0, 0, this.keys.length - 1, sheet.getLastRowNum() - 1);
             sheet.setAutoFilter(CellRangeAddress.valueOf(ref));
 
             if (frozenPane) {
@@ -208,7 +319,7 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         // Creates the first row that is header.
         Row row = context.getSheet().createRow(0);
 
-        List<String> headerNames = this.headerNames == null ? this.keys : this.headerNames;
+        List<String> headerNames = resolveHeaderNames();
         CellStyle[] headerStyles = context.getHeaderStyles();
 
         // Names the header given values.
@@ -234,18 +345,40 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         }
     }
 
+    /**
+     * Returns the header names; the keys unless {@link KeyNames} gives the names.
+     *
+     * @return header names
+     * @see DelimitedTextWriter
+     */
+    List<String> resolveHeaderNames() {
+        return this.headerNames == null ? Arrays.asList(this.keys) : this.headerNames;
+    }
+
+    @Override
+    protected String getColumnName(int columnIndex) {
+        return this.keys[columnIndex];
+    }
+
     @Override
     protected int getColumnCount() {
-        return this.keys.size();
+        return this.keys.length;
     }
 
     @Nullable
     @Override
     protected String createCellValue(Map<String, Object> model, int columnIndex) {
-        Object value = model.get(this.keys.get(columnIndex));
+        Object value = model.get(this.keys[columnIndex]);
 
         if (!ObjectUtils.isNullOrEmptyCharSequence(value)) {
-            return value.toString();
+            if (value instanceof String) {
+                return (String) value;
+            }
+
+            // Stringifies the values with the handlers only if you give the option, to keep the output of toString().
+            return this.typedValues
+                    ? this.stringifiers.computeIfAbsent(value.getClass(), this::resolveStringifier).apply(value)
+                    : value.toString();
         }
 
         if (!StringUtils.isNullOrEmpty(this.defaultValue)) {
@@ -255,4 +388,80 @@ public class MapWriter extends AbstractExcelWriter<Map<String, Object>> {
         return null;
     }
 
+    @SuppressWarnings("rawtypes")
+    private Function<Object, String> resolveStringifier(Class<?> type) {
+        ExcelTypeHandler handler = this.registry.getHandler(type);
+
+        // When there is no handler for the specific enum type, use EnumTypeHandler as default.
+        if (handler == null && ClassUtils.isEnumOrEnumConstant(type)) {
+            handler = this.registry.getHandler(Enum.class);
+        }
+
+        // When there is no handler for the type, just stringifies value.
+        if (handler == null) {
+            return Object::toString;
+        }
+
+        ExcelTypeHandler resolved = handler;
+        return value -> {
+            try {
+                return resolved.write(value);
+            } catch (Exception e) {
+                String message = String.format("Failed to convert %s(%s) to string", value, type.getSimpleName());
+                throw new RuntimeException(message, e);
+            }
+        };
+    }
+
+    @Override
+    protected void setCellValue(Cell cell, Map<String, Object> model, int columnIndex, String cellValue) {
+        Object value = this.typedValues ? model.get(this.keys[columnIndex]) : null;
+
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            cell.setCellValue(((Number) value).intValue());
+        } else if (value instanceof Long && -MAX_EXACT_INTEGER <= (Long) value && (Long) value <= MAX_EXACT_INTEGER) {
+            cell.setCellValue((Long) value);
+        } else if (value instanceof Float && Float.isFinite((Float) value)) {
+            // Parses the string not to write the binary error of float like 0.10000000149011612.
+            cell.setCellValue(Double.parseDouble(value.toString()));
+        } else if (value instanceof Double && Double.isFinite((Double) value)) {
+            cell.setCellValue((Double) value);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+            cell.setCellStyle(resolveDateStyle(cell, DATE_TIME_FORMAT));
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue((LocalDate) value);
+            cell.setCellStyle(resolveDateStyle(cell, DATE_FORMAT));
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+            cell.setCellStyle(resolveDateStyle(cell, DATE_TIME_FORMAT));
+        } else {
+            cell.setCellValue(cellValue);
+        }
+    }
+
+    /**
+     * Returns the cell style with the date format, derived from the style of the cell.
+     *
+     * <p> This is synchronized, because the sheets can be written in parallel
+     * and the workbook doesn't allow creating cell styles at the same time.
+     *
+     * @param cell   cell with the style to be derived from
+     * @param format date format
+     * @return cell style for date
+     */
+    private synchronized CellStyle resolveDateStyle(Cell cell, String format) {
+        CellStyle baseStyle = cell.getCellStyle();
+
+        return this.dateStyles.computeIfAbsent(format + '@' + baseStyle.getIndex(), key -> {
+            Workbook workbook = cell.getSheet().getWorkbook();
+
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.cloneStyleFrom(baseStyle);
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat(format));
+
+            return dateStyle;
+        });
+    }
+
 }
@@ -17,13 +17,13 @@
 package com.github.javaxcel.core.out.core.impl;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -36,7 +36,6 @@ import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.assertion.Asserts;
 import io.github.imsejin.common.util.ArrayUtils;
-import io.github.imsejin.common.util.ReflectionUtils;
 import io.github.imsejin.common.util.StringUtils;
 
 import com.github.javaxcel.core.analysis.ExcelAnalysis;
@@ -170,7 +169,6 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
     }
 
     private void resolveHeaderStyles(ExcelWriteContext<T> context) {
-        Workbook workbook = context.getWorkbook();
         ExcelWriteStrategy strategy = context.getStrategyMap().get(HeaderStyles.class);
 
         // Sets configurations for header styles by ExcelStyleConfig.
@@ -184,8 +182,7 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
                             headerStyleConfigs.size(), this.fields.size())
                     .is(them -> them.size() == 1 || them.size() == this.fields.size());
 
-            ExcelStyleConfig[] headerConfigs = headerStyleConfigs.toArray(new ExcelStyleConfig[0]);
-            CellStyle[] headerStyles = ExcelUtils.toCellStyles(workbook, headerConfigs);
+            CellStyle[] headerStyles = context.getStyleRegistry().getCellStyles(headerStyleConfigs);
             context.setHeaderStyles(headerStyles);
 
             return;
@@ -196,12 +193,10 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
             ExcelModel excelModel = context.getModelType().getAnnotation(ExcelModel.class);
 
             // Sets cell style for header.
-            ExcelStyleConfig headerConfig = excelModel.headerStyle() == NoStyleConfig.class
-                    ? DEFAULT_STYLE_CONFIG : ReflectionUtils.instantiate(excelModel.headerStyle());
-            ExcelStyleConfig[] headerConfigs = IntStream.range(0, this.fields.size())
-                    .mapToObj(i -> headerConfig).toArray(ExcelStyleConfig[]::new);
+            CellStyle headerStyle = context.getStyleRegistry().getCellStyle(excelModel.headerStyle());
+            CellStyle[] headerStyles = new CellStyle[this.fields.size()];
+            Arrays.fill(headerStyles, headerStyle);
 
-            CellStyle[] headerStyles = ExcelUtils.toCellStyles(workbook, headerConfigs);
             context.setHeaderStyles(headerStyles);
         }
 
@@ -225,16 +220,13 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
                 continue;
             }
 
-            ExcelStyleConfig headerConfig = ReflectionUtils.instantiate(headerConfigType);
-            CellStyle cellStyle = ExcelUtils.toCellStyle(workbook, headerConfig);
-            headerStyles[i] = cellStyle;
+            headerStyles[i] = context.getStyleRegistry().getCellStyle(headerConfigType);
         }
 
         context.setHeaderStyles(headerStyles);
     }
 
     private void resolveBodyStyles(ExcelWriteContext<T> context) {
-        Workbook workbook = context.getWorkbook();
         ExcelWriteStrategy strategy = context.getStrategyMap().get(BodyStyles.class);
 
         // Sets configurations for body styles by ExcelStyleConfig.
@@ -248,8 +240,7 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
                             bodyStyleConfigs.size(), this.fields.size())
                     .is(them -> them.size() == 1 || them.size() == this.fields.size());
 
-            ExcelStyleConfig[] bodyConfigs = bodyStyleConfigs.toArray(new ExcelStyleConfig[0]);
-            CellStyle[] bodyStyles = ExcelUtils.toCellStyles(workbook, bodyConfigs);
+            CellStyle[] bodyStyles = context.getStyleRegistry().getCellStyles(bodyStyleConfigs);
             context.setBodyStyles(bodyStyles);
 
             return;
@@ -260,12 +251,10 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
             ExcelModel excelModel = context.getModelType().getAnnotation(ExcelModel.class);
 
             // Sets cell style for body.
-            ExcelStyleConfig bodyConfig = excelModel.bodyStyle() == NoStyleConfig.class
-                    ? DEFAULT_STYLE_CONFIG : ReflectionUtils.instantiate(excelModel.bodyStyle());
-            ExcelStyleConfig[] bodyConfigs = IntStream.range(0, this.fields.size())
-                    .mapToObj(i -> bodyConfig).toArray(ExcelStyleConfig[]::new);
+            CellStyle bodyStyle = context.getStyleRegistry().getCellStyle(excelModel.bodyStyle());
+            CellStyle[] bodyStyles = new CellStyle[this.fields.size()];
+            Arrays.fill(bodyStyles, bodyStyle);
 
-            CellStyle[] bodyStyles = ExcelUtils.toCellStyles(workbook, bodyConfigs);
             context.setBodyStyles(bodyStyles);
         }
 
@@ -289,9 +278,7 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
                 continue;
             }
 
-            ExcelStyleConfig bodyConfig = ReflectionUtils.instantiate(bodyConfigType);
-            CellStyle cellStyle = ExcelUtils.toCellStyle(workbook, bodyConfig);
-            bodyStyles[i] = cellStyle;
+            bodyStyles[i] = context.getStyleRegistry().getCellStyle(bodyConfigType);
         }
 
         context.setBodyStyles(bodyStyles);
@@ -325,16 +312,6 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
         Row row = context.getSheet().createRow(0);
 
         List<String> headerNames = resolveHeaderNames(context);
-        Asserts.that(headerNames)
-                .describedAs("headerNames is not allowed to be null or empty: {0}", headerNames)
-                .isNotNull().isNotEmpty()
-                .describedAs("headerNames.size is not equal to the number of targeted fields in the class: {0}",
-                        context.getModelType().getName())
-                .hasSameSizeAs(this.fields)
-                .describedAs("headerNames cannot have null or blank element: {0}", headerNames)
-                .noneMatch(StringUtils::isNullOrBlank)
-                .describedAs("headerNames cannot have duplicated elements: {0}", headerNames)
-                .doesNotHaveDuplicates();
 
         CellStyle[] headerStyles = context.getHeaderStyles();
 
@@ -365,13 +342,36 @@ public class ModelWriter<T> extends AbstractExcelWriter<T> {
         }
     }
 
-    private List<String> resolveHeaderNames(ExcelWriteContext<T> context) {
+    /**
+     * Returns the validated header names.
+     *
+     * @param context context
+     * @return header names
+     * @see XlsxModelWriter
+     */
+    List<String> resolveHeaderNames(ExcelWriteContext<T> context) {
         ExcelWriteStrategy strategy = context.getStrategyMap().get(HeaderNames.class);
-        if (strategy != null) {
-            return (List<String>) strategy.execute(context);
-        }
+        List<String> headerNames = strategy == null
+                ? FieldUtils.toHeaderNames(this.fields, false)
+                : (List<String>) strategy.execute(context);
 
-        return FieldUtils.toHeaderNames(this.fields, false);
+        Asserts.that(headerNames)
+                .describedAs("headerNames is not allowed to be null or empty: {0}", headerNames)
+                .isNotNull().isNotEmpty()
+                .describedAs("headerNames.size is not equal to the number of targeted fields in the class: {0}",
+                        context.getModelType().getName())
+                .hasSameSizeAs(this.fields)
+                .describedAs("headerNames cannot have null or blank element: {0}", headerNames)
+                .noneMatch(StringUtils::isNullOrBlank)
+                .describedAs("headerNames cannot have duplicated elements: {0}", headerNames)
+                .doesNotHaveDuplicates();
+
+        return headerNames;
+    }
+
+    @Override
+    protected String getColumnName(int columnIndex) {
+        return this.fields.get(columnIndex).getName();
     }
 
     @Override
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.core.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ArrayUtils;
+import io.github.imsejin.common.util.CollectionUtils;
+import io.github.imsejin.common.util.StringUtils;
+
+import com.github.javaxcel.core.converter.handler.registry.ExcelTypeHandlerRegistry;
+import com.github.javaxcel.core.exception.WritingExcelException;
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.core.out.strategy.impl.SheetName;
+
+import static java.util.Comparator.*;
+import static java.util.stream.Collectors.*;
+
+/**
+ * Excel writer for model that writes Excel 2007 file without the object model of POI
+ *
+ * <p> This writes the XML of each sheet into the zip stream directly with a reusable buffer,
+ * so no {@link org.apache.poi.ss.usermodel.Row} and {@link org.apache.poi.ss.usermodel.Cell}
+ * are created and no temporary file is used. The analysis, conversion, header names and
+ * style configurations are the same as {@link ModelWriter}; the styles are materialized
+ * in a scratch workbook only to be written as {@code styles.xml}.
+ *
+ * <p> The values are written as inline strings as {@link ModelWriter} writes them as strings.
+ * The strategies manipulating a sheet of POI, like {@code AutoResizedColumns}, {@code Filter},
+ * {@code EnumDropdown}, {@code HiddenExtraRows} and {@code HiddenExtraColumns}, are ignored
+ * and the lifecycle methods of {@link ModelWriter} except {@code prepare} are not called.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .xlsxWriter(Product.class)
+ *             .options(new SheetName("Products"))
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @param <T> type of model
+ * @since 0.10.0
+ */
+public class XlsxModelWriter<T> implements ExcelWriter<T> {
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final String NS_MAIN = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private static final String NS_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private static final String REL_TYPE_PREFIX = "http://schemas.openxmlformats.org/officeDocument/2006/relationships/";
+
+    private static final String CONTENT_TYPE_PREFIX = "application/vnd.openxmlformats-officedocument.spreadsheetml.";
+
+    private final Class<T> modelType;
+
+    private final ExcelTypeHandlerRegistry registry;
+
+    private ExcelWriteStrategy[] strategies = new ExcelWriteStrategy[0];
+
+    /**
+     * Creates a writer for model.
+     *
+     * @param modelType type of Excel model
+     * @param registry  registry of handlers for field type
+     */
+    public XlsxModelWriter(Class<T> modelType, ExcelTypeHandlerRegistry registry) {
+        Asserts.that(modelType)
+                .describedAs("XlsxModelWriter.modelType is not allowed to be null")
+                .isNotNull();
+        Asserts.that(registry)
+                .describedAs("XlsxModelWriter.registry is not allowed to be null")
+                .isNotNull();
+
+        this.modelType = modelType;
+        this.registry = registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExcelWriter<T> options(ExcelWriteStrategy... strategies) {
+        Asserts.that(strategies)
+                .describedAs("strategies is not allowed to be null")
+                .isNotNull()
+                .describedAs("strategies cannot have null element: {0}", ArrayUtils.toString(strategies))
+                .doesNotContainNull();
+
+        if (strategies.length > 0) {
+            this.strategies = strategies.clone();
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(OutputStream out, List<T> list) {
+        try (XSSFWorkbook styleWorkbook = new XSSFWorkbook()) {
+            ModelWriter<T> modelWriter = new ModelWriter<>(styleWorkbook, this.modelType, this.registry);
+
+            // Strategies are resolved as if they were given to ModelWriter.
+            Class<? extends ExcelWriter<T>> writerType = (Class<? extends ExcelWriter<T>>) (Class<?>) ModelWriter.class;
+            ExcelWriteContext<T> context = new ExcelWriteContext<>(styleWorkbook, this.modelType, writerType);
+            context.setStrategyMap(resolveStrategyMap(context));
+            context.setList(list);
+
+            // Lifecycle method.
+            modelWriter.prepare(context);
+
+            List<String> headerNames = modelWriter.resolveHeaderNames(context);
+            final int columnCount = modelWriter.getColumnCount();
+            int[] headerStyleIndices = toStyleIndices(context.getHeaderStyles(), columnCount);
+            int[] bodyStyleIndices = toStyleIndices(context.getBodyStyles(), columnCount);
+
+            String[] columnNames = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columnNames[i] = CellReference.convertNumToColString(i);
+            }
+
+            List<List<T>> chunkedList = CollectionUtils.partitionBySize(list, MAX_ROWS - 1);
+            List<String> sheetNames = createSheetNames(context, Math.max(1, chunkedList.size()));
+
+            ZipOutputStream zip = new ZipOutputStream(out);
+            XmlWriter xml = new XmlWriter();
+            xml.setOutputStream(zip);
+
+            writeContentTypes(zip, xml, sheetNames.size());
+            writeRootRelationships(zip, xml);
+            writeWorkbook(zip, xml, sheetNames);
+
+            for (int i = 0; i < sheetNames.size(); i++) {
+                // To write 1 sheet at least, even if the list is empty.
+                List<T> chunk = chunkedList.isEmpty() ? Collections.emptyList() : chunkedList.get(i);
+
+                zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + (i + 1) + ".xml"));
+                xml.raw(XML_DECLARATION).raw("<worksheet xmlns=\"").raw(NS_MAIN).raw("\">")
+                        .raw("<dimension ref=\"A1:").raw(columnNames[columnCount - 1]).number(chunk.size() + 1)
+                        .raw("\"/><sheetData>");
+
+                // Header.
+                xml.raw("<row r=\"1\">");
+                for (int j = 0; j < columnCount; j++) {
+                    writeCell(xml, columnNames[j], 1, headerNames.get(j), headerStyleIndices[j]);
+                }
+                xml.raw("</row>");
+
+                // Body.
+                for (int k = 0; k < chunk.size(); k++) {
+                    T model = chunk.get(k);
+                    int rowNum = k + 2;
+
+                    xml.raw("<row r=\"").number(rowNum).raw("\">");
+                    for (int j = 0; j < columnCount; j++) {
+                        String cellValue = modelWriter.createCellValue(model, j);
+                        writeCell(xml, columnNames[j], rowNum, cellValue, bodyStyleIndices[j]);
+                    }
+                    xml.raw("</row>");
+                }
+
+                xml.raw("</sheetData></worksheet>");
+                xml.flush();
+                zip.closeEntry();
+            }
+
+            // The styles are written by POI, because they are materialized from the configurations.
+            zip.putNextEntry(new ZipEntry("xl/styles.xml"));
+            styleWorkbook.getStylesSource().writeTo(zip);
+            zip.closeEntry();
+
+            // Doesn't close the given stream, as Workbook.write(OutputStream) does.
+            zip.finish();
+            out.flush();
+
+        } catch (IOException e) {
+            throw new WritingExcelException(e);
+        }
+    }
+
+    private Map<Class<? extends ExcelWriteStrategy>, ExcelWriteStrategy> resolveStrategyMap(ExcelWriteContext<T> context) {
+        // Equality of ExcelWriteStrategy is determined by its class name, as AbstractExcelWriter does.
+        return Arrays.stream(this.strategies)
+                .filter(it -> it.isSupported(context))
+                .collect(collectingAndThen(toCollection(() -> new TreeSet<>(comparing(it -> it.getClass().getName()))),
+                        set -> set.stream().collect(collectingAndThen(
+                                toMap(ExcelWriteStrategy::getClass, Function.identity()),
+                                Collections::unmodifiableMap))));
+    }
+
+    private static List<String> createSheetNames(ExcelWriteContext<?> context, int sheetCount) {
+        ExcelWriteStrategy strategy = context.getStrategyMap().get(SheetName.class);
+        String sheetName = strategy == null ? "Sheet" : (String) strategy.execute(context);
+
+        if (sheetCount < 2) {
+            WorkbookUtil.validateSheetName(sheetName);
+            return Collections.singletonList(sheetName);
+        }
+
+        List<String> sheetNames = new ArrayList<>();
+        for (int i = 1; i <= sheetCount; i++) {
+            WorkbookUtil.validateSheetName(sheetName + i);
+            sheetNames.add(sheetName + i);
+        }
+
+        return sheetNames;
+    }
+
+    /**
+     * Returns the indices of cell styles in the workbook for each column.
+     *
+     * @param cellStyles  cell styles whose length is 1 or the number of columns
+     * @param columnCount the number of columns
+     * @return indices of cell styles; -1 means no style
+     */
+    private static int[] toStyleIndices(@Nullable CellStyle[] cellStyles, int columnCount) {
+        int[] indices = new int[columnCount];
+        Arrays.fill(indices, -1);
+
+        if (ArrayUtils.isNullOrEmpty(cellStyles)) {
+            return indices;
+        }
+
+        for (int i = 0; i < columnCount; i++) {
+            CellStyle cellStyle = cellStyles.length == 1 ? cellStyles[0] : cellStyles[i];
+
+            // There is possibility that cellStyles has null elements, if you set NoStyleConfig.
+            if (cellStyle != null) {
+                indices[i] = cellStyle.getIndex();
+            }
+        }
+
+        return indices;
+    }
+
+    private static void writeCell(XmlWriter xml, String columnName, int rowNum,
+            @Nullable String cellValue, int styleIndex) throws IOException {
+        boolean empty = StringUtils.isNullOrEmpty(cellValue);
+
+        // Doesn't write the cell that has neither value nor style.
+        if (empty && styleIndex < 0) {
+            return;
+        }
+
+        xml.raw("<c r=\"").raw(columnName).number(rowNum).raw("\"");
+        if (styleIndex >= 0) {
+            xml.raw(" s=\"").number(styleIndex).raw("\"");
+        }
+
+        // Doesn't write even empty string.
+        if (empty) {
+            xml.raw("/>");
+            return;
+        }
+
+        xml.raw(" t=\"inlineStr\"><is>");
+        if (Character.isWhitespace(cellValue.charAt(0))
+                || Character.isWhitespace(cellValue.charAt(cellValue.length() - 1))) {
+            xml.raw("<t xml:space=\"preserve\">");
+        } else {
+            xml.raw("<t>");
+        }
+        xml.text(cellValue).raw("</t></is></c>");
+    }
+
+    private static void writeContentTypes(ZipOutputStream zip, XmlWriter xml, int sheetCount) throws IOException {
+        zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+        xml.raw(XML_DECLARATION)
+                .raw("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .raw("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .raw("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .raw("<Override PartName=\"/xl/workbook.xml\" ContentType=\"").raw(CONTENT_TYPE_PREFIX).raw("sheet.main+xml\"/>")
+                .raw("<Override PartName=\"/xl/styles.xml\" ContentType=\"").raw(CONTENT_TYPE_PREFIX).raw("styles+xml\"/>");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.raw("<Override PartName=\"/xl/worksheets/sheet").number(i)
+                    .raw(".xml\" ContentType=\"").raw(CONTENT_TYPE_PREFIX).raw("worksheet+xml\"/>");
+        }
+        xml.raw("</Types>");
+        xml.flush();
+        zip.closeEntry();
+    }
+
+    private static void writeRootRelationships(ZipOutputStream zip, XmlWriter xml) throws IOException {
+        zip.putNextEntry(new ZipEntry("_rels/.rels"));
+        xml.raw(XML_DECLARATION)
+                .raw("<Relationships xmlns=\"").raw(NS_RELATIONSHIPS).raw("\">")
+                .raw("<Relationship Id=\"rId1\" Type=\"").raw(REL_TYPE_PREFIX)
+                .raw("officeDocument\" Target=\"xl/workbook.xml\"/>")
+                .raw("</Relationships>");
+        xml.flush();
+        zip.closeEntry();
+    }
+
+    private static void writeWorkbook(ZipOutputStream zip, XmlWriter xml, List<String> sheetNames) throws IOException {
+        zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+        xml.raw(XML_DECLARATION)
+                .raw("<workbook xmlns=\"").raw(NS_MAIN)
+                .raw("\" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            xml.raw("<sheet name=\"").text(sheetNames.get(i - 1))
+                    .raw("\" sheetId=\"").number(i).raw("\" r:id=\"rId").number(i).raw("\"/>");
+        }
+        xml.raw("</sheets></workbook>");
+        xml.flush();
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("xl/_rels/workbook.xml.rels"));
+        xml.raw(XML_DECLARATION).raw("<Relationships xmlns=\"").raw(NS_RELATIONSHIPS).raw("\">");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            xml.raw("<Relationship Id=\"rId").number(i).raw("\" Type=\"").raw(REL_TYPE_PREFIX)
+                    .raw("worksheet\" Target=\"worksheets/sheet").number(i).raw(".xml\"/>");
+        }
+        xml.raw("<Relationship Id=\"rId").number(sheetNames.size() + 1).raw("\" Type=\"").raw(REL_TYPE_PREFIX)
+                .raw("styles\" Target=\"styles.xml\"/>");
+        xml.raw("</Relationships>");
+        xml.flush();
+        zip.closeEntry();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+/**
+ * Strategy for compressing the entries of Excel file with the given level
+ *
+ * <p> Each entry is split into blocks and the blocks are deflated at the same time
+ * on the given executor, then concatenated into a single deflate stream in order.
+ * The level {@link Deflater#NO_COMPRESSION} stores the entries without compression,
+ * which makes the file larger but takes almost no time.
+ *
+ * <p> This is supported only with {@link SXSSFWorkbook}, because its sheets are written
+ * into temporary files that can be compressed without the object model of POI.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(new SXSSFWorkbook(), Product.class)
+ *             .options(new Compression(Deflater.BEST_SPEED, executor))
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class Compression implements ExcelWriteStrategy {
+
+    private final int level;
+
+    private final Executor executor;
+
+    /**
+     * Strategy for compressing the entries with the given level on the common {@link ForkJoinPool}.
+     *
+     * @param level compression level from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}
+     */
+    public Compression(int level) {
+        this(level, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for compressing the entries with the given level on the given executor.
+     *
+     * @param level    compression level from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}
+     * @param executor executor that deflates the blocks of each entry
+     * @throws IllegalArgumentException if level is out of range or executor is null
+     */
+    public Compression(int level, Executor executor) {
+        Asserts.that(level)
+                .describedAs("ExcelWriteStrategy.Compression.level must be between {0} and {1}, but it isn't: {2}",
+                        Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION, level)
+                .isGreaterThanOrEqualTo(Deflater.NO_COMPRESSION)
+                .isLessThanOrEqualTo(Deflater.BEST_COMPRESSION);
+        Asserts.that(executor)
+                .describedAs("ExcelWriteStrategy.Compression.executor is not allowed to be null")
+                .isNotNull();
+
+        this.level = level;
+        this.executor = executor;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return (ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType))
+                && context.getWorkbook() instanceof SXSSFWorkbook;
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.styler.ExcelStyleConfig;
+
+/**
+ * Strategy for style of body that depends on the cell value when writing
+ *
+ * <p> The conditions are evaluated while each cell is written, and the style of the first
+ * satisfied condition for the column replaces the body style of the cell. The cell styles
+ * are created once for each condition before writing, so the number of cell styles doesn't
+ * grow with the number of rows. The predicates must be thread-safe with {@link Parallel}.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(workbook, Product.class)
+ *             .options(new ConditionalStyles(Arrays.asList(
+ *                     new ConditionalStyles.Condition("price", it -> it != null && it.startsWith("-"), new RedConfig()),
+ *                     new ConditionalStyles.Condition("stock", "0"::equals, new GreyConfig()))))
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class ConditionalStyles implements ExcelWriteStrategy {
+
+    private final List<Condition> conditions;
+
+    public ConditionalStyles(List<Condition> conditions) {
+        Asserts.that(conditions)
+                .describedAs("ExcelWriteStrategy.ConditionalStyles.conditions is not allowed to be null or empty: {0}",
+                        conditions)
+                .isNotNull().isNotEmpty()
+                .describedAs("ExcelWriteStrategy.ConditionalStyles.conditions cannot have null element: {0}",
+                        conditions)
+                .doesNotContainNull();
+
+        this.conditions = Collections.unmodifiableList(new ArrayList<>(conditions));
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.conditions;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Condition of cell value in a column and the style for it
+     *
+     * @since 0.10.0
+     */
+    public static final class Condition {
+        private final String name;
+
+        private final Predicate<String> predicate;
+
+        private final ExcelStyleConfig styleConfig;
+
+        /**
+         * Condition of cell value in a column.
+         *
+         * @param name        field name for {@link ModelWriter} or key name for {@link MapWriter}
+         * @param predicate   predicate of cell value, which can be null or empty if the cell is empty
+         * @param styleConfig configuration of cell style when the predicate is satisfied
+         */
+        public Condition(String name, Predicate<String> predicate, ExcelStyleConfig styleConfig) {
+            Asserts.that(name)
+                    .describedAs(
+                            "ExcelWriteStrategy.ConditionalStyles.Condition.name is not allowed to be null or blank: {0}",
+                            name)
+                    .isNotNull().hasText();
+            Asserts.that(predicate)
+                    .describedAs("ExcelWriteStrategy.ConditionalStyles.Condition.predicate is not allowed to be null")
+                    .isNotNull();
+            Asserts.that(styleConfig)
+                    .describedAs("ExcelWriteStrategy.ConditionalStyles.Condition.styleConfig is not allowed to be null")
+                    .isNotNull();
+
+            this.name = name;
+            this.predicate = predicate;
+            this.styleConfig = styleConfig;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public ExcelStyleConfig getStyleConfig() {
+            return this.styleConfig;
+        }
+
+        /**
+         * Returns whether the cell value satisfies this condition.
+         *
+         * @param cellValue cell value
+         * @return whether the cell value satisfies this condition
+         */
+        public boolean test(@Nullable String cellValue) {
+            return this.predicate.test(cellValue);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+/**
+ * Strategy for fixing the keys of {@link Map} to the keys declared by {@link KeyNames}
+ *
+ * <p> The keys are not collected from the maps, so the maps don't need to be scanned
+ * before writing. The keys absent in a map are written as empty cells and the undeclared
+ * keys in a map are ignored. This is required for {@link MapWriter#write(java.io.OutputStream, Iterator)}.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(new SXSSFWorkbook())
+ *             .options(new KeyNames(Arrays.asList("name", "price")), new FixedKeys())
+ *             .write(out, maps);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class FixedKeys implements ExcelWriteStrategy {
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return MapWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    @ExcludeFromGeneratedJacocoReport
+    public Object execute(ExcelWriteContext<?> context) {
+        throw new UnsupportedOperationException(
+                "ExcelWriteStrategy." + getClass().getSimpleName() + " is not supported");
+    }
+
+}
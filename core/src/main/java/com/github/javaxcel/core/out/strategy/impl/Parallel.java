@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+/**
+ * Strategy for writing the sheets in parallel
+ *
+ * <p> When the models exceed the maximum number of rows per sheet, the rows of each sheet
+ * are created at the same time on the given executor. This is supported only with
+ * {@link SXSSFWorkbook}, because each of its sheets is written into a separate temporary file;
+ * the final package is assembled in order of sheets when the workbook is written.
+ *
+ * <p> The sheets are created and {@code preWriteSheet} is called for each sheet in order
+ * before the rows are created; {@code postWriteSheet} and the other strategies are applied
+ * to each sheet in order after all the rows are created. Each sheet has its own context.
+ * Note that {@code createHeader}, {@code createCellValue} and {@code setCellValue} of the writer
+ * are called on the threads of the executor, so their overrides must be thread-safe.
+ *
+ * <p> This is not supported with {@link SXSSFWorkbook} that uses the shared strings table,
+ * such as {@code new SXSSFWorkbook(null, 100, false, true)}, because each sheet adds its strings
+ * to the table that is not thread-safe when the rows are flushed. The sheets of the workbook
+ * are written sequentially.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(new SXSSFWorkbook(), Product.class)
+ *             .options(new Parallel(executor))
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class Parallel implements ExcelWriteStrategy {
+
+    private final Executor executor;
+
+    /**
+     * Strategy for writing the sheets in parallel on the common {@link ForkJoinPool}.
+     */
+    public Parallel() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Strategy for writing the sheets in parallel on the given executor.
+     *
+     * @param executor executor that creates the rows of each sheet
+     */
+    public Parallel(Executor executor) {
+        Asserts.that(executor)
+                .describedAs("ExcelWriteStrategy.Parallel.executor is not allowed to be null")
+                .isNotNull();
+
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return (ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType))
+                && context.getWorkbook() instanceof SXSSFWorkbook
+                && !usesSharedStringsTable((SXSSFWorkbook) context.getWorkbook());
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.executor;
+    }
+
+    /**
+     * Returns whether the workbook writes the strings into the shared strings table.
+     *
+     * <p> {@link SXSSFWorkbook} exposes its shared strings table only to the subclasses,
+     * and the table is null unless the workbook is created to use it.
+     *
+     * @param workbook streaming workbook
+     * @return whether the workbook uses the shared strings table
+     */
+    private static boolean usesSharedStringsTable(SXSSFWorkbook workbook) {
+        try {
+            Method method = SXSSFWorkbook.class.getDeclaredMethod("getSharedStringSource");
+            method.setAccessible(true);
+            return method.invoke(workbook) != null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Regards the workbook as using the table, when it cannot be known.
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+import com.github.javaxcel.core.out.style.ExcelStyleSheet;
+
+/**
+ * Strategy for reusing the styles of {@link ExcelStyleSheet} when writing
+ *
+ * <p> The cell styles whose configurations are in the style sheet are not created again.
+ * This is supported only with the workbook created by {@link ExcelStyleSheet#newWorkbook()}.
+ *
+ * @see ExcelStyleSheet
+ * @since 0.10.0
+ */
+public class PrebuiltStyles implements ExcelWriteStrategy {
+
+    private final ExcelStyleSheet styleSheet;
+
+    public PrebuiltStyles(ExcelStyleSheet styleSheet) {
+        Asserts.that(styleSheet)
+                .describedAs("ExcelWriteStrategy.PrebuiltStyles.styleSheet is not allowed to be null")
+                .isNotNull();
+
+        this.styleSheet = styleSheet;
+    }
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return (ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType))
+                && this.styleSheet.isTemplateOf(context.getWorkbook());
+    }
+
+    @Override
+    public Object execute(ExcelWriteContext<?> context) {
+        return this.styleSheet;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.core.impl.ModelWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+/**
+ * Strategy for creating only the cells of body that have values or styles when writing
+ *
+ * <p> The empty cells without style are not created. The body style of each column is set
+ * to the column as its default style, so the empty cells with that style are not created either.
+ * Only the empty cells with a different style, such as a conditional style, are created.
+ * This makes the file smaller and faster to write when the body has many empty values.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(new SXSSFWorkbook(), Product.class)
+ *             .options(new SparseCells())
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class SparseCells implements ExcelWriteStrategy {
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return ModelWriter.class.isAssignableFrom(writerType) || MapWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    @ExcludeFromGeneratedJacocoReport
+    public Object execute(ExcelWriteContext<?> context) {
+        throw new UnsupportedOperationException(
+                "ExcelWriteStrategy." + getClass().getSimpleName() + " is not supported");
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+import com.github.javaxcel.core.out.context.ExcelWriteContext;
+import com.github.javaxcel.core.out.core.ExcelWriter;
+import com.github.javaxcel.core.out.core.impl.MapWriter;
+import com.github.javaxcel.core.out.strategy.ExcelWriteStrategy;
+
+/**
+ * Strategy for writing the numbers and dates of {@link Map} as numeric cells
+ *
+ * <p> The values of {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float}
+ * and {@link Double} are written as numbers, unless they cannot be represented exactly in Excel.
+ * The values of {@link LocalDate}, {@link LocalDateTime} and {@link Date} are written as dates
+ * with the format "yyyy-mm-dd" or "yyyy-mm-dd hh:mm:ss". The other values are written as strings
+ * stringified by the type handlers of the writer; without this option, they are stringified by {@link Object#toString()}.
+ *
+ * <pre>{@code
+ *     Javaxcel.newInstance()
+ *             .writer(new SXSSFWorkbook())
+ *             .options(new TypedValues())
+ *             .write(out, maps);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+public class TypedValues implements ExcelWriteStrategy {
+
+    @Override
+    public boolean isSupported(ExcelWriteContext<?> context) {
+        Class<? extends ExcelWriter<?>> writerType = context.getWriterType();
+        return MapWriter.class.isAssignableFrom(writerType);
+    }
+
+    @Override
+    @ExcludeFromGeneratedJacocoReport
+    public Object execute(ExcelWriteContext<?> context) {
+        throw new UnsupportedOperationException(
+                "ExcelWriteStrategy." + getClass().getSimpleName() + " is not supported");
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.style;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import com.github.javaxcel.styler.NoStyleConfig;
+import com.github.javaxcel.styler.StyleSpec;
+import com.github.javaxcel.styler.StyleSpec.FontSpec;
+
+/**
+ * Registry of cell styles and fonts in a workbook
+ *
+ * <p> This creates a cell style only if the workbook doesn't have one that this created
+ * for an equal {@link StyleSpec}, so the configurations of different types with the same settings
+ * share a cell style. A font is created in the workbook only if the config changes the font,
+ * and the equal fonts are shared as well. This is not thread-safe.
+ *
+ * <pre>{@code
+ *     ExcelStyleRegistry registry = new ExcelStyleRegistry(workbook);
+ *     CellStyle headerStyle = registry.getCellStyle(new DefaultHeaderStyleConfig());
+ * }</pre>
+ *
+ * @see StyleSpec
+ * @since 0.10.0
+ */
+public final class ExcelStyleRegistry {
+
+    private final Workbook workbook;
+
+    /**
+     * Cache by instance, because the configs of the same type can be different such as lambdas.
+     */
+    private final Map<ExcelStyleConfig, CellStyle> instanceCache = new IdentityHashMap<>();
+
+    private final Map<StyleSpec, CellStyle> cellStyles;
+
+    private final Map<FontSpec, Font> fonts;
+
+    public ExcelStyleRegistry(Workbook workbook) {
+        this(workbook, new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Registry that already has the cell styles and fonts in the workbook.
+     *
+     * @see ExcelStyleSheet#newRegistry(Workbook)
+     */
+    ExcelStyleRegistry(Workbook workbook, Map<StyleSpec, CellStyle> cellStyles, Map<FontSpec, Font> fonts) {
+        Asserts.that(workbook)
+                .describedAs("ExcelStyleRegistry.workbook is not allowed to be null")
+                .isNotNull();
+
+        this.workbook = workbook;
+        this.cellStyles = cellStyles;
+        this.fonts = fonts;
+    }
+
+    /**
+     * Returns a cell style for the type of configuration.
+     *
+     * @param configType type of configuration of cell style
+     * @return cell style, or null if config type is {@link NoStyleConfig}
+     */
+    @Nullable
+    public CellStyle getCellStyle(Class<? extends ExcelStyleConfig> configType) {
+        return getCellStyle(StyleSpec.of(configType));
+    }
+
+    /**
+     * Returns a cell style for the configuration.
+     *
+     * @param config configuration of cell style
+     * @return cell style, or null if config type is {@link NoStyleConfig}
+     */
+    @Nullable
+    public CellStyle getCellStyle(ExcelStyleConfig config) {
+        if (config.getClass() == NoStyleConfig.class) {
+            return null;
+        }
+
+        // Doesn't run the config again if it is already registered.
+        CellStyle cellStyle = this.instanceCache.get(config);
+        if (cellStyle == null) {
+            cellStyle = getCellStyle(StyleSpec.of(config));
+            this.instanceCache.put(config, cellStyle);
+        }
+
+        return cellStyle;
+    }
+
+    /**
+     * Returns a cell style for the description.
+     *
+     * @param spec description of cell style
+     * @return cell style, or null if spec is {@link StyleSpec#EMPTY}
+     */
+    @Nullable
+    public CellStyle getCellStyle(StyleSpec spec) {
+        if (spec.isEmpty()) {
+            return null;
+        }
+
+        CellStyle cellStyle = this.cellStyles.get(spec);
+        if (cellStyle == null) {
+            cellStyle = this.workbook.createCellStyle();
+            spec.applyTo(cellStyle);
+
+            FontSpec fontSpec = spec.getFont();
+            if (fontSpec != null) {
+                cellStyle.setFont(this.fonts.computeIfAbsent(fontSpec, it -> it.toFont(this.workbook)));
+            }
+
+            this.cellStyles.put(spec, cellStyle);
+        }
+
+        return cellStyle;
+    }
+
+    /**
+     * Returns cell styles for the configurations.
+     *
+     * @param configs configurations of cell style
+     * @return cell styles
+     */
+    public CellStyle[] getCellStyles(List<? extends ExcelStyleConfig> configs) {
+        CellStyle[] cellStyles = new CellStyle[configs.size()];
+        for (int i = 0; i < cellStyles.length; i++) {
+            cellStyles[i] = getCellStyle(configs.get(i));
+        }
+
+        return cellStyles;
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.style;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ooxml.POIXMLDocumentPart;
+import org.apache.poi.ooxml.POIXMLRelation;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFFactory;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import io.github.imsejin.common.assertion.Asserts;
+
+import com.github.javaxcel.core.out.strategy.impl.PrebuiltStyles;
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import com.github.javaxcel.styler.StyleSpec;
+import com.github.javaxcel.styler.StyleSpec.FontSpec;
+
+/**
+ * Snapshot of cell styles and fonts materialized in a workbook
+ *
+ * <p> This materializes the styles once and keeps them as a template, which is the styles part
+ * of Excel 2007 workbook or the whole Excel 97 workbook without sheets.
+ * The workbook created from it already has the styles and its {@link ExcelStyleRegistry}
+ * finds them by {@link StyleSpec} instead of running the configurations and creating them again.
+ * This is immutable and thread-safe, so it can be shared across exports.
+ *
+ * <pre>{@code
+ *     // Builds the styles once.
+ *     ExcelStyleSheet styleSheet = new ExcelStyleSheet(new SXSSFWorkbook(),
+ *             Arrays.asList(new DefaultHeaderStyleConfig(), new DefaultBodyStyleConfig()));
+ *
+ *     // Reuses the styles for each export.
+ *     Javaxcel.newInstance()
+ *             .writer(styleSheet.newWorkbook(), Product.class)
+ *             .options(new PrebuiltStyles(styleSheet))
+ *             .write(out, products);
+ * }</pre>
+ *
+ * @see PrebuiltStyles
+ * @since 0.10.0
+ */
+public final class ExcelStyleSheet {
+
+    private final Class<? extends Workbook> workbookType;
+
+    private final int randomAccessWindowSize;
+
+    /**
+     * Serialized styles part for {@link XSSFWorkbook} and {@link SXSSFWorkbook},
+     * or serialized workbook for {@link HSSFWorkbook} that has no separate styles part.
+     */
+    private final byte[] template;
+
+    private final Map<StyleSpec, Integer> cellStyleIndexes;
+
+    private final Map<FontSpec, Integer> fontIndexes;
+
+    /**
+     * Workbooks created from this. The keys are compared by identity, because workbook doesn't override equals.
+     */
+    private final Map<Workbook, Boolean> workbooks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Materializes the styles in the workbook and keeps them as a template.
+     *
+     * <p> The workbook is not closed by this; it still has the styles, and the caller owns it.
+     *
+     * @param workbook empty workbook such as {@link HSSFWorkbook}, {@link XSSFWorkbook} or {@link SXSSFWorkbook}
+     * @param configs  configurations of cell style
+     * @throws IllegalArgumentException if workbook has a sheet or configs is invalid
+     */
+    public ExcelStyleSheet(Workbook workbook, List<? extends ExcelStyleConfig> configs) {
+        Asserts.that(workbook)
+                .describedAs("ExcelStyleSheet.workbook is not allowed to be null")
+                .isNotNull()
+                .describedAs("ExcelStyleSheet.workbook must be one of HSSFWorkbook, XSSFWorkbook and SXSSFWorkbook: {0}",
+                        workbook)
+                .is(it -> it instanceof HSSFWorkbook || it instanceof XSSFWorkbook
+                        || it instanceof SXSSFWorkbook)
+                .describedAs("ExcelStyleSheet.workbook is not allowed to have a sheet: {0}", workbook)
+                .is(it -> it.getNumberOfSheets() == 0);
+        Asserts.that(configs)
+                .describedAs("ExcelStyleSheet.configs is not allowed to be null")
+                .isNotNull()
+                .describedAs("ExcelStyleSheet.configs cannot have null element: {0}", configs)
+                .doesNotContainNull();
+
+        Map<StyleSpec, Integer> cellStyleIndexes = new HashMap<>();
+        Map<FontSpec, Integer> fontIndexes = new HashMap<>();
+
+        ExcelStyleRegistry registry = new ExcelStyleRegistry(workbook);
+        for (ExcelStyleConfig config : configs) {
+            StyleSpec spec = StyleSpec.of(config);
+            CellStyle cellStyle = registry.getCellStyle(spec);
+            if (cellStyle == null) {
+                continue;
+            }
+
+            cellStyleIndexes.put(spec, (int) cellStyle.getIndex());
+            if (spec.getFont() != null) {
+                fontIndexes.put(spec.getFont(), cellStyle.getFontIndex());
+            }
+        }
+
+        this.workbookType = workbook.getClass();
+        this.randomAccessWindowSize = workbook instanceof SXSSFWorkbook
+                ? ((SXSSFWorkbook) workbook).getRandomAccessWindowSize()
+                : SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+        this.template = toTemplate(workbook);
+        this.cellStyleIndexes = Collections.unmodifiableMap(cellStyleIndexes);
+        this.fontIndexes = Collections.unmodifiableMap(fontIndexes);
+    }
+
+    /**
+     * Creates a workbook that has the styles, with the same type as the template.
+     *
+     * @return new workbook
+     */
+    public Workbook newWorkbook() {
+        Workbook workbook;
+        if (this.workbookType == HSSFWorkbook.class) {
+            try (ByteArrayInputStream in = new ByteArrayInputStream(this.template)) {
+                workbook = new HSSFWorkbook(in);
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        } else {
+            // Loads only the styles part instead of unzipping and parsing the whole package.
+            XSSFWorkbook xssfWorkbook = new XSSFWorkbook(new StylesFactory(this.template));
+            workbook = this.workbookType == SXSSFWorkbook.class
+                    ? new SXSSFWorkbook(xssfWorkbook, this.randomAccessWindowSize)
+                    : xssfWorkbook;
+        }
+
+        this.workbooks.put(workbook, Boolean.TRUE);
+        return workbook;
+    }
+
+    /**
+     * Returns whether the workbook is created by {@link #newWorkbook()} of this.
+     *
+     * @param workbook Excel workbook
+     * @return whether the workbook has the styles of this
+     */
+    public boolean isTemplateOf(Workbook workbook) {
+        return this.workbooks.containsKey(workbook);
+    }
+
+    /**
+     * Returns a registry that already has the styles of this in the workbook.
+     *
+     * @param workbook workbook created by {@link #newWorkbook()}
+     * @return style registry
+     * @throws IllegalArgumentException if workbook isn't created by this
+     */
+    public ExcelStyleRegistry newRegistry(Workbook workbook) {
+        Asserts.that(workbook)
+                .describedAs("ExcelStyleSheet.workbook is not allowed to be null")
+                .isNotNull()
+                .describedAs("ExcelStyleSheet.workbook must be created by ExcelStyleSheet.newWorkbook(): {0}", workbook)
+                .is(this::isTemplateOf);
+
+        Map<StyleSpec, CellStyle> cellStyles = new HashMap<>();
+        this.cellStyleIndexes.forEach((spec, index) -> cellStyles.put(spec, workbook.getCellStyleAt(index)));
+
+        Map<FontSpec, Font> fonts = new HashMap<>();
+        this.fontIndexes.forEach((spec, index) -> fonts.put(spec, workbook.getFontAt(index)));
+
+        return new ExcelStyleRegistry(workbook, cellStyles, fonts);
+    }
+
+    private static byte[] toTemplate(Workbook workbook) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            if (workbook instanceof HSSFWorkbook) {
+                workbook.write(out);
+            } else {
+                // SXSSFWorkbook has no sheet, so its XSSFWorkbook has all the styles.
+                XSSFWorkbook source = workbook instanceof SXSSFWorkbook
+                        ? ((SXSSFWorkbook) workbook).getXSSFWorkbook() : (XSSFWorkbook) workbook;
+                source.getStylesSource().writeTo(out);
+            }
+
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Factory of document parts that creates the styles part from the template.
+     *
+     * <p> {@link StylesTable#readFrom(java.io.InputStream)} on the styles part of new workbook
+     * appends to its default fonts, fills, borders and cell styles, so the indexes of the template
+     * would be shifted. This gives new workbook the styles part read into an empty table instead.
+     */
+    private static final class StylesFactory extends XSSFFactory {
+        private final byte[] styles;
+
+        private StylesFactory(byte[] styles) {
+            this.styles = styles;
+        }
+
+        @Override
+        public POIXMLDocumentPart newDocumentPart(POIXMLRelation descriptor) {
+            if (descriptor != XSSFRelation.STYLES) {
+                return super.newDocumentPart(descriptor);
+            }
+
+            try (ByteArrayInputStream in = new ByteArrayInputStream(this.styles)) {
+                return new StylesTable(in);
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        }
+    }
+
+}
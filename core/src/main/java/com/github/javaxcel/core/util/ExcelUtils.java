@@ -16,12 +16,9 @@
 
 package com.github.javaxcel.core.util;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -29,7 +26,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
@@ -39,6 +35,9 @@ import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -61,9 +60,6 @@ import org.jetbrains.annotations.Nullable;
 
 import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
 import io.github.imsejin.common.assertion.Asserts;
-import io.github.imsejin.common.io.Resource;
-import io.github.imsejin.common.io.finder.ResourceFinder;
-import io.github.imsejin.common.io.finder.ZipResourceFinder;
 import io.github.imsejin.common.util.FilenameUtils;
 import io.github.imsejin.common.util.StreamUtils;
 
@@ -100,6 +96,26 @@ public final class ExcelUtils {
      * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
      */
     public static Workbook getWorkbook(File file) {
+        return getWorkbook(file, false);
+    }
+
+    /**
+     * Creates an instance of {@link Workbook} from the file.
+     *
+     * <p> If read-only, the file is never modified: Excel 97 file is opened with memory-mapped
+     * {@link POIFSFileSystem} instead of being copied into heap, and Excel 2007 file is opened
+     * with {@link OPCPackage} of {@link PackageAccess#READ}, whose sheets are still parsed into heap.
+     * In that case, the workbook cannot be written and must be closed after use to release the file;
+     * the package of Excel 2007 file is released by {@link OPCPackage#revert()} instead of
+     * {@link Workbook#close()}.
+     *
+     * @param file     Excel file
+     * @param readOnly whether to open the file only for reading
+     * @return Excel workbook instance
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
+     * @since 0.10.0
+     */
+    public static Workbook getWorkbook(File file, boolean readOnly) {
         final String extension = FilenameUtils.getExtension(file.getName());
         Asserts.that(extension)
                 .describedAs("Extension of Excel file must be '{0}' or '{1}'",
@@ -109,10 +125,39 @@ public final class ExcelUtils {
         Workbook workbook;
         try {
             if (extension.equalsIgnoreCase(EXCEL_97_EXTENSION)) {
-                InputStream in = Files.newInputStream(file.toPath());
-                workbook = new HSSFWorkbook(in);
+                if (readOnly) {
+                    // HSSFWorkbook closes the file system when it is closed.
+                    POIFSFileSystem fileSystem = new POIFSFileSystem(file, true);
+                    try {
+                        workbook = new HSSFWorkbook(fileSystem);
+                    } catch (IOException | RuntimeException e) {
+                        // Releases the mapped file when it is corrupt or encrypted.
+                        try {
+                            fileSystem.close();
+                        } catch (IOException suppressed) {
+                            e.addSuppressed(suppressed);
+                        }
+                        throw e;
+                    }
+                } else {
+                    try (InputStream in = Files.newInputStream(file.toPath())) {
+                        workbook = new HSSFWorkbook(in);
+                    }
+                }
             } else {
-                workbook = new XSSFWorkbook(file);
+                if (readOnly) {
+                    // The package must be released with OPCPackage.revert(), because OPCPackage.close()
+                    // warns that it is intended to save the package. See AbstractExcelReader.close().
+                    OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+                    try {
+                        workbook = new XSSFWorkbook(pkg);
+                    } catch (IOException | RuntimeException e) {
+                        pkg.revert();
+                        throw e;
+                    }
+                } else {
+                    workbook = new XSSFWorkbook(file);
+                }
             }
         } catch (IOException | InvalidFormatException e) {
             throw new RuntimeException(e.getMessage(), e);
@@ -185,33 +230,21 @@ public final class ExcelUtils {
     /**
      * Returns the number of rows in all sheets.
      *
+     * <p> This doesn't load the workbook, but reads the file with a fixed-size buffer.
+     * For Excel 2007 file, the number of rows in a sheet is computed from the used range
+     * of the sheet if it has, otherwise the sheet is scanned for its rows.
+     * For Excel 97 file, the row records of each sheet are counted. Unlike
+     * {@link #getNumOfRows(Workbook)}, the hidden sheets are also counted.
+     *
      * @param filePath path of Excel file
      * @return the number of rows
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
      * @since 0.10.0
      */
     public static long getNumOfRows(Path filePath) {
-        Pattern sheetXmlPattern = Pattern.compile("^xl/worksheets/sheet[0-9]+\\.xml$");
-        ResourceFinder resourceFinder = new ZipResourceFinder(false,
-                it -> sheetXmlPattern.matcher(it.getName()).matches());
-        List<Resource> resources = resourceFinder.getResources(filePath);
-
         long numOfRows = 0;
-        Pattern rowTagPattern = Pattern.compile("<row r=\"[0-9]+\"");
-
-        for (Resource resource : resources) {
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    Matcher matcher = rowTagPattern.matcher(line);
-                    while (matcher.find()) {
-                        numOfRows++;
-                    }
-                }
-
-            } catch (IOException e) {
-                throw new RuntimeException(e.getMessage(), e);
-            }
+        for (long rowCount : countRowsOfSheets(filePath)) {
+            numOfRows += rowCount;
         }
 
         return numOfRows;
@@ -277,6 +310,41 @@ public final class ExcelUtils {
         return getNumOfModels(workbook);
     }
 
+    /**
+     * Returns the number of models in all sheets.
+     *
+     * <p> This excludes header row. In other words,
+     * this returns the total number of rows minus number of all headers.
+     *
+     * <p> This doesn't load the workbook like {@link #getNumOfRows(Path)},
+     * so the hidden sheets are also counted.
+     *
+     * @param filePath path of Excel file
+     * @return the number of models
+     * @throws IllegalArgumentException unless file extension is equal to 'xls' or 'xlsx'
+     * @since 0.10.0
+     */
+    public static long getNumOfModels(Path filePath) {
+        long numOfModels = 0;
+        for (long rowCount : countRowsOfSheets(filePath)) {
+            numOfModels += Math.max(0, rowCount - 1);
+        }
+
+        return numOfModels;
+    }
+
+    private static long[] countRowsOfSheets(Path filePath) {
+        final String extension = FilenameUtils.getExtension(filePath.getFileName().toString());
+        Asserts.that(extension)
+                .describedAs("Extension of Excel file must be '{0}' or '{1}'",
+                        EXCEL_97_EXTENSION, EXCEL_2007_EXTENSION)
+                .matches(Pattern.compile("^xlsx?$", Pattern.CASE_INSENSITIVE));
+
+        return extension.equalsIgnoreCase(EXCEL_97_EXTENSION)
+                ? RowCounter.countXls(filePath)
+                : RowCounter.countXlsx(filePath);
+    }
+
     /**
      * Returns maximum number of rows in a spreadsheet.
      *
@@ -757,6 +825,7 @@ public final class ExcelUtils {
         }
 
         boolean alignment = style.getAlignment() == other.getAlignment();
+        boolean verticalAlignment = style.getVerticalAlignment() == other.getVerticalAlignment();
         boolean background = style.getFillForegroundColor() == other.getFillForegroundColor();
         boolean pattern = style.getFillPattern() == other.getFillPattern();
 
@@ -772,7 +841,7 @@ public final class ExcelUtils {
         boolean leftBorderColor = style.getLeftBorderColor() == other.getLeftBorderColor();
         boolean borderColor = topBorderColor && rightBorderColor && bottomBorderColor && leftBorderColor;
 
-        return alignment && background && pattern && borderStyle && borderColor;
+        return alignment && verticalAlignment && background && pattern && borderStyle && borderColor;
     }
 
     /**
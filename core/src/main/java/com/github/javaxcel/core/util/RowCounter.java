@@ -0,0 +1,390 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.util.XMLHelper;
+
+import io.github.imsejin.common.annotation.ExcludeFromGeneratedJacocoReport;
+
+/**
+ * Counter of rows in Excel file without loading workbook
+ *
+ * <p> This reads the file with a fixed-size buffer, so it takes constant memory
+ * however large the sheets are.
+ *
+ * @since 0.10.0
+ */
+final class RowCounter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Name of the workbook part, when the package relationships don't point it.
+     */
+    private static final String DEFAULT_WORKBOOK_PART_NAME = "xl/workbook.xml";
+
+    /**
+     * Pattern of the element that has the used range of sheet.
+     *
+     * <p> The single cell reference like {@code <dimension ref="A1"/>} is ignored,
+     * because it is also written for an empty sheet.
+     */
+    private static final Pattern DIMENSION_PATTERN = Pattern.compile(
+            "<dimension\\s+ref=\"[A-Z]*([0-9]+):[A-Z]*([0-9]+)\"");
+
+    private static final byte[] ROW_TAG = "<row".getBytes(StandardCharsets.US_ASCII);
+
+    @ExcludeFromGeneratedJacocoReport
+    private RowCounter() {
+        throw new UnsupportedOperationException(getClass().getName() + " is not allowed to instantiate");
+    }
+
+    /**
+     * Returns the number of rows in each sheet of Excel 2007 file.
+     *
+     * <p> When a sheet has the element {@code <dimension>} as a cell range, the number of rows
+     * is computed from it without scanning the sheet. Otherwise, this scans the decompressed
+     * sheet for {@code <row>} tags. The sheets are counted in parallel.
+     *
+     * @param filePath path of Excel 2007 file
+     * @return the number of rows in each sheet, in order of sheet
+     */
+    static long[] countXlsx(Path filePath) {
+        try (ZipFile zipFile = new ZipFile(filePath.toFile())) {
+            List<ZipEntry> entries = findWorksheetEntries(zipFile);
+            return entries.parallelStream().mapToLong(it -> countSheetXml(zipFile, it)).toArray();
+
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of rows in each sheet of Excel 97 file.
+     *
+     * <p> This walks the BIFF records of the workbook stream and counts
+     * {@link RowRecord ROW} records in each worksheet substream, skipping the bodies of the records.
+     *
+     * @param filePath path of Excel 97 file
+     * @return the number of rows in each sheet, in order of sheet
+     */
+    static long[] countXls(Path filePath) {
+        try (POIFSFileSystem fs = new POIFSFileSystem(filePath.toFile(), true)) {
+            DirectoryNode root = fs.getRoot();
+            String entryName = HSSFWorkbook.getWorkbookDirEntryName(root);
+
+            List<Long> counts = new ArrayList<>();
+            try (DocumentInputStream in = root.createDocumentInputStream(entryName)) {
+                int sheetIndex = -1;
+
+                while (in.available() >= 4) {
+                    int sid = in.readUShort();
+                    int length = in.readUShort();
+
+                    if (sid == BOFRecord.sid && length >= 4) {
+                        in.readUShort(); // version
+                        int type = in.readUShort();
+                        skipFully(in, length - 4);
+
+                        // Embedded chart substream also starts with BOF, but it isn't a worksheet.
+                        if (type == BOFRecord.TYPE_WORKSHEET) {
+                            counts.add(0L);
+                            sheetIndex++;
+                        }
+                        continue;
+                    }
+
+                    if (sid == RowRecord.sid && sheetIndex >= 0) {
+                        counts.set(sheetIndex, counts.get(sheetIndex) + 1);
+                    }
+
+                    skipFully(in, length);
+                }
+            }
+
+            return counts.stream().mapToLong(Long::longValue).toArray();
+
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the entries of worksheet parts in order of sheet.
+     *
+     * <p> The parts are not always named like {@code xl/worksheets/sheet1.xml} and their names
+     * don't follow the order of sheets, so this resolves them in the way the spreadsheet
+     * applications do: the element {@code <sheet>} in the workbook part gives the order
+     * and the relationships of the workbook part give the name of each part.
+     * The chart sheets and dialog sheets are excluded.
+     */
+    private static List<ZipEntry> findWorksheetEntries(ZipFile zipFile) throws IOException, XMLStreamException {
+        String workbookPartName = resolveWorkbookPartName(zipFile);
+        Map<String, String> worksheetPartNames = readWorksheetPartNames(zipFile, workbookPartName);
+
+        List<ZipEntry> entries = new ArrayList<>();
+        for (String relationshipId : readSheetRelationshipIds(zipFile, workbookPartName)) {
+            String partName = worksheetPartNames.get(relationshipId);
+            ZipEntry entry = partName == null ? null : zipFile.getEntry(partName);
+
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+
+        return entries;
+    }
+
+    private static String resolveWorkbookPartName(ZipFile zipFile) throws IOException, XMLStreamException {
+        ZipEntry entry = zipFile.getEntry("_rels/.rels");
+        if (entry == null) {
+            return DEFAULT_WORKBOOK_PART_NAME;
+        }
+
+        Map<String, String> officeDocuments = readRelationships(zipFile, entry, "/", "/officeDocument");
+        return officeDocuments.isEmpty()
+                ? DEFAULT_WORKBOOK_PART_NAME
+                : officeDocuments.values().iterator().next();
+    }
+
+    /**
+     * Returns the names of worksheet parts by relationship id.
+     */
+    private static Map<String, String> readWorksheetPartNames(ZipFile zipFile, String workbookPartName)
+            throws IOException, XMLStreamException {
+        int lastSlashIndex = workbookPartName.lastIndexOf('/');
+        String directory = workbookPartName.substring(0, lastSlashIndex + 1);
+        String fileName = workbookPartName.substring(lastSlashIndex + 1);
+
+        ZipEntry entry = zipFile.getEntry(directory + "_rels/" + fileName + ".rels");
+        if (entry == null) {
+            throw new IllegalArgumentException("Excel file has no relationships of workbook part: " + workbookPartName);
+        }
+
+        return readRelationships(zipFile, entry, "/" + workbookPartName, "/worksheet");
+    }
+
+    /**
+     * Returns the names of target parts by relationship id, whose type ends with the given suffix.
+     *
+     * @param sourcePartUri URI of source part that the relative targets are resolved against
+     */
+    private static Map<String, String> readRelationships(ZipFile zipFile, ZipEntry entry,
+            String sourcePartUri, String typeSuffix) throws IOException, XMLStreamException {
+        Map<String, String> partNames = new HashMap<>();
+
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            XMLStreamReader reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(in);
+
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT
+                            || !"Relationship".equals(reader.getLocalName())) {
+                        continue;
+                    }
+
+                    String type = reader.getAttributeValue(null, "Type");
+                    String target = reader.getAttributeValue(null, "Target");
+                    if (type == null || target == null || !type.endsWith(typeSuffix)
+                            || "External".equals(reader.getAttributeValue(null, "TargetMode"))) {
+                        continue;
+                    }
+
+                    // Target is relative to the source part unless it starts with '/'.
+                    String partUri = URI.create(sourcePartUri).resolve(target).getPath();
+                    partNames.put(reader.getAttributeValue(null, "Id"), partUri.substring(1));
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return partNames;
+    }
+
+    /**
+     * Returns the relationship ids of the sheets in order of sheet.
+     */
+    private static List<String> readSheetRelationshipIds(ZipFile zipFile, String workbookPartName)
+            throws IOException, XMLStreamException {
+        ZipEntry entry = zipFile.getEntry(workbookPartName);
+        if (entry == null) {
+            throw new IllegalArgumentException("Excel file has no workbook part: " + workbookPartName);
+        }
+
+        List<String> relationshipIds = new ArrayList<>();
+
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            XMLStreamReader reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(in);
+
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+
+                    // Stops before the rest of workbook like <definedNames>.
+                    if (event == XMLStreamConstants.END_ELEMENT && "sheets".equals(reader.getLocalName())) {
+                        break;
+                    }
+
+                    if (event != XMLStreamConstants.START_ELEMENT || !"sheet".equals(reader.getLocalName())) {
+                        continue;
+                    }
+
+                    // Attribute "r:id" is in the namespace of relationships,
+                    // which differs between transitional and strict formats.
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        String namespace = reader.getAttributeNamespace(i);
+                        if ("id".equals(reader.getAttributeLocalName(i))
+                                && namespace != null && namespace.endsWith("relationships")) {
+                            relationshipIds.add(reader.getAttributeValue(i));
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return relationshipIds;
+    }
+
+    private static long countSheetXml(ZipFile zipFile, ZipEntry entry) {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            // The element <dimension> precedes the element <sheetData>.
+            int length = readFully(in, buffer);
+            Long dimension = parseDimension(buffer, length);
+            if (dimension != null) {
+                return dimension;
+            }
+
+            RowTagScanner scanner = new RowTagScanner();
+            scanner.scan(buffer, length);
+
+            while ((length = in.read(buffer)) > 0) {
+                scanner.scan(buffer, length);
+            }
+
+            return scanner.count;
+
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private static Long parseDimension(byte[] buffer, int length) {
+        String head = new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+
+        // Ignores the element after the rows begin.
+        int sheetDataIndex = head.indexOf("<sheetData");
+        if (sheetDataIndex >= 0) {
+            head = head.substring(0, sheetDataIndex);
+        }
+
+        Matcher matcher = DIMENSION_PATTERN.matcher(head);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        long firstRownum = Long.parseLong(matcher.group(1));
+        long lastRownum = Long.parseLong(matcher.group(2));
+
+        return Math.max(0, lastRownum - firstRownum + 1);
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        int length;
+        while (offset < buffer.length && (length = in.read(buffer, offset, buffer.length - offset)) > 0) {
+            offset += length;
+        }
+
+        return offset;
+    }
+
+    private static void skipFully(InputStream in, long length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                break;
+            }
+
+            remaining -= skipped;
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Scanner that counts {@code <row>} tags across the chunks of bytes.
+     *
+     * <p> This keeps how many bytes of the tag are matched at the end of the previous chunk,
+     * so the tag split into two chunks is also counted.
+     * The tags whose name only starts with "row", like {@code <rowBreaks>}, are not counted.
+     */
+    private static final class RowTagScanner {
+        private long count;
+
+        private int matched;
+
+        private void scan(byte[] buffer, int length) {
+            for (int i = 0; i < length; i++) {
+                byte b = buffer[i];
+
+                if (this.matched == ROW_TAG.length) {
+                    if (b == ' ' || b == '>' || b == '/' || b == '\t' || b == '\r' || b == '\n') {
+                        this.count++;
+                    }
+
+                    this.matched = b == '<' ? 1 : 0;
+                } else if (b == ROW_TAG[this.matched]) {
+                    this.matched++;
+                } else {
+                    this.matched = b == '<' ? 1 : 0;
+                }
+            }
+        }
+    }
+
+}
@@ -18,14 +18,25 @@ package com.github.javaxcel.core
 
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
 
 import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry
 import com.github.javaxcel.core.converter.handler.registry.impl.ExcelTypeHandlerRegistryImpl
+import com.github.javaxcel.core.in.strategy.impl.Limit
 import com.github.javaxcel.test.converter.handler.impl.TimeUnitTypeHandler
 
 @Subject(Javaxcel)
 class JavaxcelSpec extends Specification {
 
+    @TempDir
+    private Path tempPath
+
     def "Creates an instance"() {
         given:
         def defaultRegistry = new DefaultExcelTypeHandlerRegistry()
@@ -49,4 +60,61 @@ class JavaxcelSpec extends Specification {
         javaxcel.@registry.allTypes.size() == 1
     }
 
+    def "Reads the file by path only for reading"() {
+        given:
+        def filePath = tempPath.resolve("maps.$extension")
+        def maps = (0..<10).collect { [name: "name$it".toString(), value: "$it".toString()] }
+        Files.newOutputStream(filePath).withCloseable { Javaxcel.newInstance().writer(workbook).write(it, maps) }
+        def bytes = Files.readAllBytes(filePath)
+
+        when:
+        def actual = Javaxcel.newInstance().reader(filePath).withCloseable { it.options(new Limit(5)).read() }
+
+        then:
+        actual == maps.take(5)
+        Files.readAllBytes(filePath) == bytes
+
+        where:
+        workbook           | extension
+        new HSSFWorkbook() | "xls"
+        new XSSFWorkbook() | "xlsx"
+    }
+
+    def "Reads each model of the file by path in order of rows"() {
+        given:
+        def filePath = tempPath.resolve("maps.xlsx")
+        def maps = (0..<100).collect { [name: "name$it".toString(), value: "$it".toString()] }
+        Files.newOutputStream(filePath).withCloseable { Javaxcel.newInstance().writer(new XSSFWorkbook()).write(it, maps) }
+
+        when:
+        def actual = []
+        Javaxcel.newInstance().reader(filePath).withCloseable { it.read { actual << it } }
+
+        then:
+        actual == maps
+    }
+
+    def "Reads the views of the file by path with the reader of concrete type"() {
+        given:
+        def filePath = tempPath.resolve("maps.xlsx")
+        def maps = (0..<10).collect { [name: "name$it".toString(), value: "$it".toString()] }
+        Files.newOutputStream(filePath).withCloseable { Javaxcel.newInstance().writer(new XSSFWorkbook()).write(it, maps) }
+
+        when:
+        def actual = []
+        Javaxcel.newInstance().reader(filePath, NameValue).withCloseable { reader ->
+            reader.readViews { actual << it.getRaw("value") }
+        }
+
+        then:
+        actual == maps.collect { it.value }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    static class NameValue {
+        String name
+        String value
+    }
+
 }
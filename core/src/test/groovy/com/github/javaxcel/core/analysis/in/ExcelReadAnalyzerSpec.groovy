@@ -21,7 +21,10 @@ import spock.lang.Subject
 
 import com.github.javaxcel.core.annotation.ExcelReadExpression
 import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry
+import com.github.javaxcel.core.exception.ExcelColumnValidationException
 import com.github.javaxcel.core.in.strategy.impl.UseSetters
+import com.github.javaxcel.core.model.sample.IndexedSample
+import com.github.javaxcel.core.util.FieldUtils
 
 import static com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer.*
 
@@ -68,6 +71,26 @@ class ExcelReadAnalyzerSpec extends Specification {
         "strings" | [new UseSetters()] || [HANDLER, SETTER]
     }
 
+    def "Analyzes the fields with the metadata of generated mapper instead of reading the annotations"() {
+        given:
+        def fields = FieldUtils.getTargetedFields(IndexedSample)
+        def analyzer = new ExcelReadAnalyzer(new DefaultExcelTypeHandlerRegistry())
+
+        when:
+        def analyses = analyzer.analyze(fields, new UseSetters())
+
+        then: "Default values, flags and validators are taken from the metadata"
+        analyses*.defaultMeta*.value == ["indexed", null]
+        analyses*.flags == [HANDLER | FIELD_ACCESS] * 2
+        analyses*.validators*.size() == [1, 0]
+
+        when:
+        analyses[0].validators[0].validate("INDEXED")
+
+        then:
+        thrown(ExcelColumnValidationException)
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     private static class TestModel {
@@ -28,8 +28,10 @@ import com.github.javaxcel.core.converter.handler.impl.math.BigDecimalTypeHandle
 import com.github.javaxcel.core.converter.handler.impl.math.BigIntegerTypeHandler
 import com.github.javaxcel.core.converter.handler.impl.util.UUIDTypeHandler
 import com.github.javaxcel.core.converter.handler.registry.impl.DefaultExcelTypeHandlerRegistry
+import com.github.javaxcel.core.converter.out.ExcelWriteExpressionConverter
 import com.github.javaxcel.core.model.sample.ComplexSample
 import com.github.javaxcel.core.model.sample.GenericSample
+import com.github.javaxcel.core.model.sample.IndexedSample
 import com.github.javaxcel.core.model.sample.ModelSample
 import com.github.javaxcel.core.model.sample.PlainSample
 import com.github.javaxcel.core.out.strategy.impl.DefaultValue
@@ -150,4 +152,26 @@ class ExcelWriteAnalyzerSpec extends Specification {
         }
     }
 
+    def "Analyzes the fields with the metadata of generated mapper instead of reading the annotations"() {
+        given:
+        def fields = FieldUtils.getTargetedFields(IndexedSample)
+        def analyzer = new ExcelWriteAnalyzer(new DefaultExcelTypeHandlerRegistry())
+
+        when:
+        def analyses = analyzer.analyze(fields, new UseGetters())
+
+        then: "Default values, flags and concrete types are taken from the metadata"
+        analyses*.defaultMeta*.value == ["indexed", null]
+        analyses*.defaultMeta*.source == [COLUMN, NONE]
+        analyses*.flags == [EXPRESSION | GETTER, HANDLER | GETTER]
+        analyses*.handler*.type == [String, Integer]
+
+        when:
+        def converter = new ExcelWriteExpressionConverter(analyses)
+        def value = converter.convert(new IndexedSample("foo", 1), fields[0])
+
+        then: "Expression is taken from the metadata"
+        value == "indexed-foo"
+    }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.column
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDate
+
+@Subject(ColumnTable)
+class ColumnTableSpec extends Specification {
+
+    def "Stores the values in the columns specialized for the types"() {
+        given:
+        def table = new ColumnTable(["id", "count", "price", "name", "date"], [long, Integer, double, String, LocalDate])
+        def size = 10_000
+
+        when:
+        (0..<size).each {
+            table.addRow(it as long, it % 7 == 0 ? null : it, it / 2 as double, "name-${it % 3}" as String,
+                    LocalDate.ofEpochDay(it))
+        }
+
+        then:
+        table.size() == size
+        table.columnNames == ["id", "count", "price", "name", "date"]
+        table.columnNames.every { table.getColumn(it).size() == size }
+
+        and: "Stores the values across the chunks"
+        def ids = table.getColumn("id", LongColumnVector)
+        ids.toArray() == (0..<size).collect { it as long } as long[]
+        ids.getLong(size - 1) == size - 1
+
+        and: "Marks the null values"
+        def counts = table.getColumn("count", IntColumnVector)
+        (0..<size).every { counts.isNull(it) == (it % 7 == 0) }
+        (0..<size).every { counts.get(it) == (it % 7 == 0 ? null : it) }
+        counts.getInt(7) == 0
+
+        and:
+        table.getColumn("price", DoubleColumnVector).getDouble(5) == 2.5D
+
+        and: "Encodes the strings with dictionary"
+        def names = table.getColumn("name", StringColumnVector)
+        names.dictionary == ["name-0", "name-1", "name-2"]
+        names.getCode(4) == 1
+        names.getString(4) == "name-1"
+
+        and:
+        table.getColumn("date").get(size - 1) == LocalDate.ofEpochDay(size - 1)
+    }
+
+    def "Fails to access the column with invalid arguments"() {
+        given:
+        def table = new ColumnTable(["id", "name"], [int, String])
+        table.addRow(1, null)
+
+        when:
+        table.getColumn("unknown")
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        table.getColumn("id", StringColumnVector)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        table.addRow(1)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        table.getColumn("name").get(1)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+}
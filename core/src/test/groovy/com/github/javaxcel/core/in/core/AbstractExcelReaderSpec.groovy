@@ -20,6 +20,7 @@ import spock.lang.Specification
 import spock.lang.Subject
 
 import org.apache.poi.ss.usermodel.Workbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
 
 import com.github.javaxcel.core.in.context.ExcelReadContext
 import com.github.javaxcel.core.in.core.impl.ModelReader
@@ -84,6 +85,21 @@ class AbstractExcelReaderSpec extends Specification {
         context.strategyMap.size() == 1
     }
 
+    def "Reads each model with the implementation that doesn't convert each row"() {
+        given:
+        def workbook = new XSSFWorkbook()
+        def sheet = workbook.createSheet()
+        (0..3).each { sheet.createRow(it).createCell(0).setCellValue(it == 0 ? "name" : "name-$it") }
+        def reader = new SheetReader(workbook)
+
+        when:
+        def actual = []
+        reader.read { actual << it }
+
+        then:
+        actual == ["name-1", "name-2", "name-3"]
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     private ExcelReadContext createContext(Class modelType = Object, Class<? extends ExcelReader> readerType = ModelReader) {
@@ -94,4 +110,23 @@ class AbstractExcelReaderSpec extends Specification {
         Spy(AbstractExcelReader, constructorArgs: [context]) as AbstractExcelReader
     }
 
+    /**
+     * Implementation that reads a whole sheet at once, without {@code toModel(Map)}.
+     */
+    private static class SheetReader extends AbstractExcelReader<String> {
+        SheetReader(Workbook workbook) {
+            super(workbook, String)
+        }
+
+        @Override
+        protected List<String> readHeader(ExcelReadContext<String> context) {
+            [context.sheet.getRow(0).getCell(0).stringCellValue]
+        }
+
+        @Override
+        protected List<String> readBody(ExcelReadContext<String> context) {
+            (1..context.sheet.lastRowNum).collect { context.sheet.getRow(it).getCell(0).stringCellValue }
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.javaxcel.core.in.core
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(CompactRowMap)
+class CompactRowMapSpec extends Specification {
+
+    def "Behaves the same as HashMap"() {
+        given:
+        def keys = new CompactRowMap.Keys(["name", "age", "email"])
+
+        when:
+        def map = new CompactRowMap(keys, ["John", "32", null] as String[])
+        def expected = [name: "John", age: "32", email: null]
+
+        then:
+        map == expected
+        expected == map
+        map.hashCode() == expected.hashCode()
+        map.size() == 3
+        map.keySet() as List == ["name", "age", "email"]
+        map.values() as List == ["John", "32", null]
+        map.get("age") == "32"
+        map.containsKey("email")
+        !map.containsKey("phone")
+        map.get("phone") == null
+    }
+
+    def "Shares the keys and puts the value of the last duplicated column"() {
+        given:
+        def keys = new CompactRowMap.Keys(["a", "b", "a"])
+        def values = new String[keys.size()]
+        ["1", "2", "3"].eachWithIndex { value, i -> values[keys.slotOf(i)] = value }
+
+        expect:
+        keys.size() == 2
+        new CompactRowMap(keys, values) == [a: "3", b: "2"]
+    }
+
+    def "Cannot be modified"() {
+        given:
+        def map = new CompactRowMap(new CompactRowMap.Keys(["name"]), ["John"] as String[])
+
+        when:
+        operation(map)
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        where:
+        operation << [
+                { it.put("name", "Jane") },
+                { it.remove("name") },
+                { it.clear() },
+                { it.entrySet().iterator().with { next(); remove() } },
+                { it.entrySet().iterator().next().setValue("Jane") },
+        ]
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.core.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.TestUtils
+import com.github.javaxcel.core.in.strategy.impl.KeyNames
+import com.github.javaxcel.core.in.strategy.impl.Limit
+import com.github.javaxcel.core.in.strategy.impl.Offset
+import com.github.javaxcel.core.in.strategy.impl.Projection
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.out.core.impl.DelimitedTextWriter
+
+@Subject(DelimitedTextReader)
+class DelimitedTextReaderSpec extends Specification {
+
+    def "Reads models from CSV written by DelimitedTextWriter"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 500)
+        def writer = new StringWriter()
+        Javaxcel.newInstance().delimitedWriter(Computer, delimiter).write(writer, computers)
+
+        when:
+        def actual = Javaxcel.newInstance()
+                .delimitedReader(new StringReader(writer.toString()), Computer, delimiter)
+                .read()
+
+        then:
+        actual == computers
+
+        where:
+        delimiter << [DelimitedTextReader.COMMA, DelimitedTextReader.TAB]
+    }
+
+    def "Reads a page of models with projection"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 100)
+        def writer = new StringWriter()
+        Javaxcel.newInstance().delimitedWriter(Computer, DelimitedTextWriter.COMMA).write(writer, computers)
+
+        when:
+        def actual = []
+        Javaxcel.newInstance()
+                .delimitedReader(new StringReader(writer.toString()), Computer, DelimitedTextReader.COMMA)
+                .options(new Offset(10), new Limit(20), new Projection(["cpu", "price"]))
+                .read { actual << it }
+
+        then:
+        actual.size() == 20
+        actual.cpu == computers[10..<30].cpu
+        actual.price == computers[10..<30].price
+        actual.every { it.disk == null && it.manufacturer == null }
+    }
+
+    def "Reads maps with quoted fields and various line breaks"() {
+        given:
+        def text = '\uFEFFa,b,,d\r\n' +
+                'plain,"comma,","quote""","line\nfeed"\n' +
+                '\n' +
+                ',1,, space \r' +
+                'short'
+
+        when:
+        def actual = Javaxcel.newInstance().delimitedReader(new StringReader(text), DelimitedTextReader.COMMA).read()
+
+        then:
+        actual == [
+                [a: "plain", b: "comma,", "2": "quote\"", d: "line\nfeed"],
+                [a: null, b: "1", "2": null, d: " space "],
+                [a: "short", b: null, "2": null, d: null],
+        ]
+    }
+
+    def "Reads maps with key names"() {
+        given:
+        def text = "a\tb\n1\t2\n"
+
+        when:
+        def actual = Javaxcel.newInstance().delimitedReader(new StringReader(text), DelimitedTextReader.TAB)
+                .options(new KeyNames(["A", "B"]))
+                .read()
+
+        then:
+        actual == [[A: "1", B: "2"]]
+    }
+
+    def "Reads nothing from empty text"() {
+        expect:
+        Javaxcel.newInstance().delimitedReader(new StringReader(""), Computer, DelimitedTextReader.COMMA).read().isEmpty()
+    }
+
+}
@@ -22,13 +22,20 @@ import spock.lang.TempDir
 
 import java.nio.file.Files
 import java.nio.file.Path
+import java.time.LocalDate
+import java.time.LocalDateTime
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
 
 import io.github.imsejin.common.tool.RandomString
 
 import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.in.strategy.impl.ColumnTypes
+import com.github.javaxcel.core.in.strategy.impl.CompactMaps
+import com.github.javaxcel.core.in.strategy.impl.Projection
 import com.github.javaxcel.core.out.strategy.impl.HeaderNames
+import com.github.javaxcel.core.out.strategy.impl.TypedValues
 import com.github.javaxcel.core.util.ExcelUtils
 
 @Subject(MapReader)
@@ -75,6 +82,101 @@ class MapReaderSpec extends Specification {
         inputStream.close()
     }
 
+    def "Reads the rows as compact maps"() {
+        given:
+        def keys = ["race", "name", "height", "weight", "eyesight", "favoriteFood"]
+        def filePath = path.resolve("maps-${System.currentTimeMillis()}.xls")
+        List<Map<String, Object>> maps = (0..<1000).collect { getRandomMap(keys) }
+        maps.each { it.eyesight = null }
+
+        and:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance().writer(new HSSFWorkbook())
+                    .options(new HeaderNames(keys))
+                    .write(it, maps)
+        }
+
+        when:
+        List<Map<String, String>> actual = Files.newInputStream(filePath).withCloseable {
+            Javaxcel.newInstance().reader(new HSSFWorkbook(it)).options(*strategies).read()
+        }
+
+        then:
+        actual.every { it.getClass().simpleName == "CompactRowMap" }
+        actual == maps.collect { it.subMap(projection ?: keys) }
+
+        where:
+        strategies                                                   | projection
+        [new CompactMaps()]                                          | null
+        [new CompactMaps(), new Projection(["weight", "eyesight"])] | ["weight", "eyesight"]
+    }
+
+    def "Reads the rows as maps with the values typed by column"() {
+        given:
+        def workbook = new XSSFWorkbook()
+        def sheet = workbook.createSheet()
+        def header = sheet.createRow(0)
+        ["code", "amount", "ratio", "day", "at", "active", "note"].eachWithIndex { name, i ->
+            header.createCell(i).setCellValue(name)
+        }
+
+        and:
+        def styleOf = { String format ->
+            workbook.createCellStyle().tap { it.dataFormat = workbook.createDataFormat().getFormat(format) }
+        }
+        def amountStyle = styleOf("#,##0")
+        def ratioStyle = styleOf("0.0%")
+        def dayStyle = styleOf("m/d/yy")
+        def atStyle = styleOf("yyyy-mm-dd hh:mm:ss")
+        [["007", 1234D, 0.125D], ["700", 5D, "N/A"]].eachWithIndex { values, i ->
+            def row = sheet.createRow(i + 1)
+            row.createCell(0).setCellValue(values[0] as String)
+            row.createCell(1).tap { it.cellValue = values[1] as double; it.cellStyle = amountStyle }
+            values[2] instanceof String
+                    ? row.createCell(2).setCellValue(values[2] as String)
+                    : row.createCell(2).tap { it.cellValue = values[2] as double; it.cellStyle = ratioStyle }
+            row.createCell(3).tap { it.cellValue = LocalDate.of(2024, 1, 15 + i); it.cellStyle = dayStyle }
+            row.createCell(4).tap { it.cellValue = LocalDateTime.of(2024, 1, 15, 10, i); it.cellStyle = atStyle }
+            row.createCell(5).setCellValue(i == 0)
+            if (i == 0) row.createCell(6).setCellValue("hello")
+        }
+
+        when:
+        def reader = Javaxcel.newInstance().reader(workbook) as MapReader
+        def actual = reader.options(*strategies).readTyped()
+
+        then: "Infers the type of each column once from the cell type, not from the displayed text"
+        actual == [
+                [code  : "007", amount: amounts[0], ratio: 0.125D, day: LocalDate.of(2024, 1, 15),
+                 at    : LocalDateTime.of(2024, 1, 15, 10, 0), active: true, note: "hello"],
+                [code  : "700", amount: amounts[1], ratio: "N/A", day: LocalDate.of(2024, 1, 16),
+                 at    : LocalDateTime.of(2024, 1, 15, 10, 1), active: false, note: null],
+        ]
+
+        where:
+        strategies                              | amounts
+        []                                      | [1234D, 5D]
+        [new ColumnTypes([amount: BigDecimal])] | [new BigDecimal("1234"), new BigDecimal("5")]
+    }
+
+    def "Fails to read the rows as maps with typed values"() {
+        given:
+        def filePath = path.resolve("typed-maps-failure.xlsx")
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance().writer(new XSSFWorkbook()).write(it, [[name: "John"]])
+        }
+
+        when:
+        Files.newInputStream(filePath).withCloseable {
+            def reader = Javaxcel.newInstance().reader(new XSSFWorkbook(it)) as MapReader
+            reader.options(new ColumnTypes([name: Thread])).readTyped()
+        }
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.startsWith('MapReader cannot convert the values of column "name"; there is no handler for')
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     private static Map<String, Object> getRandomMap(List<String> keys) {
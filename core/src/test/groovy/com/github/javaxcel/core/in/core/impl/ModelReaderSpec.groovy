@@ -32,6 +32,10 @@ import com.github.javaxcel.core.Javaxcel
 import com.github.javaxcel.core.annotation.ExcelColumn
 import com.github.javaxcel.core.annotation.ExcelValidation
 import com.github.javaxcel.core.exception.ExcelColumnValidationException
+import com.github.javaxcel.core.in.column.IntColumnVector
+import com.github.javaxcel.core.in.column.StringColumnVector
+import com.github.javaxcel.core.in.strategy.impl.Projection
+import com.github.javaxcel.core.in.strategy.impl.UseSetters
 import com.github.javaxcel.test.validator.NotNullColumnValidator
 import com.github.javaxcel.test.validator.NumericUuidColumnValidator
 
@@ -141,6 +145,147 @@ class ModelReaderSpec extends Specification {
         e.message == "Invalid column value $UUID: null"
     }
 
+    def "Reads the row views that convert each field on first access"() {
+        given:
+        def models = (1..100).collect {
+            new Model4(name: it % 10 == 0 ? null : "name-$it", price: it * 100, uuid: UUID.randomUUID())
+        }
+
+        and:
+        def filePath = path.resolve("model4.xlsx")
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook(), Model4)
+                .write(Files.newOutputStream(filePath), models)
+
+        when: "Doesn't validate the field that is not accessed"
+        def reader = Javaxcel.newInstance()
+                .reader(StreamingReader.builder().open(Files.newInputStream(filePath)), Model4) as ModelReader<Model4>
+        def views = []
+        reader.readViews {
+            Integer price = it.get("price")
+            if (price > 9000) {
+                views << it
+            }
+        }
+
+        then:
+        views.size() == 10
+        views.collect { it.getRaw("price") } == (91..100).collect { "${it * 100}" }
+
+        and: "Memoizes the converted value"
+        views.every { it.get("uuid").is(it.get("uuid")) }
+        views.findAll { it.getRaw("name") != null }*.toModel()*.uuid == models[90..98]*.uuid
+
+        when: "Validates the field on first access"
+        views.last().toModel()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "Invalid column value: null"
+    }
+
+    def "Fails to get the field that is not read through the row view"() {
+        given:
+        def filePath = path.resolve("model4.xlsx")
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook(), Model4)
+                .write(Files.newOutputStream(filePath), [new Model4(name: "alpha", price: 1, uuid: UUID.randomUUID())])
+
+        when:
+        def reader = Javaxcel.newInstance()
+                .reader(StreamingReader.builder().open(Files.newInputStream(filePath)), Model4)
+                .options(new Projection(["name"])) as ModelReader<Model4>
+        reader.readViews { it.get("price") }
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.startsWith("ExcelRowView cannot get the field that is not read: price")
+    }
+
+    def "Reads the fields into the columns"() {
+        given:
+        def models = (1..100).collect {
+            new Model4(name: "name-${it % 5}", price: it % 10 == 0 ? null : it * 100, uuid: UUID.randomUUID())
+        }
+
+        and:
+        def filePath = path.resolve("model4.xlsx")
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook(), Model4)
+                .write(Files.newOutputStream(filePath), models)
+
+        when:
+        def reader = Javaxcel.newInstance()
+                .reader(StreamingReader.builder().open(Files.newInputStream(filePath)), Model4)
+                .options(new Projection(projection)) as ModelReader<Model4>
+        def table = reader.readColumns()
+
+        then:
+        table.size() == models.size()
+        table.columnNames == projection
+
+        and:
+        def prices = table.getColumn("price", IntColumnVector)
+        prices.toArray() == models.collect { it.price ?: 0 } as int[]
+        (0..<table.size()).collect { prices.isNull(it) } == models.collect { it.price == null }
+
+        and:
+        def names = table.getColumn("name", StringColumnVector)
+        names.dictionary.size() == 5
+        (0..<table.size()).collect { names.getString(it) } == models*.name
+
+        where:
+        projection << [["name", "price", "uuid"], ["name", "price"]]
+    }
+
+    def "Reads the rows with the same model"() {
+        given:
+        def models = (1..100).collect {
+            new Model4(name: "name-$it", price: it % 10 == 0 ? null : it * 100, uuid: UUID.randomUUID())
+        }
+
+        and:
+        def filePath = path.resolve("model4.xlsx")
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook(), Model4)
+                .write(Files.newOutputStream(filePath), models)
+
+        when:
+        def reader = Javaxcel.newInstance()
+                .reader(StreamingReader.builder().open(Files.newInputStream(filePath)), Model4)
+                .options(*strategies) as ModelReader<Model4>
+        def instances = Collections.newSetFromMap(new IdentityHashMap())
+        def rows = []
+        reader.readReusingModel {
+            instances << it
+            rows << [it.name, it.price, it.uuid]
+        }
+
+        then:
+        instances.size() == 1
+        rows == models.collect { [it.name, it.price, it.uuid] }
+
+        where:
+        strategies << [[], [new UseSetters()]]
+    }
+
+    def "Fails to read the rows with the same model that has final field"() {
+        given:
+        def filePath = path.resolve("model5.xlsx")
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook(), Model5)
+                .write(Files.newOutputStream(filePath), [new Model5("alpha")])
+
+        when:
+        def reader = Javaxcel.newInstance()
+                .reader(StreamingReader.builder().open(Files.newInputStream(filePath)), Model5) as ModelReader<Model5>
+        reader.readReusingModel {}
+
+        then:
+        def e = thrown(UnsupportedOperationException)
+        e.message.startsWith("ModelReader.readReusingModel cannot bind the fields again")
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     private static class Model0 {
@@ -182,4 +327,23 @@ class ModelReaderSpec extends Specification {
         private UUID uuid
     }
 
+    private static class Model4 {
+        @ExcelColumn(
+                validation = @ExcelValidation(
+                        validators = NotNullColumnValidator
+                )
+        )
+        private String name
+        private Integer price
+        private UUID uuid
+    }
+
+    private static class Model5 {
+        private final String name
+
+        Model5(String name) {
+            this.name = name
+        }
+    }
+
 }
@@ -78,6 +78,37 @@ class ExcelModelCreationProcessorSpec extends Specification {
         Delta     | [name: "delta", title: "DELTA", point: 3.14D]          || new Delta("delta", "DELTA", 3.14D)
     }
 
+    def "Passes initial value of the parameter type when its field is excluded from mock"() {
+        given:
+        def fields = FieldUtils.getTargetedFields(Epsilon)
+        def executable = AbstractExcelModelExecutableResolver.resolve(Epsilon)
+        def processor = new ExcelModelCreationProcessor<>(Epsilon, fields, executable)
+
+        expect:
+        processor.createModel(mock) == expected
+
+        where:
+        mock                        || expected
+        [count: 8, name: "epsilon"] || new Epsilon(8, "epsilon")
+        [name: "epsilon"]           || new Epsilon(0, "epsilon")
+        [count: 8]                  || new Epsilon(8, null)
+        [:]                         || new Epsilon(0, null)
+    }
+
+    def "Throws the exception thrown by model creator as it is"() {
+        given:
+        def fields = FieldUtils.getTargetedFields(Epsilon)
+        def executable = AbstractExcelModelExecutableResolver.resolve(Epsilon)
+        def processor = new ExcelModelCreationProcessor<>(Epsilon, fields, executable)
+
+        when:
+        processor.createModel([count: -1, name: "epsilon"])
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "Epsilon.count must be zero or positive: -1"
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     @EqualsAndHashCode
@@ -169,4 +200,19 @@ class ExcelModelCreationProcessorSpec extends Specification {
         }
     }
 
+    @EqualsAndHashCode
+    private static class Epsilon {
+        final int count
+        final String name
+
+        Epsilon(int count, String name) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Epsilon.count must be zero or positive: $count")
+            }
+
+            this.count = count
+            this.name = name
+        }
+    }
+
 }
@@ -16,19 +16,28 @@
 
 package com.github.javaxcel.core.in.resolver
 
+import spock.lang.Requires
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.TempDir
 
+import java.nio.file.Path
 import java.time.Instant
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.format.DateTimeFormatter
 
+import javax.tools.ToolProvider
+
 import com.github.javaxcel.core.annotation.ExcelModelCreator.FieldName
+import com.github.javaxcel.core.model.sample.IndexedSample
 
 @Subject(ExcelModelExecutableParameterNameResolver)
 class ExcelModelExecutableParameterNameResolverSpec extends Specification {
 
+    @TempDir
+    Path tempDir
+
     def "Resolves parameters of the executable"() {
         given:
         def resolver = new ExcelModelExecutableParameterNameResolver(executable)
@@ -64,6 +73,40 @@ class ExcelModelExecutableParameterNameResolverSpec extends Specification {
         TestModel.getDeclaredMethod("format", DateTimeFormatter) || ["format"]         | [DateTimeFormatter]   | [0]     | [true]
     }
 
+    @Requires({ jvm.java16Compatible })
+    def "Resolves parameters of the canonical constructor of record without debug information"() {
+        given:
+        def source = tempDir.resolve("Point.java").toFile()
+        source.text = "public record Point(int x, String label) { public Point(int x) { this(x, null); } }"
+        def classDir = tempDir.resolve("classes").toFile()
+        classDir.mkdirs()
+        ToolProvider.systemJavaCompiler.run(null, null, null, "-g:none", "-d", classDir.path, source.path)
+        def type = new URLClassLoader([classDir.toURI().toURL()] as URL[]).loadClass("Point")
+
+        when:
+        def canonical = new ExcelModelExecutableParameterNameResolver(type.getDeclaredConstructor(int, String)).resolve()
+        def another = new ExcelModelExecutableParameterNameResolver(type.getDeclaredConstructor(int)).resolve()
+
+        then:
+        canonical*.name == ["x", "label"]
+        canonical*.type == [int, String]
+        another*.name != ["x"]
+    }
+
+    def "Resolves parameters with the metadata of generated mapper instead of reading the annotations"() {
+        given:
+        def executable = IndexedSample.getDeclaredConstructor(String, Integer)
+
+        when:
+        def parameters = new ExcelModelExecutableParameterNameResolver(executable).resolve()
+
+        then:
+        parameters*.name == ["title", "count"]
+        parameters*.annotated == [true, false]
+        parameters*.type == [String, Integer]
+        parameters*.index == [0, 1]
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     @SuppressWarnings("unused")
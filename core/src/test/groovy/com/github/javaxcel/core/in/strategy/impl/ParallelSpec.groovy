@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.in.strategy.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Timeout
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.TimeUnit
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+
+@Subject(Parallel)
+class ParallelSpec extends Specification {
+
+    def "Resolves the parallelism from the executor"() {
+        when:
+        def strategy = new Parallel(executor)
+
+        then:
+        strategy.parallelism == parallelism
+
+        cleanup:
+        executor.shutdownNow()
+
+        where:
+        executor                          | parallelism
+        new ForkJoinPool(2)               | 2
+        Executors.newFixedThreadPool(1)   | 1
+        Executors.newCachedThreadPool()   | Runtime.runtime.availableProcessors()
+    }
+
+    def "Fails to resolve the parallelism from the unknown executor"() {
+        when:
+        new Parallel({ it.run() } as Executor)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.startsWith("ExcelReadStrategy.Parallel.parallelism cannot be resolved from the executor")
+    }
+
+    @Timeout(30)
+    def "Reads in a task running on the same executor without deadlock"() {
+        given:
+        def maps = (0..<1000).collect { [name: "name-$it".toString(), value: "$it".toString()] }
+        def workbook = new XSSFWorkbook()
+        Javaxcel.newInstance().writer(workbook).write(new ByteArrayOutputStream(), maps)
+
+        and: "The only thread of executor is occupied by the reading"
+        def executor = Executors.newFixedThreadPool(1)
+
+        when:
+        def actual = executor.submit({
+            def reader = Javaxcel.newInstance().reader(workbook, NameValue)
+                    .options(new Parallel(executor, 4, 10))
+            if (streaming) {
+                def models = []
+                reader.read { models << it }
+                models
+            } else {
+                reader.read()
+            }
+        } as Callable).get(20, TimeUnit.SECONDS)
+
+        then:
+        actual*.name == maps*.name
+
+        cleanup:
+        executor.shutdownNow()
+
+        where:
+        streaming << [false, true]
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    static class NameValue {
+        String name
+        String value
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.core.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.channels.Channels
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.TestUtils
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.out.strategy.impl.DefaultValue
+import com.github.javaxcel.core.out.strategy.impl.HeaderNames
+import com.github.javaxcel.core.out.strategy.impl.KeyNames
+
+@Subject(DelimitedTextWriter)
+class DelimitedTextWriterSpec extends Specification {
+
+    def "Writes models as CSV with the same conversion as ModelWriter"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 100)
+        def writer = new StringWriter()
+
+        when:
+        Javaxcel.newInstance().delimitedWriter(Computer, DelimitedTextWriter.COMMA).write(writer, computers)
+
+        then:
+        def records = writer.toString().split("\r\n")
+        records.length == computers.size() + 1
+        records[0] == "CPU_CLOCK,DISK_SIZE,manufacturer,price"
+        records[1..-1] == computers.collect {
+            [it.cpu, it.disk, it.manufacturer, it.price].collect { v -> v == null ? "" : v.toString() }.join(",")
+        }
+    }
+
+    def "Writes models as TSV with header names"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 10)
+        def writer = new StringWriter()
+        def headerNames = ["CPU", "DISK", "MANUFACTURER", "PRICE"]
+
+        when:
+        Javaxcel.newInstance().delimitedWriter(Computer, DelimitedTextWriter.TAB)
+                .options(new HeaderNames(headerNames))
+                .write(writer, computers)
+
+        then:
+        writer.toString().split("\r\n")[0] == headerNames.join("\t")
+    }
+
+    def "Writes maps with quoting the fields"() {
+        given:
+        def maps = [
+                [a: "plain", b: "comma,", c: "quote\"", d: "line\nfeed"],
+                [a: null, b: "", c: 1, d: " space "],
+        ]
+        def out = new ByteArrayOutputStream()
+
+        when:
+        Javaxcel.newInstance().delimitedWriter(DelimitedTextWriter.COMMA)
+                .options(new KeyNames(["d", "c", "b", "a"]), new DefaultValue("-"))
+                .write(Channels.newChannel(out), maps)
+
+        then:
+        out.toString("UTF-8") == 'd,c,b,a\r\n' +
+                '"line\nfeed","quote""","comma,",plain\r\n' +
+                ' space ,1,-,-\r\n'
+    }
+
+    def "Throws exception when delimiter is not allowed"() {
+        when:
+        Javaxcel.newInstance().delimitedWriter(delimiter as char)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        delimiter << ['"', '\r', '\n']
+    }
+
+}
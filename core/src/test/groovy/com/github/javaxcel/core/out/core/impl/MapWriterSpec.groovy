@@ -6,19 +6,30 @@ import spock.lang.TempDir
 
 import java.nio.file.Files
 import java.nio.file.Path
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.util.concurrent.TimeUnit
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.ss.usermodel.CellType
+import org.apache.poi.ss.usermodel.DateUtil
 import org.apache.poi.ss.usermodel.Workbook
 import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
 
 import com.github.pjfanning.xlsx.StreamingReader
 
 import io.github.imsejin.common.util.StringUtils
 
 import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.internal.style.DefaultBodyStyleConfig
+import com.github.javaxcel.core.out.strategy.impl.BodyStyles
 import com.github.javaxcel.core.out.strategy.impl.DefaultValue
+import com.github.javaxcel.core.out.strategy.impl.FixedKeys
 import com.github.javaxcel.core.out.strategy.impl.KeyNames
 import com.github.javaxcel.core.out.strategy.impl.SheetName
+import com.github.javaxcel.core.out.strategy.impl.SparseCells
+import com.github.javaxcel.core.out.strategy.impl.TypedValues
 import com.github.javaxcel.core.util.ExcelUtils
 import com.github.javaxcel.core.util.ObjectUtils
 import com.github.javaxcel.test.util.TestUtils
@@ -191,4 +202,214 @@ class MapWriterSpec extends Specification {
         [[A: 1, b: 2, C: 3]] | { new KeyNames(["A", "B", "C"]) }             | "MapWriter.keys is at variance with keyMap.orders.keySet"
     }
 
+    def "Writes maps with the fixed keys"() {
+        given:
+        def maps = [
+                [alpha: "A", beta: 1, gamma: true],
+                [beta: 2, delta: "undeclared"],
+        ]
+
+        and:
+        def filePath = path.resolve("map-writer-fixed-keys.xlsx")
+        def out = Files.newOutputStream(filePath)
+
+        when:
+        Javaxcel.newInstance()
+                .writer(new SXSSFWorkbook())
+                .options(new KeyNames(["beta", "alpha", "gamma"], ["B", "A", "G"]), new FixedKeys())
+                .write(out, maps)
+
+        then: "The undeclared keys are ignored and the absent keys are written as empty cells"
+        def workbook = StreamingReader.builder().open(filePath.toFile())
+        def rows = workbook[0].collect { row -> (0..<3).collect { row.getCell(it)?.stringCellValue ?: "" } }
+        rows == [
+                ["B", "A", "G"],
+                ["1", "A", "true"],
+                ["2", "", ""],
+        ]
+
+        cleanup:
+        out.close()
+    }
+
+    def "Writes maps from iterator into each sheet with rotation"() {
+        given:
+        def keys = ["ALPHA", "BETA", "GAMMA"]
+        def hssfWorkbook = new HSSFWorkbook()
+
+        and:
+        // To create multiple sheets, generates models as many
+        // as the amount exceeds the maximum number of rows per sheet.
+        def mockCount = (ExcelUtils.getMaxRows(hssfWorkbook) * 1.1) as int
+        def iterator = (0..<mockCount).iterator().collect { TestUtils.randomizeMap(keys) }.iterator()
+
+        and:
+        def filePath = path.resolve("map-writer-iterator.xls")
+        def out = Files.newOutputStream(filePath)
+
+        when:
+        def writer = new MapWriter(hssfWorkbook)
+        writer.options(new KeyNames(keys), new FixedKeys())
+        writer.write(out, iterator as Iterator<Map<String, Object>>)
+
+        then: "The existing sheet is renamed when the next sheet is created"
+        def workbook = ExcelUtils.getWorkbook(filePath.toFile())
+        workbook*.sheetName == ["Sheet1", "Sheet2"]
+        ExcelUtils.getNumOfModels(workbook) == mockCount
+
+        and:
+        def headers = workbook.collect { sheet -> sheet[0].collect { it.stringCellValue } }
+        headers == [keys] * workbook.numberOfSheets
+
+        cleanup:
+        out.close()
+    }
+
+    def "Fails to write maps from iterator without the fixed keys"() {
+        given:
+        def writer = new MapWriter(Mock(Workbook))
+        writer.options(*strategies)
+
+        when:
+        writer.write(null, [[a: 1]].iterator() as Iterator<Map<String, Object>>)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.startsWith(message)
+
+        where:
+        strategies                      | message
+        []                              | "MapWriter cannot collect the keys from iterator"
+        [new KeyNames(["a"])]           | "MapWriter cannot collect the keys from iterator"
+        [new FixedKeys()]               | "MapWriter.keys must be declared by KeyNames with FixedKeys"
+    }
+
+    def "Writes maps with the values stringified by type handlers only with the option"() {
+        given:
+        def keys = ["int", "float", "enum", "dateTime", "bigDecimal"]
+        def maps = [[
+                int       : 1024,
+                float     : 0.1F,
+                enum      : TimeUnit.SECONDS,
+                dateTime  : LocalDateTime.of(2024, 1, 31, 10, 20, 30),
+                bigDecimal: new BigDecimal("12.50"),
+        ]]
+
+        and:
+        def filePath = path.resolve("map-writer-type-handlers.xlsx")
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance()
+                    .writer(new XSSFWorkbook())
+                    .options(new KeyNames(keys), *strategies)
+                    .write(it, maps)
+        }
+
+        then:
+        def workbook = ExcelUtils.getWorkbook(filePath.toFile())
+        def cells = workbook[0][1].collect()
+        cells*.cellType == cellTypes
+
+        and: "The string cells have the values stringified by toString() or type handlers"
+        cells.findAll { it.cellType == CellType.STRING }*.stringCellValue == stringValues
+
+        and: "The numeric cells have the values as numbers and dates"
+        def numericCells = cells.findAll { it.cellType == CellType.NUMERIC }
+        numericCells*.numericCellValue == (strategies ? [1024D, 0.1D, DateUtil.getExcelDate(maps[0].dateTime)] : [])
+        numericCells.collect { DateUtil.isCellDateFormatted(it) } == (strategies ? [false, false, true] : [])
+
+        where:
+        strategies          | cellTypes                                                                                  | stringValues
+        []                  | [CellType.STRING] * 5                                                                      | ["1024", "0.1", "SECONDS", "2024-01-31T10:20:30", "12.50"]
+        [new TypedValues()] | [CellType.NUMERIC, CellType.NUMERIC, CellType.STRING, CellType.NUMERIC, CellType.STRING] | ["SECONDS", "12.5"]
+    }
+
+    def "Writes dates as numeric cells with the number format"() {
+        given:
+        def maps = [[date: LocalDate.of(2024, 1, 31), long: Long.MAX_VALUE, double: Double.NaN]]
+
+        and:
+        def filePath = path.resolve("map-writer-typed-values.xlsx")
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance()
+                    .writer(new XSSFWorkbook())
+                    .options(new KeyNames(["date", "long", "double"]), new TypedValues())
+                    .write(it, maps)
+        }
+
+        then:
+        def workbook = ExcelUtils.getWorkbook(filePath.toFile())
+        def cells = workbook[0][1].collect()
+        cells[0].cellStyle.dataFormatString == "yyyy-mm-dd"
+        cells[0].localDateTimeCellValue.toLocalDate() == maps[0].date
+
+        and: "The values that Excel cannot represent exactly are written as strings"
+        cells[1].stringCellValue == Long.MAX_VALUE.toString()
+        cells[2].stringCellValue == "NaN"
+    }
+
+    def "Writes maps without creating empty cells"() {
+        given:
+        def maps = [
+                [alpha: "A", beta: null, gamma: ""],
+                [alpha: null, beta: 2, gamma: null],
+        ]
+
+        and:
+        def filePath = path.resolve("map-writer-sparse-cells.xlsx")
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance()
+                    .writer(new XSSFWorkbook())
+                    .options(new KeyNames(["alpha", "beta", "gamma"]), new SparseCells(), *strategies)
+                    .write(it, maps)
+        }
+
+        then: "Only the cells with values are created"
+        def workbook = ExcelUtils.getWorkbook(filePath.toFile())
+        def sheet = workbook[0]
+        sheet[1].collect { it.columnIndex } == [0]
+        sheet[2].collect { it.columnIndex } == [1]
+
+        and: "The body style is set to each column instead of the empty cells"
+        def bodyStyle = sheet[1][0].cellStyle
+        (0..<3).every { sheet.getColumnStyle(it).index == (strategies ? bodyStyle.index : 0 as short) }
+
+        where:
+        strategies << [
+                [],
+                [new BodyStyles(new DefaultBodyStyleConfig())],
+        ]
+    }
+
+    def "Writes sparse maps into smaller file"() {
+        given:
+        def keys = ('A'..'T').collect()
+        List<Map<String, Object>> maps = (0..<2000).collect {
+            def map = TestUtils.randomizeMap(keys)
+            keys.each { key -> if (key > 'F') map[key] = null }
+            map
+        }
+
+        when:
+        def sizes = [[], [new SparseCells()]].collect { strategies ->
+            def filePath = path.resolve("map-writer-sparse-${strategies.size()}.xlsx")
+            Files.newOutputStream(filePath).withCloseable {
+                Javaxcel.newInstance()
+                        .writer(new SXSSFWorkbook())
+                        .options(new BodyStyles(new DefaultBodyStyleConfig()), *strategies)
+                        .write(it, maps)
+            }
+
+            Files.size(filePath)
+        }
+
+        then:
+        sizes[1] < sizes[0]
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.core.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.TestUtils
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.out.strategy.impl.HeaderNames
+import com.github.javaxcel.core.out.strategy.impl.SheetName
+import com.github.javaxcel.core.util.ExcelUtils
+
+@Subject(XlsxModelWriter)
+class XlsxModelWriterSpec extends Specification {
+
+    @TempDir
+    private Path path
+
+    def "Writes models into Excel file that POI can read"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, mockCount)
+        def filePath = path.resolve("computers.xlsx")
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance().xlsxWriter(Computer).write(it, computers)
+        }
+
+        then:
+        ExcelUtils.getNumOfModels(filePath) == mockCount
+
+        and: "The models read by POI are the same as the written models"
+        def workbook = new XSSFWorkbook(filePath.toFile())
+        def actual = Javaxcel.newInstance().reader(workbook, Computer).read()
+        actual == computers
+
+        and: "The styles are the same as the styles written by ModelWriter"
+        def header = workbook.getSheetAt(0).getRow(0)
+        header.collect { it.stringCellValue } == ["CPU_CLOCK", "DISK_SIZE", "manufacturer", "price"]
+        header.every { it.cellStyle.font.bold }
+
+        cleanup:
+        workbook?.close()
+
+        where:
+        mockCount << [0, 1, 1024]
+    }
+
+    def "Writes models with escaping the special characters"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 10)
+        def filePath = path.resolve("computers.xlsx")
+        def headerNames = ["CPU <GHz>", "DISK & SIZE", "\"MANUFACTURER\"", " PRICE "]
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance().xlsxWriter(Computer)
+                    .options(new SheetName("A&B"), new HeaderNames(headerNames))
+                    .write(it, computers)
+        }
+
+        then:
+        def workbook = new XSSFWorkbook(filePath.toFile())
+        workbook.getSheetName(0) == "A&B"
+        workbook.getSheetAt(0).getRow(0).collect { it.stringCellValue } == headerNames
+
+        cleanup:
+        workbook?.close()
+    }
+
+}
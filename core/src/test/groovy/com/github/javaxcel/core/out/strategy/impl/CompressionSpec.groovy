@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Executors
+import java.util.zip.Deflater
+import java.util.zip.ZipEntry
+import java.util.zip.ZipFile
+
+import org.apache.poi.ss.usermodel.Workbook
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.TestUtils
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.out.context.ExcelWriteContext
+import com.github.javaxcel.core.out.core.impl.MapWriter
+import com.github.javaxcel.core.out.core.impl.ModelWriter
+
+@Subject(Compression)
+@SuppressWarnings("GroovyResultOfObjectAllocationIgnored")
+class CompressionSpec extends Specification {
+
+    @TempDir
+    private Path path
+
+    def "Supports only SXSSFWorkbook"() {
+        given:
+        def strategy = new Compression(Deflater.BEST_SPEED)
+
+        expect:
+        strategy.isSupported(new ExcelWriteContext<>(new SXSSFWorkbook(), Computer, ModelWriter))
+        strategy.isSupported(new ExcelWriteContext<>(new SXSSFWorkbook(), Map, MapWriter))
+        !strategy.isSupported(new ExcelWriteContext<>(new XSSFWorkbook(), Computer, ModelWriter))
+        !strategy.isSupported(new ExcelWriteContext<>(Mock(Workbook), Computer, ModelWriter))
+    }
+
+    def "Fails to create strategy with illegal arguments"() {
+        when:
+        new Compression(level, Executors.newSingleThreadExecutor())
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        level << [-1, 10]
+    }
+
+    def "Writes Excel file with the given compression level"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 8192)
+        def filePath = path.resolve("computers.xlsx")
+        def executor = Executors.newFixedThreadPool(3)
+
+        when:
+        Files.newOutputStream(filePath).withCloseable {
+            Javaxcel.newInstance().writer(new SXSSFWorkbook(), Computer)
+                    .options(new Compression(level, executor))
+                    .write(it, computers)
+        }
+
+        then: "All the entries are stored or deflated with the given level"
+        new ZipFile(filePath.toFile()).withCloseable { zipFile ->
+            zipFile.entries().toList().every { it.method == method }
+        }
+
+        and: "The models read by POI are the same as the written models"
+        new XSSFWorkbook(filePath.toFile()).withCloseable {
+            Javaxcel.newInstance().reader(it, Computer).read() == computers
+        }
+
+        cleanup:
+        executor.shutdown()
+
+        where:
+        level                     | method
+        Deflater.NO_COMPRESSION   | ZipEntry.STORED
+        Deflater.BEST_SPEED       | ZipEntry.DEFLATED
+        Deflater.BEST_COMPRESSION | ZipEntry.DEFLATED
+    }
+
+    def "Deflates the sheet into almost the same size as POI does"() {
+        given:
+        def computers = TestUtils.getMocks(Computer, 8192)
+        def expectedPath = path.resolve("expected.xlsx")
+        def actualPath = path.resolve("actual.xlsx")
+
+        when: "Deflates with the level 6 that is the default level of POI"
+        Files.newOutputStream(expectedPath).withCloseable {
+            Javaxcel.newInstance().writer(new SXSSFWorkbook(), Computer).write(it, computers)
+        }
+        Files.newOutputStream(actualPath).withCloseable {
+            Javaxcel.newInstance().writer(new SXSSFWorkbook(), Computer)
+                    .options(new Compression(6))
+                    .write(it, computers)
+        }
+
+        then:
+        Files.size(actualPath) < Files.size(expectedPath) * 1.05
+    }
+
+}
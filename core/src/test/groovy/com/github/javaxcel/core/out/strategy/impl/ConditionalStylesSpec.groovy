@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.ss.usermodel.IndexedColors
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.TestUtils
+import com.github.javaxcel.core.internal.style.DefaultBodyStyleConfig
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.util.ExcelUtils
+import com.github.javaxcel.styler.ExcelStyleConfig
+
+@Subject(ConditionalStyles)
+@SuppressWarnings("GroovyResultOfObjectAllocationIgnored")
+class ConditionalStylesSpec extends Specification {
+
+    def "Sets the style of the first satisfied condition to cell"() {
+        given:
+        ExcelStyleConfig red = { it.font().color(IndexedColors.RED) }
+        ExcelStyleConfig blue = { it.font().color(IndexedColors.BLUE) }
+        def strategy = new ConditionalStyles([
+                new ConditionalStyles.Condition("amount", { it.startsWith("-") }, red),
+                new ConditionalStyles.Condition("amount", { it.startsWith("-1") }, blue),
+                new ConditionalStyles.Condition("name", { it == null }, blue),
+        ])
+        def maps = (1..1000).collect { [name: it % 2 == 0 ? null : "name-$it", amount: 500 - it] }
+
+        when:
+        Javaxcel.newInstance()
+                .writer(workbook)
+                .options(strategy, new BodyStyles(new DefaultBodyStyleConfig()))
+                .write(new ByteArrayOutputStream(), maps)
+
+        then: "Creates only the styles of body and conditions"
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 3
+
+        and:
+        def sheet = workbook.getSheetAt(0)
+        def keys = (0..1).collect { sheet.getRow(0).getCell(it).stringCellValue }
+        def amountIndex = keys.indexOf("amount")
+        def nameIndex = keys.indexOf("name")
+        (1..1000).every { i ->
+            def row = sheet.getRow(i)
+            def amountColor = ExcelUtils.getFontFromCellStyle(workbook, row.getCell(amountIndex).cellStyle).color
+            def nameColor = ExcelUtils.getFontFromCellStyle(workbook, row.getCell(nameIndex).cellStyle).color
+            def amount = 500 - i
+
+            (amount < 0 ? amountColor == IndexedColors.RED.index : amountColor != IndexedColors.RED.index) &&
+                    (i % 2 == 0 ? nameColor == IndexedColors.BLUE.index : nameColor != IndexedColors.BLUE.index)
+        }
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook()]
+    }
+
+    def "Sets the conditional style with the styles of model"() {
+        given:
+        def workbook = new SXSSFWorkbook()
+        ExcelStyleConfig red = { it.font().color(IndexedColors.RED) }
+        def strategy = new ConditionalStyles([new ConditionalStyles.Condition("price", { it == "0" }, red)])
+        def computers = TestUtils.getMocks(Computer, 1024)
+
+        when:
+        Javaxcel.newInstance()
+                .writer(workbook, Computer)
+                .options(strategy)
+                .write(new ByteArrayOutputStream(), computers)
+
+        then: "Creates only one style for condition besides the styles of model"
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 3
+    }
+
+    def "Fails to write with the condition for unknown column"() {
+        given:
+        def strategy = new ConditionalStyles([
+                new ConditionalStyles.Condition("unknown", { true }, { it.font().bold() } as ExcelStyleConfig)
+        ])
+
+        when:
+        Javaxcel.newInstance()
+                .writer(new XSSFWorkbook(), Computer)
+                .options(strategy)
+                .write(new ByteArrayOutputStream(), [])
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "Keeps the conditions even if the given list is modified"() {
+        given:
+        def condition = new ConditionalStyles.Condition("name", { it == null }, { it.font().bold() } as ExcelStyleConfig)
+        def conditions = [condition]
+        def strategy = new ConditionalStyles(conditions)
+
+        when:
+        conditions.clear()
+
+        then:
+        strategy.execute(null) == [condition]
+    }
+
+    def "Fails to create strategy with illegal arguments"() {
+        when:
+        new ConditionalStyles(conditions)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        conditions << [null, [], [null]]
+    }
+
+}
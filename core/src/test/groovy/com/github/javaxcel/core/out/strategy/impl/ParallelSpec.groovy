@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.strategy.impl
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import org.apache.poi.ss.usermodel.Workbook
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.model.computer.Computer
+import com.github.javaxcel.core.out.context.ExcelWriteContext
+import com.github.javaxcel.core.out.core.impl.MapWriter
+import com.github.javaxcel.core.out.core.impl.ModelWriter
+
+@Subject(Parallel)
+class ParallelSpec extends Specification {
+
+    def "Supports only SXSSFWorkbook without shared strings table"() {
+        given:
+        def strategy = new Parallel()
+
+        expect:
+        strategy.isSupported(new ExcelWriteContext<>(new SXSSFWorkbook(), Computer, ModelWriter))
+        strategy.isSupported(new ExcelWriteContext<>(new SXSSFWorkbook(), Map, MapWriter))
+        !strategy.isSupported(new ExcelWriteContext<>(new SXSSFWorkbook(null, 100, false, true), Computer, ModelWriter))
+        !strategy.isSupported(new ExcelWriteContext<>(new XSSFWorkbook(), Computer, ModelWriter))
+        !strategy.isSupported(new ExcelWriteContext<>(Mock(Workbook), Computer, ModelWriter))
+    }
+
+}
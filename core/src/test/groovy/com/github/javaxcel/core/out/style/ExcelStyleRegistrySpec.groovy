@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.style
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.ss.usermodel.HorizontalAlignment
+import org.apache.poi.ss.usermodel.IndexedColors
+import org.apache.poi.ss.usermodel.VerticalAlignment
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.internal.style.DefaultBodyStyleConfig
+import com.github.javaxcel.core.internal.style.DefaultHeaderStyleConfig
+import com.github.javaxcel.core.util.ExcelUtils
+import com.github.javaxcel.styler.ExcelStyleConfig
+import com.github.javaxcel.styler.NoStyleConfig
+
+@Subject(ExcelStyleRegistry)
+class ExcelStyleRegistrySpec extends Specification {
+
+    def "Returns null for NoStyleConfig"() {
+        given:
+        def workbook = new XSSFWorkbook()
+        def registry = new ExcelStyleRegistry(workbook)
+
+        expect:
+        registry.getCellStyle(NoStyleConfig) == null
+        registry.getCellStyle(new NoStyleConfig()) == null
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 0
+    }
+
+    def "Shares a cell style between the configs with the same settings"() {
+        given:
+        def registry = new ExcelStyleRegistry(workbook)
+        ExcelStyleConfig config = { it.font().name("Arial").size(12).bold() }
+        ExcelStyleConfig sameConfig = { it.font().name("Arial").size(12).bold() }
+        ExcelStyleConfig otherConfig = { it.font().name("Arial").size(12).bold().color(IndexedColors.RED) }
+        def numOfFonts = workbook.numberOfFonts
+
+        when:
+        def cellStyle = registry.getCellStyle(config)
+        def sameCellStyle = registry.getCellStyle(sameConfig)
+        def otherCellStyle = registry.getCellStyle(otherConfig)
+
+        then:
+        cellStyle.is(sameCellStyle)
+        !cellStyle.is(otherCellStyle)
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 2
+        workbook.numberOfFonts == numOfFonts + 2
+
+        and: "Returns the same cell style for the type of config"
+        registry.getCellStyle(DefaultHeaderStyleConfig).is(registry.getCellStyle(new DefaultHeaderStyleConfig()))
+        (registry.getCellStyles([new DefaultBodyStyleConfig(), new DefaultBodyStyleConfig()]) as Set).size() == 1
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook(), new SXSSFWorkbook()]
+    }
+
+    def "Doesn't create a font if the config doesn't change font"() {
+        given:
+        def registry = new ExcelStyleRegistry(workbook)
+        ExcelStyleConfig config = { it.alignment().horizontal(HorizontalAlignment.CENTER) }
+        ExcelStyleConfig otherConfig = {
+            it.alignment().horizontal(HorizontalAlignment.CENTER).vertical(VerticalAlignment.TOP)
+        }
+        def numOfFonts = workbook.numberOfFonts
+
+        when:
+        def cellStyle = registry.getCellStyle(config)
+        def otherCellStyle = registry.getCellStyle(otherConfig)
+
+        then:
+        cellStyle.alignment == HorizontalAlignment.CENTER
+        !cellStyle.is(otherCellStyle)
+        otherCellStyle.verticalAlignment == VerticalAlignment.TOP
+        cellStyle.fontIndex == 0
+        workbook.numberOfFonts == numOfFonts
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook()]
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.out.style
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.ss.usermodel.HorizontalAlignment
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.internal.style.DefaultBodyStyleConfig
+import com.github.javaxcel.core.internal.style.DefaultHeaderStyleConfig
+import com.github.javaxcel.core.out.strategy.impl.BodyStyles
+import com.github.javaxcel.core.out.strategy.impl.HeaderStyles
+import com.github.javaxcel.core.out.strategy.impl.PrebuiltStyles
+import com.github.javaxcel.core.util.ExcelUtils
+import com.github.javaxcel.styler.ExcelStyleConfig
+
+@Subject(ExcelStyleSheet)
+class ExcelStyleSheetSpec extends Specification {
+
+    def "Creates the workbooks that have the styles"() {
+        given:
+        def configs = [new DefaultHeaderStyleConfig(), new DefaultBodyStyleConfig()]
+        def styleSheet = new ExcelStyleSheet(prototype, configs)
+
+        when:
+        def workbook = styleSheet.newWorkbook()
+        def otherWorkbook = styleSheet.newWorkbook()
+
+        then:
+        workbook.class == prototype.class
+        !workbook.is(otherWorkbook)
+        styleSheet.isTemplateOf(workbook)
+        styleSheet.isTemplateOf(otherWorkbook)
+        !styleSheet.isTemplateOf(prototype)
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 2
+
+        when:
+        def numOfFonts = workbook.numberOfFonts
+        def registry = styleSheet.newRegistry(workbook)
+        def headerStyle = registry.getCellStyle(DefaultHeaderStyleConfig)
+        def bodyStyle = registry.getCellStyle(new DefaultBodyStyleConfig())
+
+        then: "Doesn't create the styles again"
+        headerStyle.alignment == HorizontalAlignment.CENTER
+        ExcelUtils.getFontFromCellStyle(workbook, headerStyle).bold
+        !headerStyle.is(bodyStyle)
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 2
+        workbook.numberOfFonts == numOfFonts
+
+        when: "Reuses the font of the style sheet"
+        ExcelStyleConfig config = {
+            it.alignment().horizontal(HorizontalAlignment.LEFT).and().font().name("Arial").size(12).bold()
+        }
+        registry.getCellStyle(config)
+
+        then:
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 3
+        workbook.numberOfFonts == numOfFonts
+
+        where:
+        prototype << [new HSSFWorkbook(), new XSSFWorkbook(), new SXSSFWorkbook()]
+    }
+
+    def "Doesn't close the workbook given to the style sheet"() {
+        given:
+        def configs = [new DefaultHeaderStyleConfig(), new DefaultBodyStyleConfig()]
+        new ExcelStyleSheet(prototype, configs)
+
+        when:
+        prototype.createSheet("Sheet0").createRow(0).createCell(0).cellStyle = prototype.getCellStyleAt(1)
+        prototype.write(new ByteArrayOutputStream())
+
+        then:
+        noExceptionThrown()
+        ExcelUtils.getNumOfDeclaredCellStyles(prototype) == 2
+
+        cleanup:
+        prototype.close()
+
+        where:
+        prototype << [new HSSFWorkbook(), new XSSFWorkbook(), new SXSSFWorkbook()]
+    }
+
+    def "Writes with the styles of the style sheet"() {
+        given:
+        def configs = [new DefaultHeaderStyleConfig(), new DefaultBodyStyleConfig()]
+        def styleSheet = new ExcelStyleSheet(new XSSFWorkbook(), configs)
+        def workbook = styleSheet.newWorkbook()
+        def maps = (1..10).collect { [id: it, name: "name-$it"] as Map<String, Object> }
+
+        when:
+        Javaxcel.newInstance()
+                .writer(workbook)
+                .options(new PrebuiltStyles(styleSheet),
+                        new HeaderStyles(new DefaultHeaderStyleConfig()), new BodyStyles(new DefaultBodyStyleConfig()))
+                .write(new ByteArrayOutputStream(), maps)
+
+        then:
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 2
+        workbook.getSheetAt(0).getRow(0).getCell(0).cellStyle.index == 1 as short
+
+        when: "Reads the written workbook"
+        def out = new ByteArrayOutputStream()
+        workbook.write(out)
+        def written = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))
+        def headerStyle = written.getSheetAt(0).getRow(0).getCell(0).cellStyle
+
+        then: "Keeps the styles of the style sheet"
+        ExcelUtils.getNumOfDeclaredCellStyles(written) == 2
+        headerStyle.alignment == HorizontalAlignment.CENTER
+        ExcelUtils.getFontFromCellStyle(written, headerStyle).bold
+    }
+
+    def "Ignores the strategy for the workbook not created by the style sheet"() {
+        given:
+        def styleSheet = new ExcelStyleSheet(new XSSFWorkbook(), [new DefaultHeaderStyleConfig()])
+        def workbook = new XSSFWorkbook()
+        def maps = [[id: 1, name: "name"] as Map<String, Object>]
+
+        when:
+        Javaxcel.newInstance()
+                .writer(workbook)
+                .options(new PrebuiltStyles(styleSheet), new HeaderStyles(new DefaultHeaderStyleConfig()))
+                .write(new ByteArrayOutputStream(), maps)
+
+        then:
+        noExceptionThrown()
+        ExcelUtils.getNumOfDeclaredCellStyles(workbook) == 1
+
+        when:
+        styleSheet.newRegistry(workbook)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Throws exception when the workbook has a sheet"() {
+        given:
+        def workbook = new XSSFWorkbook()
+        workbook.createSheet()
+
+        when:
+        new ExcelStyleSheet(workbook, [new DefaultHeaderStyleConfig()])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+}
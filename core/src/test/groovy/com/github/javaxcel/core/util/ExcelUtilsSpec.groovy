@@ -16,16 +16,21 @@
 
 package com.github.javaxcel.core.util
 
+import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Subject
 import spock.lang.TempDir
 
 import java.nio.file.Files
 import java.nio.file.Path
-import java.nio.file.Paths
+import java.util.zip.ZipEntry
+import java.util.zip.ZipFile
+import java.util.zip.ZipOutputStream
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.poifs.filesystem.POIFSFileSystem
 import org.apache.poi.ss.usermodel.Workbook
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
 import org.apache.poi.xssf.usermodel.XSSFWorkbook
 
 import io.github.imsejin.common.tool.RandomString
@@ -38,6 +43,27 @@ class ExcelUtilsSpec extends Specification {
     @TempDir
     private Path tempPath
 
+    @Shared
+    @TempDir
+    private Path sharedTempPath
+
+    @Shared
+    private Path productsPath
+
+    def setupSpec() {
+        productsPath = sharedTempPath.resolve("products.xlsx")
+
+        def workbook = new SXSSFWorkbook()
+        [32768, 65536, 16384, 8192].eachWithIndex { int rowCount, int i ->
+            def sheet = workbook.createSheet("Sheet$i")
+            (0..<rowCount).each { sheet.createRow(it).createCell(0).setCellValue("product$it") }
+        }
+
+        Files.newOutputStream(productsPath).withCloseable { workbook.write(it) }
+        workbook.dispose()
+        workbook.close()
+    }
+
     def "Gets an instance of workbook"() {
         given:
         def createWorkbookPath = { Workbook workbook ->
@@ -76,9 +102,7 @@ class ExcelUtilsSpec extends Specification {
 
     def "Gets the number of rows on sheet by sheet"() {
         given:
-        def url = Thread.currentThread().contextClassLoader.getResource("spreadsheets/products.xlsx")
-        def file = Paths.get(url.toURI()).toFile()
-        def workbook = getWorkbook(file)
+        def workbook = getWorkbook(productsPath.toFile())
         def sheets = getSheets(workbook)
 
         when:
@@ -93,9 +117,7 @@ class ExcelUtilsSpec extends Specification {
 
     def "Gets the number of rows on all sheets by workbook"() {
         given:
-        def url = Thread.currentThread().contextClassLoader.getResource("spreadsheets/products.xlsx")
-        def file = Paths.get(url.toURI()).toFile()
-        def workbook = getWorkbook(file)
+        def workbook = getWorkbook(productsPath.toFile())
 
         when:
         def rowCount = getNumOfRows(workbook)
@@ -109,14 +131,122 @@ class ExcelUtilsSpec extends Specification {
 
     def "Gets the number of rows on all sheets by path"() {
         given:
-        def url = Thread.currentThread().contextClassLoader.getResource("spreadsheets/products.xlsx")
-        def path = Paths.get(url.toURI())
-
         when:
-        def rowCount = getNumOfRows(path)
+        def rowCount = getNumOfRows(productsPath)
 
         then:
         rowCount == 122880
     }
 
+    def "Gets an instance of workbook for reading only"() {
+        given:
+        def extension = workbook instanceof HSSFWorkbook ? EXCEL_97_EXTENSION : EXCEL_2007_EXTENSION
+        def filePath = tempPath.resolve("${new RandomString().nextString(8)}.$extension")
+        workbook.createSheet("Sheet0").createRow(0).createCell(0).setCellValue("foo")
+        Files.newOutputStream(filePath).withCloseable { workbook.write(it) }
+        workbook.close()
+        def bytes = Files.readAllBytes(filePath)
+
+        when:
+        def readOnlyWorkbook = getWorkbook(filePath.toFile(), true)
+        def value = readOnlyWorkbook.getSheetAt(0).getRow(0).getCell(0).stringCellValue
+        readOnlyWorkbook.getSheetAt(0).getRow(0).getCell(0).setCellValue("bar")
+        readOnlyWorkbook.close()
+
+        then: "The file is not modified"
+        readOnlyWorkbook.class == workbook.class
+        value == "foo"
+        Files.readAllBytes(filePath) == bytes
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook()]
+    }
+
+    def "Fails to get an instance of workbook for reading only from the file without workbook"() {
+        given:
+        def filePath = tempPath.resolve("${new RandomString().nextString(8)}.$EXCEL_97_EXTENSION")
+        Files.newOutputStream(filePath).withCloseable { new POIFSFileSystem().writeFilesystem(it) }
+
+        when:
+        getWorkbook(filePath.toFile(), true)
+
+        then: "Closes the file system"
+        thrown(IllegalArgumentException)
+        Files.deleteIfExists(filePath)
+    }
+
+    def "Gets the number of rows and models on all sheets by path without loading workbook"() {
+        given:
+        def extension = workbook instanceof HSSFWorkbook ? EXCEL_97_EXTENSION : EXCEL_2007_EXTENSION
+        def filePath = tempPath.resolve("${new RandomString().nextString(8)}.$extension")
+
+        and: "Writes the rows on each sheet"
+        rowCounts.eachWithIndex { int rowCount, int i ->
+            def sheet = workbook.createSheet("Sheet$i")
+            (0..<rowCount).each { sheet.createRow(it).createCell(0).setCellValue("row$it") }
+        }
+        Files.newOutputStream(filePath).withCloseable { workbook.write(it) }
+        workbook.close()
+
+        expect:
+        getNumOfRows(filePath) == rowCounts.sum()
+        getNumOfModels(filePath) == rowCounts.collect { Math.max(0, it - 1) }.sum()
+
+        where:
+        workbook            | rowCounts
+        new HSSFWorkbook()  | [0]
+        new HSSFWorkbook()  | [1, 1024, 0, 3]
+        new XSSFWorkbook()  | [0]
+        new XSSFWorkbook()  | [1, 1024, 0, 3]
+        new SXSSFWorkbook() | [0]
+        new SXSSFWorkbook() | [1, 10_000, 0, 3, 1, 1, 1, 1, 1, 1, 2]
+    }
+
+    def "Gets the number of rows on each sheet whose part is not named in order of sheet"() {
+        given:
+        def filePath = tempPath.resolve("${new RandomString().nextString(8)}.$EXCEL_2007_EXTENSION")
+        def workbook = new XSSFWorkbook()
+        [1, 12, 2, 10, 3, 4, 5, 6, 7, 8, 9].each { int rowCount ->
+            def sheet = workbook.createSheet("Rows$rowCount")
+            (0..<rowCount).each { sheet.createRow(it).createCell(0).setCellValue("row$it") }
+        }
+
+        and: "Moves the sheet on 'xl/worksheets/sheet2.xml' to the last"
+        workbook.setSheetOrder("Rows12", 10)
+        def bytes = new ByteArrayOutputStream()
+        workbook.write(bytes)
+        workbook.close()
+
+        and: "Renames the worksheet parts"
+        def originPath = tempPath.resolve("origin.xlsx")
+        Files.write(originPath, bytes.toByteArray())
+        def rename = { String name -> name.replaceFirst(/^(xl\/)worksheets\/sheet([0-9]+)\.xml$/, '$1data/part-$2.xml') }
+        new ZipFile(originPath.toFile()).withCloseable { zipFile ->
+            new ZipOutputStream(Files.newOutputStream(filePath)).withCloseable { out ->
+                zipFile.entries().each { ZipEntry entry ->
+                    def content = zipFile.getInputStream(entry).bytes
+                    if (entry.name == "xl/_rels/workbook.xml.rels") {
+                        content = new String(content, "UTF-8")
+                                .replaceAll(/Target="(\/xl\/)?worksheets\/sheet([0-9]+)\.xml"/, 'Target="/xl/data/part-$2.xml"')
+                                .getBytes("UTF-8")
+                    } else if (entry.name == "[Content_Types].xml") {
+                        content = new String(content, "UTF-8")
+                                .replaceAll(/\/xl\/worksheets\/sheet([0-9]+)\.xml/, '/xl/data/part-$1.xml')
+                                .getBytes("UTF-8")
+                    }
+
+                    out.putNextEntry(new ZipEntry(rename(entry.name)))
+                    out.write(content)
+                    out.closeEntry()
+                }
+            }
+        }
+
+        expect: "Counts in order of sheet"
+        RowCounter.countXlsx(filePath) == [1, 2, 10, 3, 4, 5, 6, 7, 8, 9, 12] as long[]
+        getNumOfRows(filePath) == 67
+        getWorkbook(filePath.toFile()).withCloseable { it.collect { sheet -> getNumOfRows(sheet) } } ==
+                [1, 2, 10, 3, 4, 5, 6, 7, 8, 9, 12]
+    }
+
 }
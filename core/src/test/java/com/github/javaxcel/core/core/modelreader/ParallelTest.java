@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.core.modelreader;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.imsejin.common.tool.Stopwatch;
+
+import com.github.javaxcel.core.TestUtils;
+import com.github.javaxcel.core.core.ModelReaderTester;
+import com.github.javaxcel.core.in.strategy.impl.Parallel;
+import com.github.javaxcel.core.junit.annotation.StopwatchProvider;
+import com.github.javaxcel.core.model.computer.Computer;
+import com.github.javaxcel.core.util.ExcelUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+@StopwatchProvider
+class ParallelTest extends ModelReaderTester {
+
+    private static final int PARALLELISM = 3;
+
+    private static final int BATCH_SIZE = 100;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() {
+        this.executor = Executors.newFixedThreadPool(PARALLELISM);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void test0(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        Class<Computer> type = Computer.class;
+        String filename = type.getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_2007_EXTENSION;
+        File file = path.resolve(filename).toFile();
+
+        run(file, type, stopwatch, 1024 + BATCH_SIZE / 2);
+    }
+
+    @Test
+    void test1(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        Class<Computer> type = Computer.class;
+        String filename = type.getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_97_EXTENSION;
+        File file = path.resolve(filename).toFile();
+
+        run(file, type, stopwatch, BATCH_SIZE / 2);
+    }
+
+    @Test
+    void test2(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        Class<Computer> type = Computer.class;
+        String filename = type.getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_97_EXTENSION;
+        File file = path.resolve(filename).toFile();
+
+        run(file, type, stopwatch, 0);
+    }
+
+    @Override
+    protected ThenModel whenReadModels(GivenModel givenModel, WhenModel whenModel) {
+        List<?> models = TestUtils.JAVAXCEL.reader(whenModel.getWorkbook(), givenModel.getType())
+                .options(new Parallel(this.executor, PARALLELISM, BATCH_SIZE)).read();
+        return new ThenModel(models);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void then(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) throws Exception {
+        List<Computer> computers = (List<Computer>) thenModel.getModels();
+        List<Computer> mocks = whenModel.getMocks();
+
+        assertThat(computers)
+                .as("#1 Each loaded model is equal to each mock in the same order")
+                .containsExactlyElementsOf(mocks);
+    }
+
+}
@@ -192,10 +192,10 @@ class DecorationTest extends ModelWriterTester {
         } else if (type == WithColumn.class) {
             assertThat(cellStyles.stream()
                     .filter(it -> equalsCellStyleAndFont(workbook, it, workbook, headerStyle)).count())
-                    .isEqualTo(3);
+                    .isEqualTo(1); // Shares a cell style with the same settings.
             assertThat(cellStyles.stream()
                     .filter(it -> equalsCellStyleAndFont(workbook, it, workbook, bodyStyle)).count())
-                    .isEqualTo(3);
+                    .isEqualTo(1); // Shares a cell style with the same settings.
 
             for (Sheet sheet : workbook) {
                 // Header.
@@ -222,10 +222,10 @@ class DecorationTest extends ModelWriterTester {
         } else if (type == WithModelAndColumn.class) {
             assertThat(cellStyles.stream()
                     .filter(it -> equalsCellStyleAndFont(workbook, it, workbook, headerStyle)).count())
-                    .isEqualTo(2);
+                    .isEqualTo(1); // Shares a cell style with the same settings.
             assertThat(cellStyles.stream()
                     .filter(it -> equalsCellStyleAndFont(workbook, it, workbook, bodyStyle)).count())
-                    .isEqualTo(2);
+                    .isEqualTo(1); // Shares a cell style with the same settings.
 
             for (Sheet sheet : workbook) {
                 // Header.
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.core.core.modelwriter;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.imsejin.common.tool.Stopwatch;
+import lombok.AllArgsConstructor;
+
+import com.github.javaxcel.core.TestUtils;
+import com.github.javaxcel.core.core.ModelWriterTester;
+import com.github.javaxcel.core.junit.annotation.StopwatchProvider;
+import com.github.javaxcel.core.out.strategy.impl.Parallel;
+import com.github.javaxcel.core.util.ExcelUtils;
+
+import static com.github.javaxcel.core.TestUtils.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @see Parallel
+ */
+@StopwatchProvider
+class ParallelTest extends ModelWriterTester {
+
+    private final AtomicInteger taskCount = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Test
+    void succeed(@TempDir Path path, Stopwatch stopwatch) throws Exception {
+        String filename = getClass().getSimpleName().toLowerCase() + '.' + ExcelUtils.EXCEL_2007_EXTENSION;
+        File file = new File(path.toFile(), filename);
+
+        run(file, Product.class, stopwatch);
+    }
+
+    @Override
+    protected ThenModel whenCreateModels(GivenModel givenModel, WhenModel whenModel) {
+        // Exceeds the maximum number of rows per sheet to write 2 sheets.
+        int mockCount = ExcelUtils.getMaxRows(whenModel.getWorkbook()) - 1 + 1024;
+        whenModel.setMockCount(mockCount);
+
+        List<Product> products = new ArrayList<>(mockCount);
+        for (int i = 0; i < mockCount; i++) {
+            products.add(new Product(i, "product-" + i));
+        }
+
+        return new ThenModel(products);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void whenWriteWorkbook(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) {
+        TestUtils.JAVAXCEL.writer(whenModel.getWorkbook(), givenModel.getType())
+                .options(new Parallel(command -> {
+                    this.taskCount.incrementAndGet();
+                    this.executor.execute(command);
+                }))
+                .write(whenModel.getOutputStream(), (List) thenModel.getModels());
+    }
+
+    @Override
+    protected void then(GivenModel givenModel, WhenModel whenModel, ThenModel thenModel) {
+        File file = givenModel.getFile();
+
+        assertNotEmptyFile(file, "#1 Excel file must be created and have content");
+        assertThat(whenModel.getWorkbook())
+                .as("#2 Workbook is SXSSFWorkbook")
+                .isInstanceOf(SXSSFWorkbook.class);
+        assertThat(whenModel.getWorkbook().getNumberOfSheets())
+                .as("#3 The number of sheets is 2")
+                .isEqualTo(2);
+        assertThat(this.taskCount)
+                .as("#4 Each sheet is written on the executor")
+                .hasValue(2);
+        assertThat(ExcelUtils.getNumOfModels(file.toPath()))
+                .as("#5 The number of actually written models is %,d", thenModel.getModels().size())
+                .isEqualTo(thenModel.getModels().size());
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @AllArgsConstructor
+    private static class Product {
+        private int id;
+        private String name;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.javaxcel.core.model.sample;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import com.github.javaxcel.core.annotation.ExcelColumn;
+import com.github.javaxcel.core.annotation.ExcelModel;
+import com.github.javaxcel.core.annotation.ExcelModelCreator;
+
+/**
+ * Model whose annotations differ from the metadata of {@link IndexedSampleExcelMapper},
+ * to check that the analyzers take the metadata instead of reading the annotations.
+ */
+@Getter
+@ToString
+@ExcelModel(defaultValue = "model")
+public class IndexedSample {
+
+    @ExcelColumn(defaultValue = "column")
+    private final String name;
+
+    private final Integer count;
+
+    @ExcelModelCreator
+    public IndexedSample(String name, Integer count) {
+        this.name = name;
+        this.count = count;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.github.javaxcel.core.model.sample;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer;
+import com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer;
+import com.github.javaxcel.core.mapper.ExcelFieldMetadata;
+import com.github.javaxcel.core.mapper.ExcelModelMapper;
+import com.github.javaxcel.core.mapper.ExcelParameterMetadata;
+
+/**
+ * Mapper in place of the generated one, whose metadata differs from the annotations of {@link IndexedSample}.
+ */
+public final class IndexedSampleExcelMapper implements ExcelModelMapper<IndexedSample> {
+
+    @Override
+    public Function<IndexedSample, Object> getFieldReader(String fieldName) {
+        return null;
+    }
+
+    @Override
+    public Function<IndexedSample, Object> getGetter(String fieldName) {
+        return null;
+    }
+
+    @Override
+    public BiConsumer<IndexedSample, Object> getFieldWriter(String fieldName) {
+        return null;
+    }
+
+    @Override
+    public BiConsumer<IndexedSample, Object> getSetter(String fieldName) {
+        return null;
+    }
+
+    @Override
+    public Function<Object[], IndexedSample> getCreator(String signature) {
+        return null;
+    }
+
+    @Override
+    public List<String> getParameterNames(String signature) {
+        return null;
+    }
+
+    @Override
+    public ExcelFieldMetadata getFieldMetadata(String fieldName) {
+        switch (fieldName) {
+            case "name":
+                return new ExcelFieldMetadata(ExcelWriteAnalyzer.EXPRESSION | ExcelWriteAnalyzer.GETTER,
+                        ExcelReadAnalyzer.HANDLER, String.class, "indexed", null, "'indexed-' + #name", null,
+                        Collections.emptyList(), "[a-z]+", 0);
+            case "count":
+                return new ExcelFieldMetadata(ExcelWriteAnalyzer.HANDLER | ExcelWriteAnalyzer.GETTER,
+                        ExcelReadAnalyzer.HANDLER, Integer.class, null, null, null, null,
+                        Collections.emptyList(), null, 0);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public List<ExcelParameterMetadata> getParameterMetadata(String signature) {
+        switch (signature) {
+            case "<init>(java.lang.String,java.lang.Integer)":
+                return Arrays.asList(new ExcelParameterMetadata("title", true),
+                        new ExcelParameterMetadata("count", false));
+            default:
+                return null;
+        }
+    }
+
+}
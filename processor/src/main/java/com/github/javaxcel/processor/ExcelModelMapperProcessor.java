@@ -0,0 +1,833 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates {@code ExcelModelMapper} for each model class
+ *
+ * <p> For the class annotated with {@code @ExcelModel} or having a member annotated with
+ * {@code @ExcelColumn} or {@code @ExcelModelCreator}, this generates a class named {@code XxxExcelMapper}
+ * in the same package. The mapper accesses the fields, getters, setters and constructors directly,
+ * and knows the parameter names of the model creators without debug information.
+ * It also has the metadata of the fields and model creators, such as the flags, default values, expressions,
+ * validators and the fields that the parameters are mapped to, so the analyzers look them up
+ * instead of reading the annotations with reflection at runtime.
+ * The super classes compiled together also get their own mappers, because each mapper has
+ * only the fields declared on its class.
+ *
+ * <p> The members that are private or declare checked exceptions are left out of the mapper,
+ * so they are still accessed with reflection at runtime.
+ *
+ * <p> This also generates the reachability metadata for GraalVM native image, which registers
+ * the models for reflection, and the mappers and the classes given to the annotations such as
+ * style configs and validators for instantiation. The metadata is written to
+ * {@code META-INF/native-image/{path}/reflect-config.json} in the class output, and the path
+ * can be changed with the option {@code -Ajavaxcel.nativeImagePath=...}.
+ *
+ * @since 0.10.0
+ */
+@SupportedAnnotationTypes({
+        ExcelModelMapperProcessor.EXCEL_MODEL,
+        ExcelModelMapperProcessor.EXCEL_COLUMN,
+        ExcelModelMapperProcessor.EXCEL_MODEL_CREATOR,
+})
+@SupportedOptions(ExcelModelMapperProcessor.NATIVE_IMAGE_PATH_OPTION)
+public class ExcelModelMapperProcessor extends AbstractProcessor {
+
+    static final String EXCEL_MODEL = "com.github.javaxcel.core.annotation.ExcelModel";
+
+    static final String EXCEL_COLUMN = "com.github.javaxcel.core.annotation.ExcelColumn";
+
+    static final String EXCEL_MODEL_CREATOR = "com.github.javaxcel.core.annotation.ExcelModelCreator";
+
+    static final String NATIVE_IMAGE_PATH_OPTION = "javaxcel.nativeImagePath";
+
+    private static final String EXCEL_WRITE_EXPRESSION = "com.github.javaxcel.core.annotation.ExcelWriteExpression";
+
+    private static final String EXCEL_READ_EXPRESSION = "com.github.javaxcel.core.annotation.ExcelReadExpression";
+
+    private static final String FIELD_NAME = "com.github.javaxcel.core.annotation.ExcelModelCreator.FieldName";
+
+    private static final String DEFAULT_NATIVE_IMAGE_PATH = "com.github.javaxcel/javaxcel-models";
+
+    private static final String ANNOTATION_PACKAGE = "com.github.javaxcel.core.annotation.";
+
+    private static final String MAPPER_INTERFACE = "com.github.javaxcel.core.mapper.ExcelModelMapper";
+
+    private static final String FIELD_METADATA = "com.github.javaxcel.core.mapper.ExcelFieldMetadata";
+
+    private static final String PARAMETER_METADATA = "com.github.javaxcel.core.mapper.ExcelParameterMetadata";
+
+    private static final String WRITE_ANALYZER = "com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer";
+
+    private static final String READ_ANALYZER = "com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer";
+
+    private static final String SUFFIX = "ExcelMapper";
+
+    /**
+     * Qualified names of the classes whose mappers are already generated.
+     */
+    private final Set<String> generated = new HashSet<>();
+
+    /**
+     * Binary names of the classes to register for reflection and whether all their members are registered.
+     */
+    private final Map<String, Boolean> reflectedTypes = new LinkedHashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!this.reflectedTypes.isEmpty()) {
+                writeReflectConfig();
+            }
+            return false;
+        }
+
+        Set<TypeElement> sourceTypes = new HashSet<>();
+        for (Element element : roundEnv.getRootElements()) {
+            collectTypes(element, sourceTypes);
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = element instanceof TypeElement
+                        ? (TypeElement) element : (TypeElement) element.getEnclosingElement();
+
+                // The super classes compiled together need their own mappers for the inherited fields.
+                while (type != null && sourceTypes.contains(type)) {
+                    types.add(type);
+
+                    TypeMirror superclass = type.getSuperclass();
+                    type = superclass.getKind() == TypeKind.DECLARED
+                            ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            // The models without mapper are accessed with reflection as well.
+            String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+            this.reflectedTypes.put(binaryName, true);
+            collectAnnotatedClasses(type);
+
+            if (isSupported(type) && this.generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+
+        // Doesn't claim the annotations, so that the other processors can handle them.
+        return false;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static void collectTypes(Element element, Set<TypeElement> types) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        types.add((TypeElement) element);
+        for (Element enclosed : element.getEnclosedElements()) {
+            collectTypes(enclosed, types);
+        }
+    }
+
+    /**
+     * Returns whether the mapper in the same package can access the type.
+     */
+    private static boolean isSupported(TypeElement type) {
+        String kind = type.getKind().name();
+        if (!kind.equals(ElementKind.CLASS.name()) && !kind.equals("RECORD")) {
+            return false;
+        }
+
+        // Non-static inner class needs an instance of the outer class to be created.
+        for (Element it = type; it instanceof TypeElement; it = it.getEnclosingElement()) {
+            TypeElement enclosing = (TypeElement) it;
+            NestingKind nestingKind = enclosing.getNestingKind();
+
+            if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (nestingKind == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers the classes given to the annotations of Javaxcel on the model and its members,
+     * such as {@code @ExcelModel(headerStyle = ...)} and {@code @ExcelValidation(validators = ...)},
+     * because they are instantiated with reflection.
+     */
+    private void collectAnnotatedClasses(TypeElement type) {
+        List<Element> elements = new ArrayList<>();
+        elements.add(type);
+        for (Element enclosed : type.getEnclosedElements()) {
+            elements.add(enclosed);
+            if (enclosed instanceof ExecutableElement) {
+                elements.addAll(((ExecutableElement) enclosed).getParameters());
+            }
+        }
+
+        for (Element element : elements) {
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                if (!annotationType.getQualifiedName().toString().startsWith(ANNOTATION_PACKAGE)) {
+                    continue;
+                }
+
+                // The default classes such as NoStyleConfig are not instantiated.
+                for (AnnotationValue value : annotation.getElementValues().values()) {
+                    collectClassValue(value.getValue());
+                }
+            }
+        }
+    }
+
+    private void collectClassValue(Object value) {
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                collectClassValue(((AnnotationValue) element).getValue());
+            }
+            return;
+        }
+
+        // The class that is not compiled yet is an error type.
+        if (!(value instanceof TypeMirror) || ((TypeMirror) value).getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) value).asElement();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(element).toString();
+
+        // Doesn't narrow the registration of the class that is also a model.
+        this.reflectedTypes.putIfAbsent(binaryName, false);
+    }
+
+    private void generate(TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+        // Binary name of the nested class "Outer.Inner" is "Outer$Inner", which is kept in the name of mapper
+        // not to collide with the mapper of top-level class "Outer_Inner".
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + SUFFIX;
+
+        String source = new SourceWriter(type, packageName, simpleName).write();
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + qualifiedName + ": " + e.getMessage(), type);
+            return;
+        }
+
+        // Mapper is instantiated with its default constructor by name.
+        this.reflectedTypes.put(qualifiedName, false);
+    }
+
+    /**
+     * Writes the reachability metadata of the models and mappers for GraalVM native image.
+     *
+     * <p> The models need all the declared members, because the analyzers resolve the fields,
+     * accessors and creators of model with reflection. The mappers and the classes given to the annotations
+     * need only the constructors.
+     */
+    private void writeReflectConfig() {
+        String path = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_PATH_OPTION, DEFAULT_NATIVE_IMAGE_PATH);
+        String resourceName = "META-INF/native-image/" + path + "/reflect-config.json";
+
+        StringBuilder sb = new StringBuilder("[\n");
+        int i = 0;
+        for (Map.Entry<String, Boolean> entry : this.reflectedTypes.entrySet()) {
+            sb.append("  {\n");
+            sb.append("    \"name\": \"").append(entry.getKey()).append("\",\n");
+            if (entry.getValue()) {
+                sb.append("    \"allDeclaredFields\": true,\n");
+                sb.append("    \"allDeclaredMethods\": true,\n");
+            }
+            sb.append("    \"allDeclaredConstructors\": true\n");
+            sb.append(++i < this.reflectedTypes.size() ? "  },\n" : "  }\n");
+        }
+        sb.append("]\n");
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    resourceName);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(sb.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + resourceName + ": " + e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Writer of source code of mapper
+     */
+    private final class SourceWriter {
+        private final TypeElement type;
+
+        private final String packageName;
+
+        private final String simpleName;
+
+        private final String modelType;
+
+        private final StringBuilder sb = new StringBuilder();
+
+        private SourceWriter(TypeElement type, String packageName, String simpleName) {
+            this.type = type;
+            this.packageName = packageName;
+            this.simpleName = simpleName;
+
+            // Uses raw type, so that the members of generic class are erased.
+            this.modelType = type.getQualifiedName().toString();
+        }
+
+        private String write() {
+            List<VariableElement> fields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(this.type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(field);
+                }
+            }
+
+            List<ExecutableElement> executables = new ArrayList<>(
+                    ElementFilter.constructorsIn(this.type.getEnclosedElements()));
+            for (ExecutableElement method : ElementFilter.methodsIn(this.type.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.STATIC) && hasAnnotation(method, EXCEL_MODEL_CREATOR)) {
+                    executables.add(method);
+                }
+            }
+
+            if (!this.packageName.isEmpty()) {
+                line("package " + this.packageName + ";");
+                line("");
+            }
+
+            line("/**");
+            line(" * Mapper for {@link " + this.modelType + "}");
+            line(" *");
+            line(" * <p> Generated by " + ExcelModelMapperProcessor.class.getName() + ". Do not edit.");
+            line(" */");
+            line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            line("public final class " + this.simpleName + " implements " + MAPPER_INTERFACE + "<" + this.modelType
+                    + "> {");
+
+            writeFieldReader(fields);
+            writeGetter(fields);
+            writeFieldWriter(fields);
+            writeSetter(fields);
+            writeCreator(executables);
+            writeParameterNames(executables);
+            writeFieldMetadata(fields);
+            writeParameterMetadata(executables);
+
+            line("");
+            line("}");
+
+            return this.sb.toString();
+        }
+
+        private void writeFieldReader(List<VariableElement> fields) {
+            beginSwitch("java.util.function.Function<" + this.modelType + ", Object>", "getFieldReader",
+                    "fieldName");
+            for (VariableElement field : fields) {
+                if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                    caseOf(field.getSimpleName().toString(), "model -> model." + field.getSimpleName());
+                }
+            }
+            endSwitch();
+        }
+
+        private void writeGetter(List<VariableElement> fields) {
+            beginSwitch("java.util.function.Function<" + this.modelType + ", Object>", "getGetter", "fieldName");
+            for (VariableElement field : fields) {
+                ExecutableElement getter = findMethod(accessorName("get", field), field, false);
+                if (getter != null) {
+                    caseOf(field.getSimpleName().toString(), "model -> model." + getter.getSimpleName() + "()");
+                }
+            }
+            endSwitch();
+        }
+
+        private void writeFieldWriter(List<VariableElement> fields) {
+            beginSwitch("java.util.function.BiConsumer<" + this.modelType + ", Object>", "getFieldWriter",
+                    "fieldName");
+            for (VariableElement field : fields) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.FINAL)) {
+                    caseOf(field.getSimpleName().toString(), "(model, value) -> {" + nullCheckOf(field.asType())
+                            + " model." + field.getSimpleName() + " = (" + canonicalName(field.asType()) + ") value; }");
+                }
+            }
+            endSwitch();
+        }
+
+        private void writeSetter(List<VariableElement> fields) {
+            beginSwitch("java.util.function.BiConsumer<" + this.modelType + ", Object>", "getSetter", "fieldName");
+            for (VariableElement field : fields) {
+                ExecutableElement setter = findMethod(accessorName("set", field), field, true);
+                if (setter != null) {
+                    caseOf(field.getSimpleName().toString(), "(model, value) -> {" + nullCheckOf(field.asType())
+                            + " model." + setter.getSimpleName() + "((" + canonicalName(field.asType()) + ") value); }");
+                }
+            }
+            endSwitch();
+        }
+
+        private void writeCreator(List<ExecutableElement> executables) {
+            beginSwitch("java.util.function.Function<Object[], " + this.modelType + ">", "getCreator", "signature");
+            if (!this.type.getModifiers().contains(Modifier.ABSTRACT)) {
+                for (ExecutableElement executable : executables) {
+                    if (executable.getModifiers().contains(Modifier.PRIVATE)
+                            || !executable.getThrownTypes().isEmpty()) {
+                        continue;
+                    }
+
+                    List<? extends VariableElement> parameters = executable.getParameters();
+                    List<String> arguments = new ArrayList<>(parameters.size());
+                    for (int i = 0; i < parameters.size(); i++) {
+                        arguments.add("(" + canonicalName(parameters.get(i).asType()) + ") arguments[" + i + "]");
+                    }
+
+                    String call = executable.getKind() == ElementKind.CONSTRUCTOR
+                            ? "new " + this.modelType
+                            : this.modelType + "." + executable.getSimpleName();
+                    caseOf(signatureOf(executable), "arguments -> " + call + "(" + String.join(", ", arguments) + ")");
+                }
+            }
+            endSwitch();
+        }
+
+        private void writeParameterNames(List<ExecutableElement> executables) {
+            beginSwitch("java.util.List<String>", "getParameterNames", "signature");
+            for (ExecutableElement executable : executables) {
+                List<String> names = new ArrayList<>();
+                for (VariableElement parameter : executable.getParameters()) {
+                    names.add('"' + parameter.getSimpleName().toString() + '"');
+                }
+
+                String value = names.isEmpty()
+                        ? "java.util.Collections.emptyList()"
+                        : "java.util.Collections.unmodifiableList(java.util.Arrays.asList(" + String.join(", ", names)
+                        + "))";
+                caseOf(signatureOf(executable), value);
+            }
+            endSwitch();
+        }
+
+        /**
+         * Writes the metadata of the fields with the same rules as {@code ExcelWriteAnalyzer}
+         * and {@code ExcelReadAnalyzer}. The field that has an annotation value not compiled yet is left out.
+         */
+        private void writeFieldMetadata(List<VariableElement> fields) {
+            beginSwitch(FIELD_METADATA, "getFieldMetadata", "fieldName");
+
+            AnnotationMirror model = findAnnotation(this.type, EXCEL_MODEL);
+            String modelDefaultValue = model == null ? null : nonEmpty((String) valueOf(model, "defaultValue"));
+
+            for (VariableElement field : fields) {
+                AnnotationMirror column = findAnnotation(field, EXCEL_COLUMN);
+                AnnotationMirror writeExpression = findAnnotation(field, EXCEL_WRITE_EXPRESSION);
+                AnnotationMirror readExpression = findAnnotation(field, EXCEL_READ_EXPRESSION);
+
+                List<String> validatorNames = new ArrayList<>();
+                String regexp = null;
+                int regexpFlags = 0;
+                if (column != null) {
+                    AnnotationMirror validation = (AnnotationMirror) valueOf(column, "validation");
+                    if (!collectBinaryNames(valueOf(validation, "validators"), validatorNames)) {
+                        continue;
+                    }
+
+                    regexp = nonEmpty((String) valueOf(validation, "regexp"));
+                    regexpFlags = (Integer) valueOf(validation, "flags");
+                }
+
+                String writeFlags = WRITE_ANALYZER + (writeExpression == null ? ".HANDLER" : ".EXPRESSION");
+                if (hasAccessor(accessorName("get", field), field, false)) {
+                    writeFlags += " | " + WRITE_ANALYZER + ".GETTER";
+                }
+                String readFlags = READ_ANALYZER + (readExpression == null ? ".HANDLER" : ".EXPRESSION");
+                if (hasAccessor(accessorName("set", field), field, true)) {
+                    readFlags += " | " + READ_ANALYZER + ".SETTER";
+                }
+
+                List<String> names = new ArrayList<>();
+                for (String validatorName : validatorNames) {
+                    names.add(literalOf(validatorName));
+                }
+
+                List<String> arguments = new ArrayList<>();
+                arguments.add(writeFlags);
+                arguments.add(readFlags);
+                arguments.add(concreteTypeOf(field.asType()));
+                arguments.add(column == null ? "null" : literalOf(nonEmpty((String) valueOf(column, "defaultValue"))));
+                arguments.add(literalOf(modelDefaultValue));
+                arguments.add(writeExpression == null ? "null" : literalOf((String) valueOf(writeExpression, "value")));
+                arguments.add(readExpression == null ? "null" : literalOf((String) valueOf(readExpression, "value")));
+                arguments.add(names.isEmpty()
+                        ? "java.util.Collections.emptyList()"
+                        : "java.util.Arrays.asList(" + String.join(", ", names) + ")");
+                arguments.add(literalOf(regexp));
+                arguments.add(String.valueOf(regexpFlags));
+
+                caseOf(field.getSimpleName().toString(), "new " + FIELD_METADATA + "(\n                        "
+                        + String.join(",\n                        ", arguments) + ")");
+            }
+            endSwitch();
+        }
+
+        /**
+         * Writes the fields that the parameters of model creators are mapped to. The model creator that has
+         * a parameter with blank {@code @FieldName} is left out, so it fails with reflection at runtime.
+         */
+        private void writeParameterMetadata(List<ExecutableElement> executables) {
+            beginSwitch("java.util.List<" + PARAMETER_METADATA + ">", "getParameterMetadata", "signature");
+            for (ExecutableElement executable : executables) {
+                List<String> parameters = new ArrayList<>();
+                for (VariableElement parameter : executable.getParameters()) {
+                    AnnotationMirror fieldName = findAnnotation(parameter, FIELD_NAME);
+                    String name = fieldName == null
+                            ? parameter.getSimpleName().toString() : (String) valueOf(fieldName, "value");
+                    if (name == null || name.trim().isEmpty()) {
+                        parameters = null;
+                        break;
+                    }
+
+                    parameters.add("new " + PARAMETER_METADATA + "(" + literalOf(name) + ", " + (fieldName != null)
+                            + ")");
+                }
+
+                if (parameters == null) {
+                    continue;
+                }
+
+                String value = parameters.isEmpty()
+                        ? "java.util.Collections.emptyList()"
+                        : "java.util.Collections.unmodifiableList(java.util.Arrays.asList("
+                        + String.join(", ", parameters) + "))";
+                caseOf(signatureOf(executable), value);
+            }
+            endSwitch();
+        }
+
+        // -------------------------------------------------------------------------------------------------
+
+        /**
+         * Returns whether the type declares the public method as getter or setter, with the same rule as
+         * {@code FieldUtils.resolveGetter(Field)} and {@code FieldUtils.resolveSetter(Field)} that compare
+         * the erased types.
+         */
+        private boolean hasAccessor(String name, VariableElement field, boolean setter) {
+            Types types = processingEnv.getTypeUtils();
+            TypeMirror fieldType = types.erasure(field.asType());
+
+            for (ExecutableElement method : ElementFilter.methodsIn(this.type.getEnclosedElements())) {
+                if (!method.getSimpleName().contentEquals(name) || !method.getModifiers().contains(Modifier.PUBLIC)) {
+                    continue;
+                }
+
+                List<? extends VariableElement> parameters = method.getParameters();
+                TypeMirror accessorType = setter
+                        ? parameters.size() == 1 ? parameters.get(0).asType() : null
+                        : parameters.isEmpty() ? method.getReturnType() : null;
+                if (accessorType != null && types.isSameType(types.erasure(accessorType), fieldType)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Returns the class literal of concrete type with the same rule as
+         * {@code FieldTypeResolver.resolveConcreteType(Field)}, or {@code "null"} if the mapper cannot access it.
+         */
+        private String concreteTypeOf(TypeMirror type) {
+            Types types = processingEnv.getTypeUtils();
+            TypeMirror iterable = types.erasure(processingEnv.getElementUtils()
+                    .getTypeElement(Iterable.class.getName()).asType());
+
+            while (true) {
+                switch (type.getKind()) {
+                    case ARRAY:
+                        type = ((ArrayType) type).getComponentType();
+                        break;
+                    case TYPEVAR:
+                        type = ((TypeVariable) type).getUpperBound();
+                        break;
+                    case INTERSECTION:
+                        type = ((IntersectionType) type).getBounds().get(0);
+                        break;
+                    case WILDCARD:
+                        WildcardType wildcardType = (WildcardType) type;
+                        type = wildcardType.getSuperBound() != null ? wildcardType.getSuperBound()
+                                : wildcardType.getExtendsBound() != null ? wildcardType.getExtendsBound()
+                                : processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+                        break;
+                    case DECLARED:
+                        // Element type of Iterable is its first type argument, or Object if it is raw type.
+                        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+                        if (types.isSubtype(types.erasure(type), iterable)) {
+                            if (typeArguments.isEmpty()) {
+                                return Object.class.getName() + ".class";
+                            }
+
+                            type = typeArguments.get(0);
+                            break;
+                        }
+
+                        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                        return isAccessible(element) ? element.getQualifiedName() + ".class" : "null";
+                    default:
+                        return type.getKind().isPrimitive() ? canonicalName(type) + ".class" : "null";
+                }
+            }
+        }
+
+        private boolean isAccessible(TypeElement type) {
+            Elements elements = processingEnv.getElementUtils();
+            boolean samePackage = elements.getPackageOf(type).getQualifiedName().contentEquals(this.packageName);
+
+            for (Element it = type; it instanceof TypeElement; it = it.getEnclosingElement()) {
+                TypeElement enclosing = (TypeElement) it;
+                NestingKind nestingKind = enclosing.getNestingKind();
+                Set<Modifier> modifiers = enclosing.getModifiers();
+
+                if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS
+                        || modifiers.contains(Modifier.PRIVATE)) {
+                    return false;
+                }
+                if (!modifiers.contains(Modifier.PUBLIC) && !samePackage) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Collects the binary names of the classes in the annotation value,
+         * and returns false if one of them is not compiled yet.
+         */
+        private boolean collectBinaryNames(Object value, List<String> names) {
+            for (Object element : (List<?>) value) {
+                TypeMirror type = (TypeMirror) ((AnnotationValue) element).getValue();
+                if (type.getKind() != TypeKind.DECLARED) {
+                    return false;
+                }
+
+                TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+                names.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+            }
+
+            return true;
+        }
+
+        /**
+         * Finds the public instance method declared on the type as getter or setter,
+         * with the same rule as {@code FieldUtils.resolveGetter(Field)} and {@code FieldUtils.resolveSetter(Field)}.
+         */
+        private ExecutableElement findMethod(String name, VariableElement field, boolean setter) {
+            for (ExecutableElement method : ElementFilter.methodsIn(this.type.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (!method.getSimpleName().contentEquals(name) || !modifiers.contains(Modifier.PUBLIC)
+                        || modifiers.contains(Modifier.STATIC) || !method.getThrownTypes().isEmpty()) {
+                    continue;
+                }
+
+                if (setter) {
+                    if (method.getParameters().size() == 1 && processingEnv.getTypeUtils()
+                            .isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                        return method;
+                    }
+                } else {
+                    if (method.getParameters().isEmpty() && processingEnv.getTypeUtils()
+                            .isSameType(method.getReturnType(), field.asType())) {
+                        return method;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Returns the statement that rejects null for primitive type with the same message as
+         * {@code ReflectionUtils.setFieldValue(Object, Field, Object)}, instead of NPE from unboxing.
+         */
+        private String nullCheckOf(TypeMirror type) {
+            if (!type.getKind().isPrimitive()) {
+                return "";
+            }
+
+            return " if (value == null) throw new IllegalArgumentException("
+                    + "\"Value is not allowed to set null to primitive field: " + canonicalName(type) + " <= null\");";
+        }
+
+        /**
+         * Returns the signature with the same format as {@code ExcelModelMappers.getSignature(Executable)}.
+         */
+        private String signatureOf(ExecutableElement executable) {
+            List<String> parameterTypes = new ArrayList<>();
+            for (VariableElement parameter : executable.getParameters()) {
+                parameterTypes.add(canonicalName(parameter.asType()));
+            }
+
+            String name = executable.getKind() == ElementKind.CONSTRUCTOR
+                    ? "<init>" : executable.getSimpleName().toString();
+            return name + '(' + String.join(",", parameterTypes) + ')';
+        }
+
+        /**
+         * Returns the canonical name of erasure of the type, which is the same as {@link Class#getCanonicalName()}.
+         */
+        private String canonicalName(TypeMirror type) {
+            if (type.getKind().isPrimitive()) {
+                return type.getKind().name().toLowerCase();
+            }
+
+            switch (type.getKind()) {
+                case ARRAY:
+                    return canonicalName(((ArrayType) type).getComponentType()) + "[]";
+                case DECLARED:
+                    return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+                default:
+                    return canonicalName(processingEnv.getTypeUtils().erasure(type));
+            }
+        }
+
+        private boolean hasAnnotation(Element element, String annotationName) {
+            return findAnnotation(element, annotationName) != null;
+        }
+
+        private AnnotationMirror findAnnotation(Element element, String annotationName) {
+            return element.getAnnotationMirrors().stream().filter(it -> ((TypeElement) it.getAnnotationType()
+                    .asElement()).getQualifiedName().contentEquals(annotationName)).findFirst().orElse(null);
+        }
+
+        /**
+         * Returns the value of annotation attribute, including its default value.
+         */
+        private Object valueOf(AnnotationMirror annotation, String name) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+                    .getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(name)) {
+                    return entry.getValue().getValue();
+                }
+            }
+
+            return null;
+        }
+
+        private String literalOf(String value) {
+            return value == null ? "null" : processingEnv.getElementUtils().getConstantExpression(value);
+        }
+
+        private String nonEmpty(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        private String accessorName(String prefix, VariableElement field) {
+            String fieldName = field.getSimpleName().toString();
+            return prefix + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        }
+
+        private void beginSwitch(String returnType, String methodName, String parameterName) {
+            line("");
+            line("    @Override");
+            line("    public " + returnType + " " + methodName + "(String " + parameterName + ") {");
+            line("        switch (" + parameterName + ") {");
+        }
+
+        private void caseOf(String label, String value) {
+            line("            case \"" + label + "\":");
+            line("                return " + value + ";");
+        }
+
+        private void endSwitch() {
+            line("            default:");
+            line("                return null;");
+            line("        }");
+            line("    }");
+        }
+
+        private void line(String line) {
+            this.sb.append(line).append('\n');
+        }
+    }
+
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.processor
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.core.Javaxcel
+import com.github.javaxcel.core.analysis.in.ExcelReadAnalyzer
+import com.github.javaxcel.core.analysis.out.ExcelWriteAnalyzer
+import com.github.javaxcel.core.annotation.ExcelModel
+import com.github.javaxcel.core.mapper.ExcelModelMappers
+import com.github.javaxcel.styler.ExcelStyleConfig
+
+@Subject(ExcelModelMapperProcessor)
+class ExcelModelMapperProcessorSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    def "Generates the mappers of model and its super class"() {
+        given:
+        def classLoader = compile([
+                "sample/Product.java": """
+                    package sample;
+
+                    import com.github.javaxcel.core.annotation.ExcelModel;
+                    import com.github.javaxcel.core.annotation.ExcelModelCreator;
+
+                    @ExcelModel
+                    public class Product extends Base {
+                        final String name;
+                        private int price;
+                        java.util.List<String> tags;
+
+                        @ExcelModelCreator
+                        public Product(String name, int price) {
+                            this.name = name;
+                            this.price = price;
+                        }
+
+                        public int getPrice() { return price; }
+                        public void setPrice(int price) { this.price = price; }
+                    }
+                """,
+                "sample/Base.java"   : """
+                    package sample;
+
+                    public abstract class Base {
+                        Long id;
+                    }
+                """,
+        ])
+        def productType = classLoader.loadClass("sample.Product")
+        def baseType = classLoader.loadClass("sample.Base")
+
+        when:
+        def mapper = ExcelModelMappers.find(productType)
+        def baseMapper = ExcelModelMappers.find(baseType)
+
+        then: "Generates only accessible members"
+        mapper.class.name == "sample.ProductExcelMapper"
+        mapper.getFieldReader("name") != null
+        mapper.getFieldReader("price") == null
+        mapper.getFieldWriter("name") == null
+        mapper.getFieldWriter("tags") != null
+        mapper.getGetter("price") != null
+        mapper.getSetter("price") != null
+        mapper.getGetter("name") == null
+        mapper.getParameterNames("<init>(java.lang.String,int)") == ["name", "price"]
+
+        and: "Creates the model without reflection"
+        def product = mapper.getCreator("<init>(java.lang.String,int)").apply(["Laptop", 1000] as Object[])
+        mapper.getFieldReader("name").apply(product) == "Laptop"
+        mapper.getGetter("price").apply(product) == 1000
+
+        and: "Abstract super class has its own fields"
+        baseMapper.class.name == "sample.BaseExcelMapper"
+        baseMapper.getFieldWriter("id") != null
+        baseMapper.getCreator("<init>()") == null
+        baseMapper.getParameterNames("<init>()") == []
+    }
+
+    def "Generates the mapper of nested class"() {
+        given:
+        def classLoader = compile([
+                "sample/Outer.java": """
+                    package sample;
+
+                    public class Outer {
+                        @com.github.javaxcel.core.annotation.ExcelModel
+                        public static class Inner {
+                            int[] values;
+                        }
+
+                        @com.github.javaxcel.core.annotation.ExcelModel
+                        public class NonStatic {
+                            int value;
+                        }
+                    }
+                """,
+                "sample/Outer_Inner.java": """
+                    package sample;
+
+                    @com.github.javaxcel.core.annotation.ExcelModel
+                    public class Outer_Inner {
+                        int value;
+                    }
+                """,
+        ])
+
+        expect: "The mapper of nested class doesn't collide with the mapper of top-level class"
+        ExcelModelMappers.find(classLoader.loadClass('sample.Outer$Inner')).class.name == 'sample.Outer$InnerExcelMapper'
+        ExcelModelMappers.find(classLoader.loadClass('sample.Outer_Inner')).class.name == "sample.Outer_InnerExcelMapper"
+        ExcelModelMappers.find(classLoader.loadClass('sample.Outer$NonStatic')) == null
+    }
+
+    def "Fails to set null to primitive field with the generated mapper"() {
+        given:
+        def classLoader = compile([
+                "sample/Product.java": """
+                    package sample;
+
+                    @com.github.javaxcel.core.annotation.ExcelModel
+                    public class Product {
+                        int price;
+
+                        public void setPrice(int price) {
+                            this.price = price;
+                        }
+                    }
+                """,
+        ])
+        def type = classLoader.loadClass("sample.Product")
+        def mapper = ExcelModelMappers.find(type)
+
+        when:
+        mapper."$method"("price").accept(type.newInstance(), null)
+
+        then: "Throws the same exception as reflection, instead of NPE"
+        def e = thrown(IllegalArgumentException)
+        e.message == "Value is not allowed to set null to primitive field: int <= null"
+
+        where:
+        method << ["getFieldWriter", "getSetter"]
+    }
+
+    def "Writes and reads the models with the generated mapper"() {
+        given:
+        def classLoader = compile([
+                "sample/Product.java": """
+                    package sample;
+
+                    import com.github.javaxcel.core.annotation.ExcelModelCreator;
+
+                    public class Product {
+                        final String name;
+                        final int price;
+
+                        @ExcelModelCreator
+                        public Product(String name, int price) {
+                            this.name = name;
+                            this.price = price;
+                        }
+                    }
+                """,
+        ])
+        def type = classLoader.loadClass("sample.Product")
+        def mapper = ExcelModelMappers.find(type)
+        def signature = "<init>(java.lang.String,int)"
+        def models = (1..100).collect { mapper.getCreator(signature).apply(["name-$it" as String, it] as Object[]) }
+
+        when:
+        def out = new ByteArrayOutputStream()
+        Javaxcel.newInstance().writer(new XSSFWorkbook(), type).write(out, models)
+        def actual = Javaxcel.newInstance()
+                .reader(new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray())), type)
+                .read()
+
+        then: "Parameter names are resolved without debug information"
+        actual.size() == models.size()
+        actual.collect { mapper.getFieldReader("name").apply(it) } == models.collect { it.name }
+        actual.collect { mapper.getFieldReader("price").apply(it) } == (1..100)
+    }
+
+    def "Generates the metadata of fields and model creators"() {
+        given:
+        def classLoader = compile([
+                "sample/Item.java": """
+                    package sample;
+
+                    import java.util.List;
+
+                    import com.github.javaxcel.core.annotation.*;
+                    import com.github.javaxcel.core.annotation.ExcelModelCreator.FieldName;
+                    import com.github.javaxcel.core.validator.ExcelColumnValidator;
+
+                    @ExcelModel(defaultValue = "-")
+                    public class Item {
+                        @ExcelColumn(defaultValue = "0", validation = @ExcelValidation(
+                                validators = PositiveValidator.class, regexp = "[0-9]+", flags = 2))
+                        private List<Long> counts;
+
+                        @ExcelWriteExpression("#name.toUpperCase()")
+                        @ExcelReadExpression("#name.toLowerCase()")
+                        String name;
+
+                        private Hidden hidden;
+
+                        @ExcelModelCreator
+                        public Item(@FieldName("name") String title, List<Long> counts) {
+                            this.name = title;
+                            this.counts = counts;
+                        }
+
+                        public Item(@FieldName(" ") String name) {
+                            this.name = name;
+                        }
+
+                        public List<Long> getCounts() { return counts; }
+                        public void setCounts(List<Long> counts) { this.counts = counts; }
+
+                        private static class Hidden {
+                        }
+
+                        public static class PositiveValidator implements ExcelColumnValidator {
+                            @Override
+                            public void validate(String cellValue) {
+                            }
+                        }
+                    }
+                """,
+        ])
+        def mapper = ExcelModelMappers.find(classLoader.loadClass("sample.Item"))
+
+        when:
+        def counts = mapper.getFieldMetadata("counts")
+        def name = mapper.getFieldMetadata("name")
+        def hidden = mapper.getFieldMetadata("hidden")
+
+        then: "Flags, default values and validators of the field"
+        counts.writeFlags == (ExcelWriteAnalyzer.HANDLER | ExcelWriteAnalyzer.GETTER)
+        counts.readFlags == (ExcelReadAnalyzer.HANDLER | ExcelReadAnalyzer.SETTER)
+        counts.concreteType == Long
+        counts.columnDefaultValue == "0"
+        counts.modelDefaultValue == "-"
+        counts.writeExpression == null
+        counts.validatorNames == ['sample.Item$PositiveValidator']
+        counts.regexp == "[0-9]+"
+        counts.regexpFlags == 2
+
+        and: "Expressions of the field"
+        name.writeFlags == ExcelWriteAnalyzer.EXPRESSION
+        name.readFlags == ExcelReadAnalyzer.EXPRESSION
+        name.concreteType == String
+        name.columnDefaultValue == null
+        name.writeExpression == "#name.toUpperCase()"
+        name.readExpression == "#name.toLowerCase()"
+        name.validatorNames == []
+
+        and: "Type that the mapper cannot access is left to be resolved at runtime"
+        hidden.concreteType == null
+        mapper.getFieldMetadata("unknown") == null
+
+        when:
+        def parameters = mapper.getParameterMetadata("<init>(java.lang.String,java.util.List)")
+
+        then: "Parameters are mapped to the fields"
+        parameters.collect { [it.fieldName, it.annotated] } == [["name", true], ["counts", false]]
+
+        and: "Model creator with blank @FieldName is left to fail at runtime"
+        mapper.getParameterMetadata("<init>(java.lang.String)") == null
+    }
+
+    def "Generates the reachability metadata of models and mappers"() {
+        given:
+        def sources = [
+                "sample/Product.java": """
+                    package sample;
+
+                    @com.github.javaxcel.core.annotation.ExcelModel
+                    public class Product {
+                        String name;
+
+                        @com.github.javaxcel.core.annotation.ExcelModel
+                        private static class Hidden {
+                            int value;
+                        }
+                    }
+                """,
+        ]
+
+        when:
+        compile(sources, options)
+        def file = tempDir.resolve("classes/META-INF/native-image/$path/reflect-config.json").toFile()
+
+        then: "Registers all the declared members of models and only the constructors of mappers"
+        file.text.normalize().trim() == """\
+            [
+              {
+                "name": "sample.Product",
+                "allDeclaredFields": true,
+                "allDeclaredMethods": true,
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.ProductExcelMapper",
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.Product\$Hidden",
+                "allDeclaredFields": true,
+                "allDeclaredMethods": true,
+                "allDeclaredConstructors": true
+              }
+            ]
+        """.stripIndent(true).trim()
+
+        where:
+        options                                  || path
+        []                                       || "com.github.javaxcel/javaxcel-models"
+        ["-Ajavaxcel.nativeImagePath=my/app"] || "my/app"
+    }
+
+    def "Registers the classes given to the annotations for instantiation"() {
+        given:
+        def sources = [
+                "sample/Product.java": """
+                    package sample;
+
+                    import com.github.javaxcel.core.annotation.ExcelColumn;
+                    import com.github.javaxcel.core.annotation.ExcelModel;
+                    import com.github.javaxcel.core.annotation.ExcelValidation;
+
+                    @ExcelModel(headerStyle = Product.Header.class)
+                    public class Product {
+                        @ExcelColumn(bodyStyle = Product.Body.class)
+                        @ExcelValidation(validators = {Product.NotBlank.class, Product.NotBlank.class})
+                        String name;
+
+                        public static class Header extends com.github.javaxcel.styler.NoStyleConfig {
+                        }
+
+                        public static class Body extends com.github.javaxcel.styler.NoStyleConfig {
+                        }
+
+                        public static class NotBlank implements com.github.javaxcel.core.validator.ExcelColumnValidator {
+                            @Override
+                            public void validate(String cellValue) {
+                            }
+                        }
+                    }
+                """,
+        ]
+
+        when:
+        compile(sources)
+        def file = tempDir.resolve("classes/META-INF/native-image/com.github.javaxcel/javaxcel-models/reflect-config.json").toFile()
+
+        then: "Registers only the constructors of the classes, except defaults"
+        file.text.normalize().trim() == """\
+            [
+              {
+                "name": "sample.Product",
+                "allDeclaredFields": true,
+                "allDeclaredMethods": true,
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.Product\$Header",
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.Product\$Body",
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.Product\$NotBlank",
+                "allDeclaredConstructors": true
+              },
+              {
+                "name": "sample.ProductExcelMapper",
+                "allDeclaredConstructors": true
+              }
+            ]
+        """.stripIndent(true).trim()
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private ClassLoader compile(Map<String, String> sources, List<String> options = []) {
+        def sourceDir = Files.createDirectories(tempDir.resolve("src"))
+        def classDir = Files.createDirectories(tempDir.resolve("classes"))
+        def files = sources.collect { path, source ->
+            def file = sourceDir.resolve(path)
+            Files.createDirectories(file.parent)
+            file.toFile().tap { it.text = source.stripIndent() }
+        }
+
+        def compiler = ToolProvider.systemJavaCompiler
+        def diagnostics = new DiagnosticCollector<JavaFileObject>()
+        def fileManager = compiler.getStandardFileManager(diagnostics, null, null)
+        def classpath = [ExcelModel, ExcelStyleConfig]
+                .collect { new File(it.protectionDomain.codeSource.location.toURI()).path }
+                .join(File.pathSeparator)
+
+        // Compiles without debug information of local variables.
+        def task = compiler.getTask(null, fileManager, diagnostics,
+                ["-g:none", "-classpath", classpath, "-d", classDir.toString()] + options,
+                null, fileManager.getJavaFileObjectsFromFiles(files))
+        task.processors = [new ExcelModelMapperProcessor()]
+
+        def success = task.call()
+        assert success, diagnostics.diagnostics.join("\n")
+        fileManager.close()
+
+        new URLClassLoader([classDir.toUri().toURL()] as URL[], getClass().classLoader)
+    }
+
+}
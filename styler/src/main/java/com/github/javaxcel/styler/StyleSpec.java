@@ -0,0 +1,459 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.styler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.imsejin.common.assertion.Asserts;
+import io.github.imsejin.common.util.ReflectionUtils;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import com.github.javaxcel.styler.config.Configurer;
+import com.github.javaxcel.styler.role.Alignments;
+import com.github.javaxcel.styler.role.Backgrounds;
+import com.github.javaxcel.styler.role.Borders;
+import com.github.javaxcel.styler.role.Fonts.Offset;
+import com.github.javaxcel.styler.role.Fonts.Underline;
+
+/**
+ * Immutable description of cell style
+ *
+ * <p> This is made by running {@link ExcelStyleConfig} against a configurer that records
+ * the configuration instead of changing {@link CellStyle}, so it doesn't depend on any workbook.
+ * The descriptions with the same configuration are equal, which lets them be compared
+ * and cached before they are materialized in a workbook. A property that isn't configured
+ * is null and isn't applied to cell style.
+ *
+ * <pre>{@code
+ *     StyleSpec spec = StyleSpec.of(DefaultHeaderStyleConfig.class);
+ *     CellStyle cellStyle = spec.toCellStyle(workbook);
+ * }</pre>
+ *
+ * @since 0.10.0
+ */
+@ToString
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public final class StyleSpec {
+
+    /**
+     * Description that has no configuration, such as {@link NoStyleConfig}.
+     */
+    public static final StyleSpec EMPTY = new Builder().build();
+
+    private static final Map<Class<? extends ExcelStyleConfig>, StyleSpec> CACHE = new ConcurrentHashMap<>();
+
+    @Nullable
+    private final HorizontalAlignment horizontalAlignment;
+
+    @Nullable
+    private final VerticalAlignment verticalAlignment;
+
+    @Nullable
+    private final FillPatternType fillPattern;
+
+    @Nullable
+    private final IndexedColors fillColor;
+
+    @Nullable
+    private final BorderStyle topBorder;
+
+    @Nullable
+    private final BorderStyle rightBorder;
+
+    @Nullable
+    private final BorderStyle bottomBorder;
+
+    @Nullable
+    private final BorderStyle leftBorder;
+
+    @Nullable
+    private final IndexedColors topBorderColor;
+
+    @Nullable
+    private final IndexedColors rightBorderColor;
+
+    @Nullable
+    private final IndexedColors bottomBorderColor;
+
+    @Nullable
+    private final IndexedColors leftBorderColor;
+
+    @Nullable
+    private final FontSpec font;
+
+    private StyleSpec(Builder builder) {
+        this.horizontalAlignment = builder.horizontalAlignment;
+        this.verticalAlignment = builder.verticalAlignment;
+        this.fillPattern = builder.fillPattern;
+        this.fillColor = builder.fillColor;
+        this.topBorder = builder.topBorder;
+        this.rightBorder = builder.rightBorder;
+        this.bottomBorder = builder.bottomBorder;
+        this.leftBorder = builder.leftBorder;
+        this.topBorderColor = builder.topBorderColor;
+        this.rightBorderColor = builder.rightBorderColor;
+        this.bottomBorderColor = builder.bottomBorderColor;
+        this.leftBorderColor = builder.leftBorderColor;
+        this.font = builder.fontConfigured ? new FontSpec(builder) : null;
+    }
+
+    /**
+     * Returns a description of the configuration.
+     *
+     * @param config configuration of cell style
+     * @return description of cell style
+     */
+    public static StyleSpec of(ExcelStyleConfig config) {
+        Asserts.that(config)
+                .describedAs("StyleSpec.config is not allowed to be null")
+                .isNotNull();
+
+        if (config.getClass() == NoStyleConfig.class) {
+            return EMPTY;
+        }
+
+        Builder builder = new Builder();
+        config.configure(new Configurer(builder));
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a description of the type of configuration.
+     *
+     * <p> The configuration is instantiated and run only once for each type,
+     * so the type must not have any state.
+     *
+     * @param configType type of configuration of cell style
+     * @return description of cell style
+     */
+    public static StyleSpec of(Class<? extends ExcelStyleConfig> configType) {
+        Asserts.that(configType)
+                .describedAs("StyleSpec.configType is not allowed to be null")
+                .isNotNull();
+
+        return CACHE.computeIfAbsent(configType, type -> of(ReflectionUtils.instantiate(type)));
+    }
+
+    /**
+     * Returns whether this has no configuration.
+     *
+     * @return whether this has no configuration
+     */
+    public boolean isEmpty() {
+        return equals(EMPTY);
+    }
+
+    /**
+     * Returns the description of font.
+     *
+     * @return description of font, or null if font isn't configured
+     */
+    @Nullable
+    public FontSpec getFont() {
+        return this.font;
+    }
+
+    /**
+     * Applies the configured properties except for font to the cell style.
+     *
+     * @param cellStyle cell style
+     */
+    public void applyTo(CellStyle cellStyle) {
+        if (this.horizontalAlignment != null) {
+            Alignments.setHorizontal(cellStyle, this.horizontalAlignment);
+        }
+        if (this.verticalAlignment != null) {
+            Alignments.setVertical(cellStyle, this.verticalAlignment);
+        }
+        if (this.fillPattern != null) {
+            Backgrounds.setPattern(cellStyle, this.fillPattern);
+        }
+        if (this.fillColor != null) {
+            Backgrounds.setColor(cellStyle, this.fillColor);
+        }
+
+        if (this.topBorder != null) {
+            Borders.setTopStyle(cellStyle, this.topBorder);
+        }
+        if (this.rightBorder != null) {
+            Borders.setRightStyle(cellStyle, this.rightBorder);
+        }
+        if (this.bottomBorder != null) {
+            Borders.setBottomStyle(cellStyle, this.bottomBorder);
+        }
+        if (this.leftBorder != null) {
+            Borders.setLeftStyle(cellStyle, this.leftBorder);
+        }
+
+        if (this.topBorderColor != null) {
+            Borders.setTopColor(cellStyle, this.topBorderColor);
+        }
+        if (this.rightBorderColor != null) {
+            Borders.setRightColor(cellStyle, this.rightBorderColor);
+        }
+        if (this.bottomBorderColor != null) {
+            Borders.setBottomColor(cellStyle, this.bottomBorderColor);
+        }
+        if (this.leftBorderColor != null) {
+            Borders.setLeftColor(cellStyle, this.leftBorderColor);
+        }
+    }
+
+    /**
+     * Creates a cell style in the workbook. The font is created only if it is configured.
+     *
+     * @param workbook Excel workbook
+     * @return cell style
+     */
+    public CellStyle toCellStyle(Workbook workbook) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        applyTo(cellStyle);
+
+        if (this.font != null) {
+            cellStyle.setFont(this.font.toFont(workbook));
+        }
+
+        return cellStyle;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * Immutable description of font
+     *
+     * @since 0.10.0
+     */
+    @ToString
+    @EqualsAndHashCode
+    public static final class FontSpec {
+        @Nullable
+        private final String name;
+
+        @Nullable
+        private final Integer size;
+
+        @Nullable
+        private final IndexedColors color;
+
+        private final boolean bold;
+
+        private final boolean italic;
+
+        private final boolean strikeout;
+
+        @Nullable
+        private final Underline underline;
+
+        @Nullable
+        private final Offset offset;
+
+        private FontSpec(Builder builder) {
+            this.name = builder.fontName;
+            this.size = builder.fontSize;
+            this.color = builder.fontColor;
+            this.bold = builder.bold;
+            this.italic = builder.italic;
+            this.strikeout = builder.strikeout;
+            this.underline = builder.underline;
+            this.offset = builder.offset;
+        }
+
+        /**
+         * Applies the configured properties to the font.
+         *
+         * @param font font
+         */
+        public void applyTo(Font font) {
+            if (this.name != null) {
+                font.setFontName(this.name);
+            }
+            if (this.size != null) {
+                font.setFontHeightInPoints(this.size.shortValue());
+            }
+            if (this.color != null) {
+                font.setColor(this.color.getIndex());
+            }
+            if (this.bold) {
+                font.setBold(true);
+            }
+            if (this.italic) {
+                font.setItalic(true);
+            }
+            if (this.strikeout) {
+                font.setStrikeout(true);
+            }
+            if (this.underline != null) {
+                font.setUnderline(this.underline.getValue());
+            }
+            if (this.offset != null) {
+                font.setTypeOffset(this.offset.getValue());
+            }
+        }
+
+        /**
+         * Creates a font in the workbook.
+         *
+         * @param workbook Excel workbook
+         * @return font
+         */
+        public Font toFont(Workbook workbook) {
+            Font font = workbook.createFont();
+            applyTo(font);
+
+            return font;
+        }
+    }
+
+    /**
+     * Builder that records the configuration of cell style
+     *
+     * <p> {@link Configurer} created with this records the configuration into it
+     * instead of changing cell style. The later configuration of a property overrides the former.
+     *
+     * @since 0.10.0
+     */
+    public static final class Builder {
+        private HorizontalAlignment horizontalAlignment;
+        private VerticalAlignment verticalAlignment;
+        private FillPatternType fillPattern;
+        private IndexedColors fillColor;
+        private BorderStyle topBorder;
+        private BorderStyle rightBorder;
+        private BorderStyle bottomBorder;
+        private BorderStyle leftBorder;
+        private IndexedColors topBorderColor;
+        private IndexedColors rightBorderColor;
+        private IndexedColors bottomBorderColor;
+        private IndexedColors leftBorderColor;
+
+        private boolean fontConfigured;
+        private String fontName;
+        private Integer fontSize;
+        private IndexedColors fontColor;
+        private boolean bold;
+        private boolean italic;
+        private boolean strikeout;
+        private Underline underline;
+        private Offset offset;
+
+        public Builder horizontalAlignment(HorizontalAlignment alignment) {
+            this.horizontalAlignment = alignment;
+            return this;
+        }
+
+        public Builder verticalAlignment(VerticalAlignment alignment) {
+            this.verticalAlignment = alignment;
+            return this;
+        }
+
+        public Builder background(FillPatternType pattern, IndexedColors color) {
+            this.fillPattern = pattern;
+            this.fillColor = color;
+            return this;
+        }
+
+        public Builder topBorder(BorderStyle border, IndexedColors color) {
+            this.topBorder = border;
+            this.topBorderColor = color;
+            return this;
+        }
+
+        public Builder rightBorder(BorderStyle border, IndexedColors color) {
+            this.rightBorder = border;
+            this.rightBorderColor = color;
+            return this;
+        }
+
+        public Builder bottomBorder(BorderStyle border, IndexedColors color) {
+            this.bottomBorder = border;
+            this.bottomBorderColor = color;
+            return this;
+        }
+
+        public Builder leftBorder(BorderStyle border, IndexedColors color) {
+            this.leftBorder = border;
+            this.leftBorderColor = color;
+            return this;
+        }
+
+        public Builder fontName(String name) {
+            this.fontConfigured = true;
+            this.fontName = name;
+            return this;
+        }
+
+        public Builder fontSize(int size) {
+            this.fontConfigured = true;
+            this.fontSize = size;
+            return this;
+        }
+
+        public Builder fontColor(IndexedColors color) {
+            this.fontConfigured = true;
+            this.fontColor = color;
+            return this;
+        }
+
+        public Builder bold() {
+            this.fontConfigured = true;
+            this.bold = true;
+            return this;
+        }
+
+        public Builder italic() {
+            this.fontConfigured = true;
+            this.italic = true;
+            return this;
+        }
+
+        public Builder strikeout() {
+            this.fontConfigured = true;
+            this.strikeout = true;
+            return this;
+        }
+
+        public Builder underline(Underline underline) {
+            this.fontConfigured = true;
+            this.underline = underline;
+            return this;
+        }
+
+        public Builder offset(Offset offset) {
+            this.fontConfigured = true;
+            this.offset = offset;
+            return this;
+        }
+
+        public StyleSpec build() {
+            return new StyleSpec(this);
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 
+import com.github.javaxcel.styler.StyleSpec;
 import com.github.javaxcel.styler.role.Alignments;
 
 public final class AlignmentConfigurer {
@@ -28,18 +29,31 @@ public final class AlignmentConfigurer {
 
     private final CellStyle cellStyle;
 
+    private final StyleSpec.Builder builder;
+
     AlignmentConfigurer(Configurer configurer) {
         this.configurer = configurer;
         this.cellStyle = configurer.cellStyle;
+        this.builder = configurer.builder;
     }
 
     public AlignmentConfigurer horizontal(HorizontalAlignment horizontal) {
-        Alignments.setHorizontal(this.cellStyle, horizontal);
+        if (this.builder != null) {
+            this.builder.horizontalAlignment(horizontal);
+        } else {
+            Alignments.setHorizontal(this.cellStyle, horizontal);
+        }
+
         return this;
     }
 
     public AlignmentConfigurer vertical(VerticalAlignment vertical) {
-        Alignments.setVertical(this.cellStyle, vertical);
+        if (this.builder != null) {
+            this.builder.verticalAlignment(vertical);
+        } else {
+            Alignments.setVertical(this.cellStyle, vertical);
+        }
+
         return this;
     }
 
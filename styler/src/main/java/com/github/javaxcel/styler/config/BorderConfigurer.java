@@ -20,6 +20,8 @@ import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.IndexedColors;
 
+import com.github.javaxcel.styler.StyleSpec;
+
 import static com.github.javaxcel.styler.role.Borders.*;
 
 public final class BorderConfigurer {
@@ -28,12 +30,20 @@ public final class BorderConfigurer {
 
     private final CellStyle cellStyle;
 
+    private final StyleSpec.Builder builder;
+
     BorderConfigurer(Configurer configurer) {
         this.configurer = configurer;
         this.cellStyle = configurer.cellStyle;
+        this.builder = configurer.builder;
     }
 
     public BorderConfigurer top(BorderStyle border, IndexedColors color) {
+        if (this.builder != null) {
+            this.builder.topBorder(border, color);
+            return this;
+        }
+
         setTopStyle(this.cellStyle, border);
         setTopColor(this.cellStyle, color);
 
@@ -41,6 +51,11 @@ public final class BorderConfigurer {
     }
 
     public BorderConfigurer right(BorderStyle border, IndexedColors color) {
+        if (this.builder != null) {
+            this.builder.rightBorder(border, color);
+            return this;
+        }
+
         setRightStyle(this.cellStyle, border);
         setRightColor(this.cellStyle, color);
 
@@ -48,6 +63,11 @@ public final class BorderConfigurer {
     }
 
     public BorderConfigurer bottom(BorderStyle border, IndexedColors color) {
+        if (this.builder != null) {
+            this.builder.bottomBorder(border, color);
+            return this;
+        }
+
         setBottomStyle(this.cellStyle, border);
         setBottomColor(this.cellStyle, color);
 
@@ -55,6 +75,11 @@ public final class BorderConfigurer {
     }
 
     public BorderConfigurer left(BorderStyle border, IndexedColors color) {
+        if (this.builder != null) {
+            this.builder.leftBorder(border, color);
+            return this;
+        }
+
         setLeftStyle(this.cellStyle, border);
         setLeftColor(this.cellStyle, color);
 
@@ -21,18 +21,30 @@ import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.IndexedColors;
 
+import org.jetbrains.annotations.Nullable;
+
 import io.github.imsejin.common.assertion.Asserts;
 
+import com.github.javaxcel.styler.StyleSpec;
+
 import static com.github.javaxcel.styler.role.Backgrounds.*;
 
 public class Configurer {
 
     // Allows detail configurers to access it.
+    @Nullable
     final CellStyle cellStyle;
 
     // Allows detail configurers to access it.
+    @Nullable
     final Font font;
 
+    /**
+     * Builder that records the configuration instead of cell style and font.
+     */
+    @Nullable
+    final StyleSpec.Builder builder;
+
     public Configurer(CellStyle cellStyle, Font font) {
         Asserts.that(cellStyle)
                 .describedAs("Configurer.cellStyle is not allowed to be null")
@@ -43,6 +55,24 @@ public class Configurer {
 
         this.cellStyle = cellStyle;
         this.font = font;
+        this.builder = null;
+    }
+
+    /**
+     * Configurer that records the configuration into the builder.
+     *
+     * @param builder builder of style description
+     * @see StyleSpec#of(com.github.javaxcel.styler.ExcelStyleConfig)
+     * @since 0.10.0
+     */
+    public Configurer(StyleSpec.Builder builder) {
+        Asserts.that(builder)
+                .describedAs("Configurer.builder is not allowed to be null")
+                .isNotNull();
+
+        this.cellStyle = null;
+        this.font = null;
+        this.builder = builder;
     }
 
     /**
@@ -62,8 +92,13 @@ public class Configurer {
      * @return configurer
      */
     public Configurer background(FillPatternType pattern, IndexedColors color) {
-        setPattern(cellStyle, pattern);
-        setColor(cellStyle, color);
+        if (this.builder != null) {
+            this.builder.background(pattern, color);
+            return this;
+        }
+
+        setPattern(this.cellStyle, pattern);
+        setColor(this.cellStyle, color);
         return this;
     }
 
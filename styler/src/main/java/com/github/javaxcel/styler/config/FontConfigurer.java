@@ -20,6 +20,7 @@ import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.IndexedColors;
 
+import com.github.javaxcel.styler.StyleSpec;
 import com.github.javaxcel.styler.role.Fonts;
 
 public final class FontConfigurer {
@@ -30,49 +31,92 @@ public final class FontConfigurer {
 
     private final Font font;
 
+    private final StyleSpec.Builder builder;
+
     FontConfigurer(Configurer configurer) {
         this.configurer = configurer;
         this.cellStyle = configurer.cellStyle;
         this.font = configurer.font;
+        this.builder = configurer.builder;
     }
 
     public FontConfigurer name(String name) {
-        Fonts.setName(cellStyle, font, name);
+        if (this.builder != null) {
+            this.builder.fontName(name);
+        } else {
+            Fonts.setName(cellStyle, font, name);
+        }
+
         return this;
     }
 
     public FontConfigurer size(int size) {
-        Fonts.setSize(cellStyle, font, size);
+        if (this.builder != null) {
+            this.builder.fontSize(size);
+        } else {
+            Fonts.setSize(cellStyle, font, size);
+        }
+
         return this;
     }
 
     public FontConfigurer color(IndexedColors color) {
-        Fonts.setColor(cellStyle, font, color);
+        if (this.builder != null) {
+            this.builder.fontColor(color);
+        } else {
+            Fonts.setColor(cellStyle, font, color);
+        }
+
         return this;
     }
 
     public FontConfigurer bold() {
-        Fonts.bold(cellStyle, font);
+        if (this.builder != null) {
+            this.builder.bold();
+        } else {
+            Fonts.bold(cellStyle, font);
+        }
+
         return this;
     }
 
     public FontConfigurer italic() {
-        Fonts.italic(cellStyle, font);
+        if (this.builder != null) {
+            this.builder.italic();
+        } else {
+            Fonts.italic(cellStyle, font);
+        }
+
         return this;
     }
 
     public FontConfigurer strikeout() {
-        Fonts.strikeout(cellStyle, font);
+        if (this.builder != null) {
+            this.builder.strikeout();
+        } else {
+            Fonts.strikeout(cellStyle, font);
+        }
+
         return this;
     }
 
     public FontConfigurer underline(Fonts.Underline underline) {
-        Fonts.setUnderline(cellStyle, font, underline);
+        if (this.builder != null) {
+            this.builder.underline(underline);
+        } else {
+            Fonts.setUnderline(cellStyle, font, underline);
+        }
+
         return this;
     }
 
     public FontConfigurer offset(Fonts.Offset offset) {
-        Fonts.setOffset(cellStyle, font, offset);
+        if (this.builder != null) {
+            this.builder.offset(offset);
+        } else {
+            Fonts.setOffset(cellStyle, font, offset);
+        }
+
         return this;
     }
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Javaxcel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.javaxcel.styler
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook
+import org.apache.poi.ss.usermodel.BorderStyle
+import org.apache.poi.ss.usermodel.FillPatternType
+import org.apache.poi.ss.usermodel.HorizontalAlignment
+import org.apache.poi.ss.usermodel.IndexedColors
+import org.apache.poi.ss.usermodel.VerticalAlignment
+import org.apache.poi.xssf.usermodel.XSSFWorkbook
+
+import com.github.javaxcel.styler.config.Configurer
+import com.github.javaxcel.styler.role.Fonts
+
+@Subject(StyleSpec)
+class StyleSpecSpec extends Specification {
+
+    def "Records the configuration"() {
+        given:
+        ExcelStyleConfig config = {
+            it.alignment().horizontal(HorizontalAlignment.CENTER).vertical(VerticalAlignment.CENTER)
+                    .and().background(FillPatternType.SOLID_FOREGROUND, IndexedColors.GREY_25_PERCENT)
+                    .border().all(BorderStyle.THIN, IndexedColors.BLACK)
+                    .and().font().name("Arial").size(12).bold().underline(Fonts.Underline.SINGLE)
+        }
+        ExcelStyleConfig sameConfig = {
+            it.font().name("Arial").size(12).bold().underline(Fonts.Underline.SINGLE)
+                    .and().border().all(BorderStyle.THIN, IndexedColors.BLACK)
+                    .and().background(FillPatternType.SOLID_FOREGROUND, IndexedColors.GREY_25_PERCENT)
+                    .alignment().horizontal(HorizontalAlignment.CENTER).vertical(VerticalAlignment.CENTER)
+        }
+        ExcelStyleConfig otherConfig = {
+            it.alignment().horizontal(HorizontalAlignment.CENTER).vertical(VerticalAlignment.CENTER)
+        }
+
+        when:
+        def spec = StyleSpec.of(config)
+        def sameSpec = StyleSpec.of(sameConfig)
+        def otherSpec = StyleSpec.of(otherConfig)
+
+        then:
+        spec == sameSpec
+        spec.hashCode() == sameSpec.hashCode()
+        spec != otherSpec
+        !spec.empty
+        spec.font != null
+        otherSpec.font == null
+    }
+
+    def "Returns the empty description for NoStyleConfig"() {
+        expect:
+        StyleSpec.of(new NoStyleConfig()).is(StyleSpec.EMPTY)
+        StyleSpec.of(NoStyleConfig).is(StyleSpec.EMPTY)
+        StyleSpec.EMPTY.empty
+        StyleSpec.of({} as ExcelStyleConfig).empty
+    }
+
+    def "Caches the description by type of config"() {
+        expect:
+        StyleSpec.of(TestConfig).is(StyleSpec.of(TestConfig))
+        StyleSpec.of(TestConfig) == StyleSpec.of(new TestConfig())
+    }
+
+    def "Creates a cell style in the workbook"() {
+        given:
+        ExcelStyleConfig config = {
+            it.alignment().horizontal(HorizontalAlignment.RIGHT)
+                    .and().border().top(BorderStyle.DOUBLE, IndexedColors.RED)
+                    .and().font().color(IndexedColors.BLUE).italic()
+        }
+        def numOfFonts = workbook.numberOfFonts
+
+        when:
+        def cellStyle = StyleSpec.of(config).toCellStyle(workbook)
+
+        then:
+        cellStyle.alignment == HorizontalAlignment.RIGHT
+        cellStyle.verticalAlignment == VerticalAlignment.BOTTOM
+        cellStyle.borderTop == BorderStyle.DOUBLE
+        cellStyle.topBorderColor == IndexedColors.RED.index
+        cellStyle.borderBottom == BorderStyle.NONE
+        workbook.numberOfFonts == numOfFonts + 1
+        with(workbook.getFontAt(cellStyle.fontIndex)) {
+            color == IndexedColors.BLUE.index
+            italic
+            !bold
+        }
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook()]
+    }
+
+    def "Doesn't create a font if the config doesn't change font"() {
+        given:
+        ExcelStyleConfig config = { it.background(FillPatternType.SOLID_FOREGROUND, IndexedColors.YELLOW) }
+        def numOfFonts = workbook.numberOfFonts
+
+        when:
+        def cellStyle = StyleSpec.of(config).toCellStyle(workbook)
+
+        then:
+        cellStyle.fillPattern == FillPatternType.SOLID_FOREGROUND
+        cellStyle.fillForegroundColor == IndexedColors.YELLOW.index
+        cellStyle.fontIndex == 0
+        workbook.numberOfFonts == numOfFonts
+
+        where:
+        workbook << [new HSSFWorkbook(), new XSSFWorkbook()]
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    static class TestConfig implements ExcelStyleConfig {
+        @Override
+        void configure(Configurer configurer) {
+            configurer.font().bold()
+        }
+    }
+
+}